@@ -11,6 +11,8 @@
 
 package org.kitodo.api.command;
 
+import java.time.Duration;
+
 public interface CommandInterface {
 
     /**
@@ -21,4 +23,17 @@ public interface CommandInterface {
      * @return A commandResult, which contains id and result messages.
      */
     CommandResult runCommand(String command);
+
+    /**
+     * Runs a given command. If the command takes longer than the given time,
+     * it is killed and its result is unsuccessful.
+     *
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            The time after which the command is killed, or null if the
+     *            command is not limited in time.
+     * @return A commandResult, which contains id and result messages.
+     */
+    CommandResult runCommand(String command, Duration timeout);
 }
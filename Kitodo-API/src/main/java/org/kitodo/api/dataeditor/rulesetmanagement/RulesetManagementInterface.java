@@ -136,6 +136,16 @@ public interface RulesetManagementInterface {
      */
     void load(File rulesetFile) throws IOException;
 
+    /**
+     * Returns the files the ruleset was assembled from when it was loaded.
+     * These are the ruleset file itself, the files it includes and the files
+     * that were looked up for namespaces, whether they exist or not. A loaded
+     * ruleset is outdated if any of these files has changed since.
+     *
+     * @return the files the loaded ruleset depends on
+     */
+    Collection<File> getSourceFiles();
+
     /**
      * Returns the “always showing” value or otherwise the default value if the
      * attribute is not set.
@@ -18,6 +18,7 @@ import org.kitodo.api.schemaconverter.MetadataFormat;
 
 public class DataImport {
 
+    private Integer id;
     private String title;
     private SearchInterfaceType searchInterfaceType;
     private FileFormat returnFormat;
@@ -36,6 +37,24 @@ public class DataImport {
     private String recordIdXPath;
     private String recordTitleXPath;
 
+    /**
+     * Get id.
+     *
+     * @return value of id
+     */
+    public Integer getId() {
+        return id;
+    }
+
+    /**
+     * Set id.
+     *
+     * @param id as java.lang.Integer
+     */
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
     /**
      * Get title.
      *
@@ -13,6 +13,7 @@ package org.kitodo.api.externaldatamanagement;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.event.EventListenerList;
 
@@ -37,6 +38,19 @@ public interface ExternalDataImportInterface {
      */
     DataRecord getFullRecordById(DataImport dataImport, String identifier) throws NoRecordFoundException;
 
+    /**
+     * Get the full records with the given IDs from the catalog. The records may
+     * be requested concurrently. Records that cannot be retrieved are missing
+     * from the result.
+     *
+     * @param dataImport
+     *            DataImport object encapsulating all information required to perform the import
+     * @param identifiers
+     *            The IDs of the records that will be imported.
+     * @return map of the retrieved records by their IDs
+     */
+    Map<String, DataRecord> getFullRecordsById(DataImport dataImport, Collection<String> identifiers);
+
     /**
      * Get a list of full records from the query constructed by the given search parameters.
      *
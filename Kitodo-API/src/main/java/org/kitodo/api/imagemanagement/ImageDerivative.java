@@ -0,0 +1,136 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.imagemanagement;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * Description of one image file to be derived from a source image. Exactly one
+ * of scaling factor, resolution or width determines how the image is derived.
+ */
+public class ImageDerivative {
+
+    private final URI resultFileUri;
+    private final ImageFileFormat resultFileFormat;
+    private Double percent;
+    private Integer dpi;
+    private Integer pixelWidth;
+
+    private ImageDerivative(URI resultFileUri, ImageFileFormat resultFileFormat) {
+        this.resultFileUri = Objects.requireNonNull(resultFileUri, "resultFileUri must not be null");
+        this.resultFileFormat = Objects.requireNonNull(resultFileFormat, "resultFileFormat must not be null");
+    }
+
+    /**
+     * Creates a description of a derivative scaled by a factor.
+     *
+     * @param percent
+     *            the percentage of scaling for the derivative
+     * @param resultFileUri
+     *            the URI to save the derivative to
+     * @param resultFileFormat
+     *            the format for the derivative
+     * @return the derivative description
+     */
+    public static ImageDerivative scaled(double percent, URI resultFileUri, ImageFileFormat resultFileFormat) {
+        ImageDerivative imageDerivative = new ImageDerivative(resultFileUri, resultFileFormat);
+        imageDerivative.percent = percent;
+        return imageDerivative;
+    }
+
+    /**
+     * Creates a description of a derivative with a changed resolution.
+     *
+     * @param dpi
+     *            the new DPI
+     * @param resultFileUri
+     *            the URI to save the derivative to
+     * @param resultFileFormat
+     *            the format for the derivative
+     * @return the derivative description
+     */
+    public static ImageDerivative withDpi(int dpi, URI resultFileUri, ImageFileFormat resultFileFormat) {
+        ImageDerivative imageDerivative = new ImageDerivative(resultFileUri, resultFileFormat);
+        imageDerivative.dpi = dpi;
+        return imageDerivative;
+    }
+
+    /**
+     * Creates a description of a derivative with a given width.
+     *
+     * @param pixelWidth
+     *            the new width in pixels
+     * @param resultFileUri
+     *            the URI to save the derivative to
+     * @param resultFileFormat
+     *            the format for the derivative
+     * @return the derivative description
+     */
+    public static ImageDerivative sized(int pixelWidth, URI resultFileUri, ImageFileFormat resultFileFormat) {
+        ImageDerivative imageDerivative = new ImageDerivative(resultFileUri, resultFileFormat);
+        imageDerivative.pixelWidth = pixelWidth;
+        return imageDerivative;
+    }
+
+    /**
+     * Returns the URI to save the derivative to.
+     *
+     * @return the result file URI
+     */
+    public URI getResultFileUri() {
+        return resultFileUri;
+    }
+
+    /**
+     * Returns the format for the derivative.
+     *
+     * @return the result file format
+     */
+    public ImageFileFormat getResultFileFormat() {
+        return resultFileFormat;
+    }
+
+    /**
+     * Returns the percentage of scaling, if the derivative is scaled by a
+     * factor.
+     *
+     * @return the percentage of scaling, or {@code null}
+     */
+    public Double getPercent() {
+        return percent;
+    }
+
+    /**
+     * Returns the new resolution, if the derivative has a changed resolution.
+     *
+     * @return the new DPI, or {@code null}
+     */
+    public Integer getDpi() {
+        return dpi;
+    }
+
+    /**
+     * Returns the new width, if the derivative is sized to a width.
+     *
+     * @return the new width in pixels, or {@code null}
+     */
+    public Integer getPixelWidth() {
+        return pixelWidth;
+    }
+
+    @Override
+    public String toString() {
+        return resultFileUri + " (" + resultFileFormat + (Objects.nonNull(percent) ? ", factor " + percent
+                : Objects.nonNull(dpi) ? ", " + dpi + " DPI" : ", width " + pixelWidth + " px") + ")";
+    }
+}
@@ -14,6 +14,7 @@ package org.kitodo.api.imagemanagement;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collection;
 
 public interface ImageManagementInterface {
 
@@ -50,6 +51,22 @@ public interface ImageManagementInterface {
     boolean createDerivative(URI imageFileUri, double percent, URI resultFileUri, ImageFileFormat resultFileFormat)
             throws IOException;
 
+    /**
+     * Creates several derivatives for an image at a given path. The image is
+     * read only once, and all derivatives are written directly to their result
+     * files.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create
+     * @return true, if all derivatives were created, false otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    boolean createDerivatives(URI imageFileUri, Collection<ImageDerivative> derivatives) throws IOException;
+
     /**
      * Changes the size (in pixel) of the image.
      *
@@ -63,4 +80,13 @@ public interface ImageManagementInterface {
      *             missing or corrupted, etc.
      */
     Image getSizedWebImage(URI imageFileUri, int pixelWidth) throws IOException;
+
+    /**
+     * Returns how many images the plug-in can process at the same time
+     * efficiently, for example depending on the number of processors or of
+     * hosts the processing is distributed to.
+     *
+     * @return the recommended number of threads
+     */
+    int getRecommendedNumberOfThreads();
 }
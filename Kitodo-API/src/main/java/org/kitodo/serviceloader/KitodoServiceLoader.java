@@ -24,18 +24,27 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 import javax.faces.context.FacesContext;
 import javax.servlet.http.HttpSession;
@@ -71,6 +80,38 @@ public class KitodoServiceLoader<T> {
      */
     private static final Set<String> loadedJars = new HashSet<>();
 
+    /**
+     * The state of the modules folder when it was last scanned, and when the
+     * frontend files were last loaded successfully. See
+     * {@link #getFolderState()}.
+     */
+    private static volatile String scannedFolderState;
+    private static volatile String frontendFolderState;
+
+    /**
+     * The state of the modules folder for which loading the frontend files
+     * failed, and the time from which on it may be tried again.
+     */
+    private static volatile String frontendFailedState;
+    private static volatile long frontendRetryTime;
+
+    /**
+     * The most recently determined state of each modules folder. The folder
+     * is only listed again when the check is older than
+     * {@link #FOLDER_CHECK_INTERVAL}.
+     */
+    private static final Map<String, FolderCheck> folderChecks = new ConcurrentHashMap<>();
+
+    /**
+     * The implementing classes found for each interface since the last scan.
+     */
+    private static final Map<Class<?>, List<Class<?>>> providerTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Durations of the most recent module loading steps in milliseconds.
+     */
+    private static final Map<String, Long> loadTimes = new ConcurrentHashMap<>();
+
     private static final String POM_PROPERTIES_FILE = "pom.properties";
     private static final String ARTIFACT_ID_PROPERTY = "artifactId";
     private static final String TEMP_DIR_PREFIX = "kitodo_";
@@ -79,12 +120,26 @@ public class KitodoServiceLoader<T> {
     private static final String PAGES_FOLDER = "pages";
     private static final String JAR = "*.jar";
     private static final String ERROR = "Classpath could not be accessed";
+    private static final String MODULES_FOLDER_SCAN = "Scanning modules folder";
+    private static final String FRONTEND_FILES_LOADING = "Loading frontend files";
+    private static final long FOLDER_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final long FRONTEND_RETRY_INTERVAL = TimeUnit.MINUTES.toNanos(1);
 
     private static final Path SYSTEM_TEMP_FOLDER = FileSystems.getDefault()
             .getPath(System.getProperty("java.io.tmpdir"));
 
     private static final Logger logger = LogManager.getLogger(KitodoServiceLoader.class);
 
+    private static final class FolderCheck {
+        private final String state;
+        private final long time;
+
+        private FolderCheck(String state, long time) {
+            this.state = state;
+            this.time = time;
+        }
+    }
+
     /**
      * Constructor for KitodoServiceLoader.
      *
@@ -102,13 +157,133 @@ public class KitodoServiceLoader<T> {
         }
     }
 
-    private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
-        // services and their classes need to be loaded from the class loader
-        // chain instead of the default class loader
-        return ServiceLoader.load(clazz, KitodoServiceLoader.classLoaderChain);
+    /**
+     * Returns the implementations of the constructed clazz found in the
+     * modules. The modules folder is only scanned again if its content has
+     * changed since the last scan, and the implementations are resolved only
+     * once per interface and scan.
+     *
+     * @return the classes implementing the constructed clazz
+     */
+    @SuppressWarnings("unchecked")
+    private List<Class<? extends T>> getProviderTypes() {
+        String folderState = getFolderState();
+        List<Class<?>> types = providerTypes.get(clazz);
+        if (Objects.nonNull(types) && folderState.equals(scannedFolderState)
+                && !isFrontendLoadingDue(folderState)) {
+            return (List<Class<? extends T>>) (List<?>) types;
+        }
+        synchronized (KitodoServiceLoader.class) {
+            if (!folderState.equals(scannedFolderState)) {
+                long begin = System.nanoTime();
+                loadModulesIntoClasspath();
+                providerTypes.clear();
+                scannedFolderState = folderState;
+                recordLoadTime(MODULES_FOLDER_SCAN, begin);
+            }
+            if (isFrontendLoadingDue(folderState)) {
+                long begin = System.nanoTime();
+                boolean beansLoaded = loadBeans();
+                if (loadFrontendFilesIntoCore() && beansLoaded) {
+                    frontendFolderState = folderState;
+                } else {
+                    frontendFailedState = folderState;
+                    frontendRetryTime = System.nanoTime() + FRONTEND_RETRY_INTERVAL;
+                    logger.warn("Frontend files of modules could not be loaded, retrying in {} seconds",
+                        TimeUnit.NANOSECONDS.toSeconds(FRONTEND_RETRY_INTERVAL));
+                }
+                recordLoadTime(FRONTEND_FILES_LOADING, begin);
+            }
+            types = providerTypes.get(clazz);
+            if (Objects.isNull(types)) {
+                long begin = System.nanoTime();
+                // services and their classes need to be loaded from the class
+                // loader chain instead of the default class loader
+                types = ServiceLoader.load(clazz, KitodoServiceLoader.classLoaderChain).stream()
+                        .map(ServiceLoader.Provider::type).collect(Collectors.toUnmodifiableList());
+                providerTypes.put(clazz, types);
+                recordLoadTime(clazz.getName(), begin);
+            }
+        }
+        return (List<Class<? extends T>>) (List<?>) types;
+    }
+
+    /**
+     * Returns whether the frontend files must be loaded for the given state
+     * of the modules folder. After a failure, loading is not tried again for
+     * the same state before {@link #FRONTEND_RETRY_INTERVAL} has passed.
+     *
+     * @param folderState
+     *            current state of the modules folder
+     * @return whether the frontend files must be loaded
+     */
+    private static boolean isFrontendLoadingDue(String folderState) {
+        if (folderState.equals(frontendFolderState)) {
+            return false;
+        }
+        return !folderState.equals(frontendFailedState) || System.nanoTime() - frontendRetryTime >= 0;
+    }
+
+    /**
+     * Returns a fingerprint of the jar files in the modules folder, made up
+     * of their names, sizes and modification times. It changes whenever a jar
+     * file is added, removed or replaced. The folder is listed at most once
+     * per {@link #FOLDER_CHECK_INTERVAL}; in between, the state of the last
+     * check is returned.
+     *
+     * @return the state of the modules folder
+     */
+    private String getFolderState() {
+        long now = System.nanoTime();
+        FolderCheck folderCheck = folderChecks.get(modulePath);
+        if (Objects.nonNull(folderCheck) && now - folderCheck.time < FOLDER_CHECK_INTERVAL) {
+            return folderCheck.state;
+        }
+        String folderState = readFolderState();
+        folderChecks.put(modulePath, new FolderCheck(folderState, now));
+        return folderState;
+    }
+
+    private String readFolderState() {
+        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
+        List<String> jars = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
+            for (Path jar : stream) {
+                File file = jar.toFile();
+                jars.add(file.getName() + ':' + file.length() + ':' + file.lastModified());
+            }
+        } catch (IOException e) {
+            logger.error(ERROR, e.getMessage());
+        }
+        Collections.sort(jars);
+        return moduleFolder.toAbsolutePath() + "|" + String.join("|", jars);
+    }
+
+    private static void recordLoadTime(String step, long begin) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        loadTimes.put(step, millis);
+        logger.debug("{} took {} ms", step, millis);
+    }
+
+    /**
+     * Returns the duration of the most recent module loading steps in
+     * milliseconds: scanning the modules folder, loading the frontend files
+     * and resolving the implementations of each interface, which is listed by
+     * its class name.
+     *
+     * @return the load times by step
+     */
+    public static Map<String, Long> getLoadTimes() {
+        return Collections.unmodifiableMap(new TreeMap<>(loadTimes));
+    }
+
+    private T instantiate(Class<? extends T> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new ServiceConfigurationError(clazz.getName() + ": Provider " + type.getName()
+                    + " could not be instantiated", e);
+        }
     }
 
     /**
@@ -118,12 +293,12 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        Iterator<T> loaderIterator = loader.iterator();
-        if (!loaderIterator.hasNext()) {
+        List<Class<? extends T>> types = getProviderTypes();
+        if (types.isEmpty()) {
             logger.error("Couldn't find a module for {}!", clazz);
+            throw new NoSuchElementException();
         }
-        return loaderIterator.next();
+        return instantiate(types.get(0));
     }
 
     /**
@@ -131,17 +306,20 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
         LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
+        for (Class<? extends T> type : getProviderTypes()) {
+            modules.add(instantiate(type));
+        }
         return modules;
     }
 
     /**
      * Loads bean classes and registers them to the FacesContext. Afterwards
      * they can be used in all frontend files
+     *
+     * @return whether the beans could be loaded
      */
-    private void loadBeans() {
+    private boolean loadBeans() {
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
             for (Path f : stream) {
@@ -186,7 +364,9 @@ public class KitodoServiceLoader<T> {
             }
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
+        return true;
     }
 
     /**
@@ -194,8 +374,10 @@ public class KitodoServiceLoader<T> {
      * copied into the frontend folder of the core module. Before copying,
      * existing frontend files of the same module will be deleted from the core
      * module. Afterwards the created temporary folder will be deleted as well.
+     *
+     * @return whether the frontend files could be loaded
      */
-    private void loadFrontendFilesIntoCore() {
+    private boolean loadFrontendFilesIntoCore() {
 
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
 
@@ -235,7 +417,9 @@ public class KitodoServiceLoader<T> {
             }
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
+        return true;
     }
 
     /**
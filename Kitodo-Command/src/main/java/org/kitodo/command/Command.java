@@ -12,24 +12,62 @@
 package org.kitodo.command;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterCommand;
 
+/**
+ * Runs external commands. The standard output and the error output of a
+ * command are read at the same time, so that a command writing a lot to one
+ * of them cannot block, and only their last lines are kept. A command can be
+ * limited in time, and the number of commands running at the same time can be
+ * limited. The durations and exit codes are recorded for each script.
+ */
 public class Command implements CommandInterface {
 
     private static final Logger logger = LogManager.getLogger(Command.class);
-    private static final String CHARSET = "UTF-8";
+
+    private static final int DEFAULT_OUTPUT_MAX_LINES = 1000;
+
+    /**
+     * Time to wait for the output of a command after it has ended. If the
+     * command has started processes in the background which keep the output
+     * open, it is not waited for longer.
+     */
+    private static final long OUTPUT_WAIT_SECONDS = 10;
+
+    private static final ExecutorService outputReaders = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName("Command output reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Semaphore permits = createPermits();
+
+    private static final Map<String, CommandStatistics> statistics = new ConcurrentHashMap<>();
 
     /**
-     * Method executes a script.
+     * Method executes a script. The time limit is taken from the
+     * configuration.
      *
      * @param command
      *            The command as a String.
@@ -37,29 +75,44 @@ public class Command implements CommandInterface {
      */
     @Override
     public CommandResult runCommand(String command) {
+        int timeoutSeconds = KitodoConfig.getIntParameter(ParameterCommand.COMMAND_TIMEOUT_SECONDS, 0);
+        return runCommand(command, timeoutSeconds > 0 ? Duration.ofSeconds(timeoutSeconds) : null);
+    }
+
+    /**
+     * Method executes a script. If the script takes longer than the given
+     * time, it is killed.
+     *
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            The time after which the script is killed, or null if the
+     *            script is not limited in time.
+     * @return The command result.
+     */
+    @Override
+    public CommandResult runCommand(String command, Duration timeout) {
         CommandResult commandResult;
-        Process process;
         String[] callSequence = command.split("[\\r\\n\\s]+");
 
         try {
-            process = new ProcessBuilder(callSequence).start();
-            try (InputStream inputStream = process.getInputStream();
-                    InputStream errorInputStream = process.getErrorStream()) {
-                List<String> outputMessage = inputStreamArrayToList(inputStream);
-                List<String> errorMessage = inputStreamArrayToList(errorInputStream);
-                int errCode = process.waitFor();
-
-                outputMessage.addAll(errorMessage);
-
-                commandResult = new CommandResult(command, errCode == 0, outputMessage);
-                if (commandResult.isSuccessful()) {
-                    logger.info("Execution of Command {} was successful!: {}",
-                        commandResult.getCommand(), commandResult.getMessages());
-                } else {
-                    logger.error("Execution of Command {} failed!: {}",
-                        commandResult.getCommand(), commandResult.getMessages());
+            if (Objects.nonNull(permits)) {
+                permits.acquire();
+            }
+            try {
+                commandResult = execute(command, callSequence, timeout);
+            } finally {
+                if (Objects.nonNull(permits)) {
+                    permits.release();
                 }
             }
+            if (commandResult.isSuccessful()) {
+                logger.info("Execution of Command {} was successful!: {}",
+                    commandResult.getCommand(), commandResult.getMessages());
+            } else {
+                logger.error("Execution of Command {} failed!: {}",
+                    commandResult.getCommand(), commandResult.getMessages());
+            }
         } catch (InterruptedException e) {
             commandResult = new CommandResult(command, false, Collections.singletonList(e.getMessage()));
             logger.error("Execution of Command Thread was interrupted!");
@@ -67,7 +120,7 @@ public class Command implements CommandInterface {
             return commandResult;
         } catch (IOException e) {
             List<String> errorMessages = new ArrayList<>();
-            errorMessages.add(e.getCause().toString());
+            errorMessages.add(Objects.toString(e.getCause(), e.toString()));
             errorMessages.add(e.getMessage());
             commandResult = new CommandResult(command, false, errorMessages);
             logger.error("Execution of Command {} failed!: {}", commandResult.getCommand(),
@@ -77,22 +130,82 @@ public class Command implements CommandInterface {
         return commandResult;
     }
 
+    private static CommandResult execute(String command, String[] callSequence, Duration timeout)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(callSequence).start();
+        try {
+            process.getOutputStream().close();
+            int maxLines = KitodoConfig.getIntParameter(ParameterCommand.COMMAND_OUTPUT_MAX_LINES,
+                DEFAULT_OUTPUT_MAX_LINES);
+            OutputReader outputReader = new OutputReader(process.getInputStream(), maxLines);
+            OutputReader errorReader = new OutputReader(process.getErrorStream(), maxLines);
+            Future<?> output = outputReaders.submit(outputReader);
+            Future<?> errorOutput = outputReaders.submit(errorReader);
+
+            boolean finished;
+            if (Objects.isNull(timeout)) {
+                process.waitFor();
+                finished = true;
+            } else {
+                finished = process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (!finished) {
+                    kill(process);
+                }
+            }
+            awaitOutput(output);
+            awaitOutput(errorOutput);
+            int exitCode = finished ? process.exitValue() : -1;
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            statistics.computeIfAbsent(callSequence[0], script -> new CommandStatistics()).record(exitCode,
+                !finished, duration);
+            logger.debug("Command {} ended with exit code {} after {} ms", command, exitCode, duration.toMillis());
+
+            List<String> outputMessage = outputReader.getLines();
+            outputMessage.addAll(errorReader.getLines());
+            if (!finished) {
+                outputMessage.add("Command was killed after " + timeout.getSeconds() + " seconds");
+            }
+            return new CommandResult(command, exitCode == 0, outputMessage);
+        } finally {
+            if (process.isAlive()) {
+                kill(process);
+            }
+        }
+    }
+
     /**
-     * The method reads an InputStream and returns it as a ArrayList.
-     *
-     * @param inputStream
-     *            The Stream to convert.
-     * @return A ArrayList holding the single lines.
+     * Kills a process together with the processes it has started, as these
+     * would otherwise keep the output open.
      */
-    private static ArrayList<String> inputStreamArrayToList(InputStream inputStream) {
-        ArrayList<String> list = new ArrayList<>();
+    private static void kill(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
 
-        try (Scanner inputLines = new Scanner(inputStream, CHARSET)) {
-            while (inputLines.hasNextLine()) {
-                String myLine = inputLines.nextLine();
-                list.add(myLine);
-            }
+    private static void awaitOutput(Future<?> output) throws InterruptedException {
+        try {
+            output.get(OUTPUT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            logger.warn("Cannot read output of command: {}", e.getMessage());
+        } catch (TimeoutException e) {
+            output.cancel(true);
         }
-        return list;
+    }
+
+    private static Semaphore createPermits() {
+        int concurrentMax = KitodoConfig.getIntParameter(ParameterCommand.COMMAND_CONCURRENT_MAX, 0);
+        return concurrentMax > 0 ? new Semaphore(concurrentMax, true) : null;
+    }
+
+    /**
+     * Returns the durations and exit codes of the runs of a script.
+     *
+     * @param script
+     *            path of the script, as given in the command
+     * @return the statistics of the script, or null if it has not been run
+     */
+    public static CommandStatistics getStatistics(String script) {
+        return statistics.get(script);
     }
 }
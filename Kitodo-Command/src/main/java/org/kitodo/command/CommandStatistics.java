@@ -0,0 +1,112 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.command;
+
+import java.time.Duration;
+
+/**
+ * Durations and exit codes of the runs of a script.
+ */
+public class CommandStatistics {
+
+    private long runs;
+    private long failures;
+    private long timeouts;
+    private long totalNanos;
+    private long maxNanos;
+    private int lastExitCode;
+
+    /**
+     * Records a run of the script.
+     *
+     * @param exitCode
+     *            exit code of the script, or -1 if it was killed
+     * @param timedOut
+     *            whether the script was killed because it took too long
+     * @param duration
+     *            how long the script ran
+     */
+    synchronized void record(int exitCode, boolean timedOut, Duration duration) {
+        runs++;
+        if (exitCode != 0) {
+            failures++;
+        }
+        if (timedOut) {
+            timeouts++;
+        }
+        totalNanos += duration.toNanos();
+        maxNanos = Math.max(maxNanos, duration.toNanos());
+        lastExitCode = exitCode;
+    }
+
+    /**
+     * Returns how often the script was run.
+     *
+     * @return the number of runs
+     */
+    public synchronized long getRuns() {
+        return runs;
+    }
+
+    /**
+     * Returns how often the script failed, including the runs which were
+     * killed.
+     *
+     * @return the number of failed runs
+     */
+    public synchronized long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns how often the script was killed because it took too long.
+     *
+     * @return the number of timed out runs
+     */
+    public synchronized long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Returns the average duration of the runs of the script.
+     *
+     * @return the average duration
+     */
+    public synchronized Duration getAverageDuration() {
+        return runs == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / runs);
+    }
+
+    /**
+     * Returns the duration of the longest run of the script.
+     *
+     * @return the longest duration
+     */
+    public synchronized Duration getMaxDuration() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * Returns the exit code of the last run of the script.
+     *
+     * @return the last exit code, or -1 if the script was killed
+     */
+    public synchronized int getLastExitCode() {
+        return lastExitCode;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "runs=" + runs + ", failures=" + failures + ", timeouts=" + timeouts + ", averageMillis="
+                + getAverageDuration().toMillis() + ", maxMillis=" + getMaxDuration().toMillis() + ", lastExitCode="
+                + lastExitCode;
+    }
+}
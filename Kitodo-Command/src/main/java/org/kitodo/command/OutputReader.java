@@ -0,0 +1,89 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads the lines of an output of a command until it ends. Only the last lines
+ * are kept, so that a command writing a lot of output does not use up the
+ * memory.
+ */
+class OutputReader implements Runnable {
+
+    private final InputStream inputStream;
+    private final int maxLines;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private long omitted;
+    private IOException exception;
+
+    /**
+     * Creates a reader for an output of a command.
+     *
+     * @param inputStream
+     *            output of the command
+     * @param maxLines
+     *            maximum number of lines to keep
+     */
+    OutputReader(InputStream inputStream, int maxLines) {
+        this.inputStream = inputStream;
+        this.maxLines = Math.max(maxLines, 1);
+    }
+
+    @Override
+    public void run() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                add(line);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                exception = e;
+            }
+        }
+    }
+
+    private synchronized void add(String line) {
+        if (lines.size() == maxLines) {
+            lines.removeFirst();
+            omitted++;
+        }
+        lines.addLast(line);
+    }
+
+    /**
+     * Returns the lines read so far. If lines had to be dropped, or reading
+     * failed, a note on this is added.
+     *
+     * @return the lines read
+     */
+    synchronized List<String> getLines() {
+        List<String> result = new ArrayList<>(lines.size() + 2);
+        if (omitted > 0) {
+            result.add("[" + omitted + " lines omitted]");
+        }
+        result.addAll(lines);
+        if (exception != null) {
+            result.add("[Reading output failed: " + exception.getMessage() + "]");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+package org.kitodo.config.enums;
+
+public enum ParameterCommand implements ParameterInterface {
+
+    /**
+     * Time in seconds after which a command is killed. Integer, defaults to 0,
+     * which means the commands are not limited in time.
+     */
+    COMMAND_TIMEOUT_SECONDS("command.timeout.seconds"),
+
+    /**
+     * Number of commands which may run at the same time. Integer, defaults to
+     * 0, which means there is no limit.
+     */
+    COMMAND_CONCURRENT_MAX("command.concurrent.max"),
+
+    /**
+     * Number of lines of each output of a command which are kept. Integer,
+     * defaults to 1000.
+     */
+    COMMAND_OUTPUT_MAX_LINES("command.output.maxLines");
+
+    private String name;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     *
+     * @param name
+     *            of parameter
+     */
+    ParameterCommand(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        return this.name;
+    }
+}
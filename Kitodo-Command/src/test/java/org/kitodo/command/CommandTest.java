@@ -12,12 +12,15 @@
 package org.kitodo.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -28,6 +31,8 @@ import org.kitodo.api.command.CommandResult;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 
 public class CommandTest {
     private static String scriptExtension;
@@ -38,6 +43,10 @@ public class CommandTest {
             System.getProperty("user.dir") + "/src/test/resources/working_script_with_parameters.sh");
     private static final File notWorkingScript = new File(
             System.getProperty("user.dir") + "/src/test/resources/not_working_script.sh");
+    private static final File chattyScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/chatty_script.sh");
+    private static final File sleepingScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/sleeping_script.sh");
 
     @BeforeAll
     public static void setUp() throws IOException {
@@ -51,6 +60,8 @@ public class CommandTest {
             setFileExecuteable(workingScript);
             setFileExecuteable(workingScriptWithParameters);
             setFileExecuteable(notWorkingScript);
+            setFileExecuteable(chattyScript);
+            setFileExecuteable(sleepingScript);
         }
 
     }
@@ -61,6 +72,8 @@ public class CommandTest {
             setFileNotExecuteable(workingScript);
             setFileNotExecuteable(workingScriptWithParameters);
             setFileNotExecuteable(notWorkingScript);
+            setFileNotExecuteable(chattyScript);
+            setFileNotExecuteable(sleepingScript);
         }
     }
 
@@ -149,6 +162,38 @@ public class CommandTest {
                 "Result messages of CommandResults are not identical");
     }
 
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void shouldRunCommandWithMuchErrorOutput() {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/chatty_script.sh";
+        CommandResult commandResult = command.runCommand(commandString);
+
+        assertTrue(commandResult.isSuccessful(), "Command writing much error output failed");
+        List<String> messages = commandResult.getMessages();
+        assertEquals("done", messages.get(0), "Standard output is missing");
+        assertEquals("[19000 lines omitted]", messages.get(1), "Error output was not limited");
+        assertEquals("error 20000", messages.get(messages.size() - 1), "Last line of error output is missing");
+        assertEquals(1002, messages.size(), "Wrong number of lines kept");
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void shouldKillCommandAfterTimeout() {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/sleeping_script.sh";
+        long start = System.nanoTime();
+        CommandResult commandResult = command.runCommand(commandString, Duration.ofSeconds(1));
+
+        assertFalse(commandResult.isSuccessful(), "Command which was killed was successful");
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).getSeconds() < 10, "Command was not killed");
+        CommandStatistics statistics = Command.getStatistics(commandString);
+        assertEquals(1, statistics.getTimeouts(), "Timeout was not recorded");
+        assertEquals(-1, statistics.getLastExitCode(), "Exit code was not recorded");
+    }
+
     private static void setFileExecuteable(File file) throws IOException {
         Set<PosixFilePermission> perms = new HashSet<>();
 
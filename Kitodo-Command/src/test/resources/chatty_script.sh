@@ -0,0 +1,16 @@
+#!/usr/bin/env bash
+#
+# (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+#
+# This file is part of the Kitodo project.
+#
+# It is licensed under GNU General Public License version 3 or later.
+#
+# For the full copyright and license information, please read the
+# GPL3-License.txt file that was distributed with this source code.
+#
+
+for i in $(seq 1 20000); do
+    echo "error $i" >&2
+done
+echo done
@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -65,6 +66,11 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     private Ruleset ruleset;
 
+    /**
+     * The files the ruleset was read from.
+     */
+    private Collection<File> sourceFiles = new ArrayList<>();
+
     /**
      * Returns the acquisition levels defined in this rule set. This function
      * was not parallelized to repeatedly serve JSF in the same order when the
@@ -230,8 +236,15 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     @Override
     public void load(File rulesetFile) throws IOException {
-        this.ruleset = read(rulesetFile);
-        initializeNamespaces(ruleset.getKeys(), rulesetFile.getParentFile());
+        Collection<File> files = new ArrayList<>();
+        this.ruleset = read(rulesetFile, files);
+        initializeNamespaces(ruleset.getKeys(), rulesetFile.getParentFile(), files);
+        this.sourceFiles = files;
+    }
+
+    @Override
+    public Collection<File> getSourceFiles() {
+        return Collections.unmodifiableCollection(sourceFiles);
     }
 
     /**
@@ -241,15 +254,18 @@ public class RulesetManagement implements RulesetManagementInterface {
      *            the keys of the rule set (are processed recursively)
      * @param home
      *            the ruleset directory
+     * @param files
+     *            collects the namespace files looked up
      * @throws IOException
      *             if I/O fails
      */
-    private void initializeNamespaces(List<Key> keys, File home) throws IOException {
+    private void initializeNamespaces(List<Key> keys, File home, Collection<File> files) throws IOException {
         for (Key key : keys) {
             Optional<String> optionalNamespace = key.getNamespace();
             if (optionalNamespace.isPresent()) {
                 String namespaceURI = optionalNamespace.get();
                 File file = new File(home, namespaceURI.replaceFirst("^.*?/([^/]*?)[#/]?$", "$1").concat(".xml"));
+                files.add(file);
                 if (file.isFile()) {
                     try {
                         Namespace namespace = read(Namespace.class, file);
@@ -270,15 +286,17 @@ public class RulesetManagement implements RulesetManagementInterface {
                 }
             }
             // is applied recursively to the sub-elements
-            initializeNamespaces(key.getKeys(), home);
+            initializeNamespaces(key.getKeys(), home, files);
         }
     }
 
-    private static Ruleset read(File rulesetFile) throws IOException {
+    private static Ruleset read(File rulesetFile, Collection<File> files) throws IOException {
         Ruleset result = new Ruleset();
+        files.add(rulesetFile);
         Ruleset base = read(Ruleset.class, rulesetFile);
         for (String include : base.getIncludes()) {
             File includedFile = new File(rulesetFile.getParentFile(), include);
+            files.add(includedFile);
             Ruleset included = read(Ruleset.class, includedFile);
             result.addAll(included);
         }
@@ -0,0 +1,269 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.beans;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.enums.BackgroundJobType;
+
+/**
+ * A job which is run in the background. Jobs are kept in the database, so
+ * that queued jobs are not lost when the application is restarted.
+ */
+@Entity(name = "BackgroundJob")
+@Table(name = "background_job")
+public class BackgroundJob extends BaseBean {
+
+    @Column(name = "type")
+    @Enumerated(EnumType.STRING)
+    private BackgroundJobType type;
+
+    @Column(name = "state")
+    @Enumerated(EnumType.STRING)
+    private BackgroundJobState state = BackgroundJobState.QUEUED;
+
+    @Column(name = "process_id")
+    private Integer processId;
+
+    @Column(name = "task_id", nullable = true)
+    private Integer taskId;
+
+    @Column(name = "export_images")
+    private boolean exportImages = true;
+
+    @Column(name = "script", columnDefinition = "longtext")
+    private String script;
+
+    @Column(name = "progress")
+    private int progress;
+
+    @Column(name = "checkpoint")
+    private int checkpoint;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "creation_date")
+    private Date creationDate;
+
+    @Column(name = "completion_date")
+    private Date completionDate;
+
+    /**
+     * Get type.
+     *
+     * @return value of type
+     */
+    public BackgroundJobType getType() {
+        return type;
+    }
+
+    /**
+     * Set type.
+     *
+     * @param type as BackgroundJobType
+     */
+    public void setType(BackgroundJobType type) {
+        this.type = type;
+    }
+
+    /**
+     * Get state.
+     *
+     * @return value of state
+     */
+    public BackgroundJobState getState() {
+        return state;
+    }
+
+    /**
+     * Set state.
+     *
+     * @param state as BackgroundJobState
+     */
+    public void setState(BackgroundJobState state) {
+        this.state = state;
+    }
+
+    /**
+     * Get processId.
+     *
+     * @return value of processId
+     */
+    public Integer getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Set processId.
+     *
+     * @param processId as Integer
+     */
+    public void setProcessId(Integer processId) {
+        this.processId = processId;
+    }
+
+    /**
+     * Get taskId. Either the id of the workflow task to close after the job
+     * has finished, or null.
+     *
+     * @return value of taskId
+     */
+    public Integer getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Set taskId. Either the id of the workflow task to close after the job
+     * has finished, or null.
+     *
+     * @param taskId as Integer
+     */
+    public void setTaskId(Integer taskId) {
+        this.taskId = taskId;
+    }
+
+    /**
+     * Get exportImages.
+     *
+     * @return value of exportImages
+     */
+    public boolean isExportImages() {
+        return exportImages;
+    }
+
+    /**
+     * Set exportImages.
+     *
+     * @param exportImages as boolean
+     */
+    public void setExportImages(boolean exportImages) {
+        this.exportImages = exportImages;
+    }
+
+    /**
+     * Get script. The Kitodo script to execute for the processes of the job.
+     *
+     * @return value of script
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * Set script. The Kitodo script to execute for the processes of the job.
+     *
+     * @param script as String
+     */
+    public void setScript(String script) {
+        this.script = script;
+    }
+
+    /**
+     * Get progress in percent.
+     *
+     * @return value of progress
+     */
+    public int getProgress() {
+        return progress;
+    }
+
+    /**
+     * Set progress in percent.
+     *
+     * @param progress as int
+     */
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Get checkpoint. The number of steps of the job which are done. A resumed
+     * job continues after them.
+     *
+     * @return value of checkpoint
+     */
+    public int getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Set checkpoint. The number of steps of the job which are done. A resumed
+     * job continues after them.
+     *
+     * @param checkpoint as int
+     */
+    public void setCheckpoint(int checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Get message. Describes why the job has failed.
+     *
+     * @return value of message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Set message. Describes why the job has failed.
+     *
+     * @param message as String
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Get creationDate.
+     *
+     * @return value of creationDate
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Set creationDate.
+     *
+     * @param creationDate as Date
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    /**
+     * Get completionDate.
+     *
+     * @return value of completionDate
+     */
+    public Date getCompletionDate() {
+        return completionDate;
+    }
+
+    /**
+     * Set completionDate.
+     *
+     * @param completionDate as Date
+     */
+    public void setCompletionDate(Date completionDate) {
+        this.completionDate = completionDate;
+    }
+}
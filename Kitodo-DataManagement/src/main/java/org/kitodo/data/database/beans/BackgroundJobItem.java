@@ -0,0 +1,115 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+package org.kitodo.data.database.beans;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+
+import org.kitodo.data.database.enums.BackgroundJobState;
+
+/**
+ * A process a background job works on, with the result for this process. The
+ * items are created as queued when the job is queued. As each item is marked
+ * as finished or failed when it is done, a job which is interrupted resumes
+ * with the items still queued.
+ */
+@Entity(name = "BackgroundJobItem")
+@Table(name = "background_job_item")
+public class BackgroundJobItem extends BaseBean {
+
+    @Column(name = "job_id")
+    private Integer jobId;
+
+    @Column(name = "process_id")
+    private Integer processId;
+
+    @Column(name = "state")
+    @Enumerated(EnumType.STRING)
+    private BackgroundJobState state = BackgroundJobState.QUEUED;
+
+    @Column(name = "message")
+    private String message;
+
+    /**
+     * Get jobId.
+     *
+     * @return value of jobId
+     */
+    public Integer getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Set jobId.
+     *
+     * @param jobId as Integer
+     */
+    public void setJobId(Integer jobId) {
+        this.jobId = jobId;
+    }
+
+    /**
+     * Get processId.
+     *
+     * @return value of processId
+     */
+    public Integer getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Set processId.
+     *
+     * @param processId as Integer
+     */
+    public void setProcessId(Integer processId) {
+        this.processId = processId;
+    }
+
+    /**
+     * Get state.
+     *
+     * @return value of state
+     */
+    public BackgroundJobState getState() {
+        return state;
+    }
+
+    /**
+     * Set state.
+     *
+     * @param state as BackgroundJobState
+     */
+    public void setState(BackgroundJobState state) {
+        this.state = state;
+    }
+
+    /**
+     * Get message. Describes why the job has failed for the process.
+     *
+     * @return value of message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Set message. Describes why the job has failed for the process.
+     *
+     * @param message as String
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
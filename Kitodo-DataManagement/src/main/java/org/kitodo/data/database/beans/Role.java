@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -25,10 +26,14 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.kitodo.data.database.persistence.RoleDAO;
 
 @Entity
 @Table(name = "role")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Role extends BaseBean implements Comparable<Role> {
 
     @Column(name = "title", nullable = false)
@@ -40,6 +45,7 @@ public class Role extends BaseBean implements Comparable<Role> {
     @ManyToMany(mappedBy = "roles", cascade = CascadeType.PERSIST)
     private List<Task> tasks;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(cascade = CascadeType.PERSIST)
     @JoinTable(name = "role_x_authority", joinColumns = {@JoinColumn(name = "role_id",
             foreignKey = @ForeignKey(name = "FK_role_x_authority_role_id")) },
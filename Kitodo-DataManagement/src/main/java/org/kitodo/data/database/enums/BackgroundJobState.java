@@ -0,0 +1,34 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.enums;
+
+/**
+ * Enum for the state of a background job. States:
+ *
+ * <dl>
+ * <dt>QUEUED</dt>
+ * <dd>the job waits to be started</dd>
+ * <dt>WORKING</dt>
+ * <dd>the job is running; if the application is restarted, it is queued
+ * again</dd>
+ * <dt>FINISHED</dt>
+ * <dd>the job has finished successfully</dd>
+ * <dt>FAILED</dt>
+ * <dd>the job has failed or was cancelled</dd>
+ * </dl>
+ */
+public enum BackgroundJobState {
+    QUEUED,
+    WORKING,
+    FINISHED,
+    FAILED
+}
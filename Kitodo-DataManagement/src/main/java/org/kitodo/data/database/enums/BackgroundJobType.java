@@ -0,0 +1,27 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.enums;
+
+/**
+ * Enum for the type of a background job. Types:
+ *
+ * <dl>
+ * <dt>EXPORT_DMS</dt>
+ * <dd>export of a process to the DMS</dd>
+ * <dt>KITODO_SCRIPT</dt>
+ * <dd>execution of a Kitodo script for several processes</dd>
+ * </dl>
+ */
+public enum BackgroundJobType {
+    EXPORT_DMS,
+    KITODO_SCRIPT
+}
@@ -0,0 +1,157 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BackgroundJobDAO extends BaseDAO<BackgroundJob> {
+
+    private static final List<BackgroundJobState> COMPLETED_STATES = Arrays.asList(BackgroundJobState.FINISHED,
+        BackgroundJobState.FAILED);
+
+    @Override
+    public BackgroundJob getById(Integer backgroundJobId) throws DAOException {
+        BackgroundJob backgroundJob = retrieveObject(BackgroundJob.class, backgroundJobId);
+        if (backgroundJob == null) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return backgroundJob;
+    }
+
+    @Override
+    public List<BackgroundJob> getAll() throws DAOException {
+        return retrieveAllObjects(BackgroundJob.class);
+    }
+
+    @Override
+    public List<BackgroundJob> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM BackgroundJob ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<BackgroundJob> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer backgroundJobId) throws DAOException {
+        removeObject(BackgroundJob.class, backgroundJobId);
+    }
+
+    /**
+     * Returns the queued jobs in the order they were queued.
+     *
+     * @param max
+     *            maximum number of jobs to return
+     * @return the queued jobs
+     */
+    public List<BackgroundJob> getQueued(int max) {
+        return getByQuery("FROM BackgroundJob WHERE state = :state ORDER BY id ASC",
+            Collections.singletonMap("state", BackgroundJobState.QUEUED), 0, max);
+    }
+
+    /**
+     * Returns the queued jobs of a type in the order they were queued.
+     *
+     * @param type
+     *            type of the jobs
+     * @param max
+     *            maximum number of jobs to return
+     * @return the queued jobs of the type
+     */
+    public List<BackgroundJob> getQueued(BackgroundJobType type, int max) {
+        return getByQuery("FROM BackgroundJob WHERE state = :state AND type = :type ORDER BY id ASC",
+            getParameters(BackgroundJobState.QUEUED, type), 0, max);
+    }
+
+    /**
+     * Counts the queued jobs.
+     *
+     * @return the number of queued jobs
+     * @throws DAOException
+     *             if the jobs cannot be counted
+     */
+    public long countQueued() throws DAOException {
+        return count("SELECT COUNT(*) FROM BackgroundJob WHERE state = :state",
+            Collections.singletonMap("state", BackgroundJobState.QUEUED));
+    }
+
+    /**
+     * Counts the queued jobs of a type.
+     *
+     * @param type
+     *            type of the jobs
+     * @return the number of queued jobs of the type
+     * @throws DAOException
+     *             if the jobs cannot be counted
+     */
+    public long countQueued(BackgroundJobType type) throws DAOException {
+        return count("SELECT COUNT(*) FROM BackgroundJob WHERE state = :state AND type = :type",
+            getParameters(BackgroundJobState.QUEUED, type));
+    }
+
+    /**
+     * Queues all working jobs again. This is done on start-up for the jobs
+     * which were interrupted by the shutdown of the application.
+     *
+     * @return the number of jobs queued again
+     * @throws DAOException
+     *             if the jobs cannot be updated
+     */
+    public int requeueWorking() throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("queued", BackgroundJobState.QUEUED);
+        parameters.put("working", BackgroundJobState.WORKING);
+        return executeUpdate("UPDATE BackgroundJob SET state = :queued WHERE state = :working", parameters);
+    }
+
+    /**
+     * Deletes the oldest finished and failed jobs, so that no more than the
+     * given number of them is kept. The items of the deleted jobs are deleted,
+     * too.
+     *
+     * @param keep
+     *            number of finished and failed jobs to keep
+     * @return the number of deleted jobs
+     * @throws DAOException
+     *             if the jobs cannot be deleted
+     */
+    public int removeCompletedExceeding(int keep) throws DAOException {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("states", COMPLETED_STATES);
+        List<BackgroundJob> firstToDelete = getByQuery(
+            "FROM BackgroundJob WHERE state IN (:states) ORDER BY id DESC", parameters, keep, 1);
+        if (firstToDelete.isEmpty()) {
+            return 0;
+        }
+        parameters.put("id", firstToDelete.get(0).getId());
+        executeUpdate("DELETE FROM BackgroundJobItem WHERE jobId IN (SELECT id FROM BackgroundJob"
+            + " WHERE state IN (:states) AND id <= :id)", parameters);
+        return executeUpdate("DELETE FROM BackgroundJob WHERE state IN (:states) AND id <= :id", parameters);
+    }
+
+    private static Map<String, Object> getParameters(BackgroundJobState state, BackgroundJobType type) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("type", type);
+        return parameters;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+package org.kitodo.data.database.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kitodo.data.database.beans.BackgroundJobItem;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BackgroundJobItemDAO extends BaseDAO<BackgroundJobItem> {
+
+    @Override
+    public BackgroundJobItem getById(Integer backgroundJobItemId) throws DAOException {
+        BackgroundJobItem backgroundJobItem = retrieveObject(BackgroundJobItem.class, backgroundJobItemId);
+        if (backgroundJobItem == null) {
+            throw new DAOException("Object cannot be found in database");
+        }
+        return backgroundJobItem;
+    }
+
+    @Override
+    public List<BackgroundJobItem> getAll() throws DAOException {
+        return retrieveAllObjects(BackgroundJobItem.class);
+    }
+
+    @Override
+    public List<BackgroundJobItem> getAll(int offset, int size) throws DAOException {
+        return retrieveObjects("FROM BackgroundJobItem ORDER BY id ASC", offset, size);
+    }
+
+    @Override
+    public List<BackgroundJobItem> getAllNotIndexed(int offset, int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(Integer backgroundJobItemId) throws DAOException {
+        removeObject(BackgroundJobItem.class, backgroundJobItemId);
+    }
+
+    /**
+     * Save list of background job items in one transaction.
+     *
+     * @param list
+     *            of background job items
+     * @throws DAOException
+     *             an exception that can be thrown from the underlying
+     *             storeList() procedure failure.
+     */
+    public void saveList(List<BackgroundJobItem> list) throws DAOException {
+        storeList(list);
+    }
+
+    /**
+     * Returns the items of a job in the given state, in the order they were
+     * created.
+     *
+     * @param jobId
+     *            ID of the job
+     * @param state
+     *            state of the items
+     * @return the items of the job in the state
+     */
+    public List<BackgroundJobItem> getByJobAndState(int jobId, BackgroundJobState state) {
+        return getByQuery("FROM BackgroundJobItem WHERE jobId = :jobId AND state = :state ORDER BY id ASC",
+            getParameters(jobId, state));
+    }
+
+    /**
+     * Counts the items of a job in the given state.
+     *
+     * @param jobId
+     *            ID of the job
+     * @param state
+     *            state of the items
+     * @return the number of items of the job in the state
+     * @throws DAOException
+     *             if the items cannot be counted
+     */
+    public long countByJobAndState(int jobId, BackgroundJobState state) throws DAOException {
+        return count("SELECT COUNT(*) FROM BackgroundJobItem WHERE jobId = :jobId AND state = :state",
+            getParameters(jobId, state));
+    }
+
+    private static Map<String, Object> getParameters(int jobId, BackgroundJobState state) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("jobId", jobId);
+        parameters.put("state", state);
+        return parameters;
+    }
+}
@@ -23,11 +23,17 @@ import java.util.stream.Collectors;
 
 import javax.persistence.PersistenceException;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
 import org.hibernate.exception.SQLGrammarException;
+import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
+import org.hibernate.stat.Statistics;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
@@ -39,6 +45,7 @@ import org.kitodo.data.database.exceptions.DAOException;
  */
 public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
+    private static final Logger logger = LogManager.getLogger(BaseDAO.class);
     private static final Object lockObject = new Object();
 
     /**
@@ -81,6 +88,58 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public abstract List<T> getAllNotIndexed(int offset, int size) throws DAOException;
 
+    /**
+     * Returns the HQL selection of the objects which are taken into account
+     * when indexing. The selection must start with "FROM" and contain a
+     * "WHERE" clause, so that further conditions can be appended to it.
+     * Objects which are not indexed throw an UnsupportedOperationException.
+     *
+     * @param notIndexedOnly
+     *            if true, only the objects with index action INDEX or NULL are
+     *            selected
+     * @return HQL selection of the objects to index
+     */
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves the ids of the objects that start a batch of the given size
+     * when indexing. Together, the returned ids split the id space into
+     * ranges which can be fetched using {@link #getAllInIdRange(Integer,
+     * Integer, boolean)}, so that batches are located via the primary key
+     * instead of having the database skip all preceding rows of an offset.
+     *
+     * @param batchSize
+     *            number of objects per batch
+     * @param notIndexedOnly
+     *            if true, only the objects with index action INDEX or NULL are
+     *            taken into account
+     * @return ascending list of the first id of every batch
+     */
+    public List<Integer> getIdsOfBatchStarts(int batchSize, boolean notIndexedOnly) throws DAOException {
+        return retrieveIdsOfBatchStarts("SELECT id " + getIndexingSelection(notIndexedOnly) + " ORDER BY id ASC",
+            batchSize);
+    }
+
+    /**
+     * Retrieves all BaseBean objects to index whose id lies within the given
+     * range.
+     *
+     * @param fromId
+     *            lowest id of the range, inclusive
+     * @param toId
+     *            upper bound of the range, exclusive; if null, the range is
+     *            open-ended
+     * @param notIndexedOnly
+     *            if true, only the objects with index action INDEX or NULL are
+     *            retrieved
+     * @return list of persisted beans in given id range
+     */
+    public List<T> getAllInIdRange(Integer fromId, Integer toId, boolean notIndexedOnly) throws DAOException {
+        return retrieveObjectsInIdRange(getIndexingSelection(notIndexedOnly), fromId, toId);
+    }
+
     /**
      * Saves a BaseBean object to the database.
      *
@@ -259,6 +318,95 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieves the IDs selected by the given query, without loading the
+     * objects.
+     *
+     * @param query
+     *            HQL query selecting IDs
+     * @param parameters
+     *            for query
+     * @return list of IDs
+     */
+    public List<Integer> getIdsByQuery(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            return retrieveIds(session, query, parameters);
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Executes an update or delete query.
+     *
+     * @param query
+     *            the update or delete query
+     * @param parameters
+     *            for query
+     * @return the number of updated or deleted rows
+     * @throws DAOException
+     *             if the current session can't be retrieved or the query
+     *             fails
+     */
+    protected int executeUpdate(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            synchronized (lockObject) {
+                Query<?> q = session.createQuery(query);
+                addParameters(q, parameters);
+                int updated = q.executeUpdate();
+                transaction.commit();
+                return updated;
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Executes a native SQL update or delete statement in the transaction of
+     * the given session. This is meant for set-based bulk removals: unlike
+     * the removal of single objects, no lock is held besides the row locks
+     * of the database, so bulk removals do not wait for each other or for
+     * other DAOs. The table is registered as query space of the statement,
+     * so that only the second-level cache regions of this table are evicted,
+     * instead of all of them.
+     *
+     * @param session
+     *            session with an active transaction
+     * @param table
+     *            the table changed by the statement
+     * @param statement
+     *            the native update or delete statement
+     * @param parameters
+     *            for statement
+     * @return the number of updated or deleted rows
+     */
+    int executeNativeUpdate(Session session, String table, String statement, Map<String, Object> parameters) {
+        NativeQuery<?> query = session.createNativeQuery(statement);
+        query.addSynchronizedQuerySpace(table);
+        addParameters(query, parameters);
+        return query.executeUpdate();
+    }
+
+    /**
+     * Retrieves the IDs selected by the given query in the given session.
+     *
+     * @param session
+     *            session to use
+     * @param query
+     *            HQL query selecting IDs
+     * @param parameters
+     *            for query
+     * @return list of IDs
+     */
+    @SuppressWarnings("unchecked")
+    List<Integer> retrieveIds(Session session, String query, Map<String, Object> parameters) {
+        Query<Integer> q = session.createQuery(query);
+        addParameters(q, parameters);
+        return q.list();
+    }
+
     /**
      * Removes the object from the database with with specified class type and
      * {@code id}.
@@ -340,6 +488,158 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects of the given selection whose id lies within the given
+     * range. The given collections of all retrieved objects are loaded in the
+     * same session with one additional query per collection, instead of one
+     * query per object and collection when they are accessed later.
+     *
+     * @param selection
+     *            HQL selection containing a WHERE clause
+     * @param fromId
+     *            lowest id, inclusive
+     * @param toId
+     *            upper id bound, exclusive; may be null for an open-ended range
+     * @param collections
+     *            names of the collection properties to load
+     * @return list of results ordered by id
+     */
+    @SuppressWarnings("unchecked")
+    List<T> retrieveObjectsInIdRange(String selection, Integer fromId, Integer toId, String... collections)
+            throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Statistics statistics = session.getSessionFactory().getStatistics();
+            long statementsBefore = statistics.getPrepareStatementCount();
+            Query<T> sessionQuery = session.createQuery(selection + getIdRangeFilter(toId) + " ORDER BY id ASC");
+            setIdRangeParameters(sessionQuery, fromId, toId);
+            List<T> objects = sessionQuery.list();
+            if (!objects.isEmpty()) {
+                loadCollections(session, Hibernate.getClass(objects.get(0)).getSimpleName(), objects, collections);
+            }
+            logLoadedObjects(statistics, statementsBefore, objects.size(), fromId,
+                objects.isEmpty() ? 1 : 1 + collections.length);
+            return objects;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    /**
+     * Retrieve objects of the given selection whose id lies within the given
+     * range, together with the objects they reference. The ids are selected
+     * first. Then the objects are loaded with their references joined, so
+     * that the references are not loaded with one query each. References of
+     * a referenced object are given as path, such as "project.client", after
+     * the reference itself. Finally, the given collections are loaded with
+     * one additional query per collection.
+     *
+     * @param cls
+     *            class of objects to retrieve
+     * @param selection
+     *            HQL selection containing a WHERE clause
+     * @param fromId
+     *            lowest id, inclusive
+     * @param toId
+     *            upper id bound, exclusive; may be null for an open-ended range
+     * @param references
+     *            paths of the single-valued properties to load
+     * @param collections
+     *            names of the collection properties to load
+     * @return list of results ordered by id
+     */
+    List<T> retrieveObjectsInIdRange(Class<T> cls, String selection, Integer fromId, Integer toId,
+            List<String> references, String... collections) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Statistics statistics = session.getSessionFactory().getStatistics();
+            long statementsBefore = statistics.getPrepareStatementCount();
+            Query<Integer> idQuery = session.createQuery("SELECT id " + selection + getIdRangeFilter(toId)
+                    + " ORDER BY id ASC", Integer.class);
+            setIdRangeParameters(idQuery, fromId, toId);
+            List<Integer> ids = idQuery.list();
+            if (ids.isEmpty()) {
+                logLoadedObjects(statistics, statementsBefore, 0, fromId, 1);
+                return new ArrayList<>();
+            }
+            StringBuilder query = new StringBuilder("SELECT o FROM ").append(cls.getSimpleName()).append(" o");
+            for (String reference : references) {
+                int lastDot = reference.lastIndexOf('.');
+                String owner = lastDot < 0 ? "o" : "o_" + reference.substring(0, lastDot).replace('.', '_');
+                query.append(" LEFT JOIN FETCH ").append(owner).append('.').append(reference.substring(lastDot + 1))
+                        .append(" o_").append(reference.replace('.', '_'));
+            }
+            query.append(" WHERE o.id IN (:ids) ORDER BY o.id ASC");
+            List<T> objects = session.createQuery(query.toString(), cls).setParameterList("ids", ids).list();
+            loadCollections(session, cls.getSimpleName(), objects, collections);
+            logLoadedObjects(statistics, statementsBefore, objects.size(), fromId, 2 + collections.length);
+            return objects;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
+    private static String getIdRangeFilter(Integer toId) {
+        return " AND id >= :fromId" + (Objects.nonNull(toId) ? " AND id < :toId" : "");
+    }
+
+    private static void setIdRangeParameters(Query<?> query, Integer fromId, Integer toId) {
+        query.setParameter("fromId", fromId);
+        if (Objects.nonNull(toId)) {
+            query.setParameter("toId", toId);
+        }
+    }
+
+    private void loadCollections(Session session, String entityName, List<T> objects, String... collections) {
+        if (objects.isEmpty() || collections.length == 0) {
+            return;
+        }
+        List<Integer> ids = objects.stream().map(BaseBean::getId).collect(Collectors.toList());
+        for (String collection : collections) {
+            session.createQuery("SELECT DISTINCT o FROM " + entityName + " o LEFT JOIN FETCH o." + collection
+                    + " WHERE o.id IN (:ids)").setParameterList("ids", ids).list();
+        }
+    }
+
+    private static void logLoadedObjects(Statistics statistics, long statementsBefore, int count, Integer fromId,
+            int queries) {
+        if (statistics.isStatisticsEnabled()) {
+            logger.debug("Loaded {} objects with ids from {} in {} statements", count, fromId,
+                statistics.getPrepareStatementCount() - statementsBefore);
+        } else {
+            logger.debug("Loaded {} objects with ids from {} in {} queries", count, fromId, queries);
+        }
+    }
+
+    /**
+     * Scrolls once over the ids returned by the given query and collects every
+     * id that starts a new batch of the given size.
+     *
+     * @param idQuery
+     *            HQL query selecting ids in ascending order
+     * @param batchSize
+     *            number of ids per batch
+     * @return list of the first id of every batch
+     */
+    List<Integer> retrieveIdsOfBatchStarts(String idQuery, int batchSize) throws DAOException {
+        List<Integer> batchStartIds = new ArrayList<>();
+        try (Session session = HibernateUtil.getSession()) {
+            Query<?> query = session.createQuery(idQuery);
+            query.setReadOnly(true);
+            query.setFetchSize(batchSize);
+            try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                int position = 0;
+                while (results.next()) {
+                    if (position % batchSize == 0) {
+                        batchStartIds.add((Integer) results.get(0));
+                    }
+                    position++;
+                }
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+        return batchStartIds;
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -467,6 +767,18 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         return " 1=1 ";
     }
 
+    /**
+     * Query part of index action filter.
+     *
+     * @param notIndexedOnly
+     *            whether only objects with index action INDEX or NULL pass the
+     *            filter
+     * @return The query part to filter for objects not yet indexed.
+     */
+    static String getIndexActionFilter(boolean notIndexedOnly) {
+        return notIndexedOnly ? " (indexAction = 'INDEX' OR indexAction IS NULL) " : " 1=1 ";
+    }
+
     /*
      * Parameter "database.subset.dates" filters the database to a subset. Atm, only
      * the largest data tables of tasks by processingBegin and process by creation
@@ -49,6 +49,11 @@ public class BatchDAO extends BaseDAO<Batch> {
             size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Batch WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Batch.class, id);
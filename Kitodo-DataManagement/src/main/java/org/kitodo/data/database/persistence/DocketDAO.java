@@ -43,6 +43,11 @@ public class DocketDAO extends BaseDAO<Docket> {
                 size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Docket WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer docketId) throws DAOException {
         removeObject(Docket.class, docketId);
@@ -46,6 +46,11 @@ public class FilterDAO extends BaseDAO<Filter> {
                 size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Filter WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer filterId) throws DAOException {
         removeObject(Filter.class, filterId);
@@ -59,6 +59,19 @@ public class HibernateUtil {
         return session;
     }
 
+    /**
+     * Closes the session of the current thread, if there is one. Threads of a
+     * pool call this after each unit of work, so that their sessions do not
+     * keep the objects loaded for earlier units.
+     */
+    public static void closeSession() {
+        Session session = threadSession.get();
+        threadSession.remove();
+        if (Objects.nonNull(session) && session.isOpen()) {
+            session.close();
+        }
+    }
+
     /**
      * Retrieve current SessionFactory.
      *
@@ -11,8 +11,16 @@
 
 package org.kitodo.data.database.persistence;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 
@@ -45,6 +53,30 @@ public class ProcessDAO extends BaseDAO<Process> {
             offset, size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Process WHERE " + getDateFilter("creationDate") + " AND " + getIndexActionFilter(notIndexedOnly);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The project with its client, the ruleset, docket, template, parent and
+     * import configuration, and the tasks, comments, batches, children and
+     * the process, template and workpiece properties, which are needed to
+     * index a process, are loaded together with the processes. The references
+     * of the project and template are loaded once per session, as they are
+     * shared by many processes.
+     */
+    @Override
+    public List<Process> getAllInIdRange(Integer fromId, Integer toId, boolean notIndexedOnly) throws DAOException {
+        return retrieveObjectsInIdRange(Process.class, getIndexingSelection(notIndexedOnly), fromId, toId,
+            Arrays.asList("project", "project.client", "ruleset", "docket", "template", "parent",
+                "importConfiguration"),
+            "tasks", "comments", "batches", "children", "properties", "templates", "workpieces");
+    }
+
     /**
      * Save process with regard to its progress.
      *
@@ -78,4 +110,66 @@ public class ProcessDAO extends BaseDAO<Process> {
     public void remove(Integer id) throws DAOException {
         removeObject(Process.class, id);
     }
+
+    /**
+     * Removes the processes with the given IDs from the database, together
+     * with their tasks, comments and properties. All rows are deleted with a
+     * few set-based statements in one transaction, instead of loading,
+     * merging and deleting one object after the other. Links to the
+     * processes from batches, child processes and import configurations are
+     * removed. The number of IDs should be kept moderate, as they are passed
+     * to the database in the statements.
+     *
+     * @param ids
+     *            IDs of the processes to remove
+     * @return IDs of the removed tasks
+     * @throws DAOException
+     *             if the current session can't be retrieved or a statement
+     *             fails; in this case, nothing is removed
+     */
+    public List<Integer> removeAll(List<Integer> ids) throws DAOException {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, Object> processIds = Collections.singletonMap("ids", ids);
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            List<Integer> taskIds = retrieveIds(session, "SELECT id FROM Task WHERE process.id IN (:ids)", processIds);
+            List<Integer> propertyIds = new ArrayList<>();
+            for (String properties : Arrays.asList("properties", "templates", "workpieces")) {
+                propertyIds.addAll(retrieveIds(session, "SELECT property.id FROM Process AS process JOIN process."
+                        + properties + " AS property WHERE process.id IN (:ids)", processIds));
+            }
+
+            executeNativeUpdate(session, "comment", "DELETE FROM comment WHERE process_id IN (:ids)", processIds);
+            if (!taskIds.isEmpty()) {
+                Map<String, Object> taskParameters = Collections.singletonMap("taskIds", taskIds);
+                executeNativeUpdate(session, "dataeditor_setting",
+                    "DELETE FROM dataeditor_setting WHERE task_id IN (:taskIds)", taskParameters);
+                executeNativeUpdate(session, "task_x_role", "DELETE FROM task_x_role WHERE task_id IN (:taskIds)",
+                    taskParameters);
+            }
+            executeNativeUpdate(session, "task", "DELETE FROM task WHERE process_id IN (:ids)", processIds);
+            for (String joinTable : Arrays.asList("process_x_property", "template_x_property",
+                "workpiece_x_property")) {
+                executeNativeUpdate(session, joinTable, "DELETE FROM " + joinTable + " WHERE process_id IN (:ids)",
+                    processIds);
+            }
+            if (!propertyIds.isEmpty()) {
+                executeNativeUpdate(session, "property", "DELETE FROM property WHERE id IN (:propertyIds)",
+                    Collections.singletonMap("propertyIds", propertyIds));
+            }
+            executeNativeUpdate(session, "batch_x_process", "DELETE FROM batch_x_process WHERE process_id IN (:ids)",
+                processIds);
+            executeNativeUpdate(session, "process", "UPDATE process SET parent_id = NULL WHERE parent_id IN (:ids)",
+                processIds);
+            executeNativeUpdate(session, "importconfiguration", "UPDATE importconfiguration"
+                    + " SET default_templateprocess_id = NULL WHERE default_templateprocess_id IN (:ids)", processIds);
+            executeNativeUpdate(session, "process", "DELETE FROM process WHERE id IN (:ids)", processIds);
+            transaction.commit();
+            return taskIds;
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
 }
@@ -43,6 +43,11 @@ public class ProjectDAO extends BaseDAO<Project> {
             offset, size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Project WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Project.class, id);
@@ -43,6 +43,11 @@ public class RulesetDAO extends BaseDAO<Ruleset> {
             offset, size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Ruleset WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer rulesetId) throws DAOException {
         removeObject(Ruleset.class, rulesetId);
@@ -58,6 +58,23 @@ public class TaskDAO extends BaseDAO<Task> {
             size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Task WHERE " + getDateFilter("processingBegin") + " AND " + getIndexActionFilter(notIndexedOnly);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The roles, which are needed to index a task, are loaded together with
+     * the tasks.
+     */
+    @Override
+    public List<Task> getAllInIdRange(Integer fromId, Integer toId, boolean notIndexedOnly) throws DAOException {
+        return retrieveObjectsInIdRange(getIndexingSelection(notIndexedOnly), fromId, toId, "roles");
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Task.class, id);
@@ -45,6 +45,11 @@ public class TemplateDAO extends BaseDAO<Template> {
             offset, size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Template WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     /**
      * Save list of templates.
      *
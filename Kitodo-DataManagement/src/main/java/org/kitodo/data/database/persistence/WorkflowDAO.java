@@ -44,6 +44,11 @@ public class WorkflowDAO extends BaseDAO<Workflow> {
             offset, size);
     }
 
+    @Override
+    protected String getIndexingSelection(boolean notIndexedOnly) {
+        return "FROM Workflow WHERE " + getIndexActionFilter(notIndexedOnly);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Workflow.class, id);
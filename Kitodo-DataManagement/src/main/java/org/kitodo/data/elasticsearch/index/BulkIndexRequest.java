@@ -0,0 +1,108 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects documents of different types to be added to or deleted from the
+ * index, so that they can be sent in one request. If the same document is
+ * added or deleted several times, only the last operation is performed.
+ */
+public class BulkIndexRequest {
+
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+
+    /**
+     * Adds a document to be added to or updated in the index.
+     *
+     * @param type
+     *            type of the document
+     * @param id
+     *            of document - equal to the id from table in database
+     * @param document
+     *            json document to index
+     */
+    void addDocument(String type, Integer id, Map<String, Object> document) {
+        operations.put(type + '/' + id, new Operation(type, id, document));
+    }
+
+    /**
+     * Adds a document to be deleted from the index.
+     *
+     * @param type
+     *            type of the document
+     * @param id
+     *            of document - equal to the id from table in database
+     */
+    void deleteDocument(String type, Integer id) {
+        operations.put(type + '/' + id, new Operation(type, id, null));
+    }
+
+    /**
+     * Returns the collected operations.
+     *
+     * @return the operations
+     */
+    Collection<Operation> getOperations() {
+        return operations.values();
+    }
+
+    /**
+     * Returns whether no operations have been collected.
+     *
+     * @return whether the request is empty
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Returns the number of collected operations.
+     *
+     * @return the number of operations
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    static class Operation {
+        private final String type;
+        private final Integer id;
+        private final Map<String, Object> document;
+
+        private Operation(String type, Integer id, Map<String, Object> document) {
+            this.type = type;
+            this.id = id;
+            this.document = document;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        Integer getId() {
+            return id;
+        }
+
+        Map<String, Object> getDocument() {
+            return document;
+        }
+
+        boolean isDelete() {
+            return Objects.isNull(document);
+        }
+    }
+}
@@ -143,6 +143,41 @@ public class IndexRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Adds, updates and deletes the documents collected in the bulk index
+     * request, which may be of different types, in one request.
+     *
+     * @param bulkIndexRequest
+     *            documents to add or delete
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    void performBulkRequest(BulkIndexRequest bulkIndexRequest, boolean forceRefresh) throws CustomResponseException {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (BulkIndexRequest.Operation operation : bulkIndexRequest.getOperations()) {
+            String indexName = this.indexBase + "_" + operation.getType();
+            if (operation.isDelete()) {
+                bulkRequest.add(new DeleteRequest(indexName).id(String.valueOf(operation.getId())));
+            } else {
+                bulkRequest.add(new IndexRequest(indexName).id(String.valueOf(operation.getId()))
+                        .source(operation.getDocument()));
+            }
+        }
+        if (forceRefresh) {
+            bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        }
+
+        try {
+            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+            if (bulkResponse.hasFailures()) {
+                throw new CustomResponseException(bulkResponse.buildFailureMessage());
+            }
+        } catch (IOException e) {
+            throw new CustomResponseException(e);
+        }
+    }
+
     /**
      * Delete document from type specific index.
      *
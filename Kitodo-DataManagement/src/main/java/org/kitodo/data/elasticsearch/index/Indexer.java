@@ -121,6 +121,63 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
         }
     }
 
+    /**
+     * Adds the bean to the bulk index request, to be added to or deleted from
+     * the index depending on the HTTP method.
+     *
+     * @param bulkIndexRequest
+     *            request collecting the documents
+     * @param baseIndexedBean
+     *            bean object which will be added or deleted from index
+     * @param baseType
+     *            type on which will be called method createDocument()
+     */
+    @SuppressWarnings("unchecked")
+    public void addToBulkRequest(BulkIndexRequest bulkIndexRequest, T baseIndexedBean, S baseType)
+            throws CustomResponseException {
+        if (method.equals(HttpMethod.PUT)) {
+            bulkIndexRequest.addDocument(this.type, baseIndexedBean.getId(), baseType.createDocument(baseIndexedBean));
+        } else if (method.equals(HttpMethod.DELETE)) {
+            bulkIndexRequest.deleteDocument(this.type, baseIndexedBean.getId());
+        } else {
+            throw new CustomResponseException(INCORRECT_HTTP);
+        }
+    }
+
+    /**
+     * Adds the deletion of the bean with the given id to the bulk index
+     * request.
+     *
+     * @param bulkIndexRequest
+     *            request collecting the documents
+     * @param beanId
+     *            id of the bean to delete from index
+     */
+    public void addToBulkRequest(BulkIndexRequest bulkIndexRequest, Integer beanId) throws CustomResponseException {
+        if (method.equals(HttpMethod.DELETE)) {
+            bulkIndexRequest.deleteDocument(this.type, beanId);
+        } else {
+            throw new CustomResponseException(INCORRECT_HTTP);
+        }
+    }
+
+    /**
+     * Sends the documents collected in the bulk index request to the index in
+     * one request. The documents may be of any type.
+     *
+     * @param bulkIndexRequest
+     *            request collecting the documents
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    public void performBulkRequest(BulkIndexRequest bulkIndexRequest, boolean forceRefresh)
+            throws CustomResponseException {
+        if (!bulkIndexRequest.isEmpty()) {
+            initiateRestClient().performBulkRequest(bulkIndexRequest, forceRefresh);
+        }
+    }
+
     private IndexRestClient initiateRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndexBase(index);
@@ -13,8 +13,10 @@ package org.kitodo.data.elasticsearch.search;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -57,6 +59,13 @@ public class SearchRestClient extends KitodoRestClient {
      */
     private static volatile SearchRestClient instance = null;
 
+    /**
+     * Maximum number of documents which can be paged through with offset and
+     * size. This is the default of the index setting
+     * {@code index.max_result_window}.
+     */
+    static final int MAX_RESULT_WINDOW = 10000;
+
     private SearchRestClient() {
     }
 
@@ -137,9 +146,29 @@ public class SearchRestClient extends KitodoRestClient {
      * @return http entity as String
      */
     Map<String, Object> getDocument(String type, Integer id) throws CustomResponseException, DataException {
+        return getDocument(type, id, null);
+    }
+
+    /**
+     * Get document by id with only the fields selected by the source filter.
+     *
+     * @param type
+     *            for which request is performed
+     * @param id
+     *            of searched document
+     * @param sourceFilter
+     *            fields of the document to return, or {@code null} to return
+     *            the whole document
+     * @return http entity as String
+     */
+    Map<String, Object> getDocument(String type, Integer id, FetchSourceContext sourceFilter)
+            throws CustomResponseException, DataException {
         try {
             GetRequest getRequest = new GetRequest(this.indexBase + "_" + type);
             getRequest.id(String.valueOf(id));
+            if (Objects.nonNull(sourceFilter)) {
+                getRequest.fetchSourceContext(sourceFilter);
+            }
             GetResponse getResponse = highLevelClient.get(getRequest, RequestOptions.DEFAULT);
             if (getResponse.isExists()) {
                 Map<String, Object> response = getResponse.getSourceAsMap();
@@ -154,6 +183,51 @@ public class SearchRestClient extends KitodoRestClient {
         return Collections.emptyMap();
     }
 
+    /**
+     * Get several documents by id in one request, with only the fields
+     * selected by the source filter.
+     *
+     * @param type
+     *            for which request is performed
+     * @param ids
+     *            of searched documents
+     * @param sourceFilter
+     *            fields of the documents to return, or {@code null} to return
+     *            the whole documents
+     * @return the found documents by their id, in the order of the ids
+     */
+    Map<Integer, Map<String, Object>> getDocuments(String type, Collection<Integer> ids,
+            FetchSourceContext sourceFilter) throws CustomResponseException, DataException {
+        Map<Integer, Map<String, Object>> documents = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return documents;
+        }
+        try {
+            MultiGetRequest multiGetRequest = new MultiGetRequest();
+            for (Integer id : ids) {
+                MultiGetRequest.Item item = new MultiGetRequest.Item(this.indexBase + "_" + type, String.valueOf(id));
+                if (Objects.nonNull(sourceFilter)) {
+                    item.fetchSourceContext(sourceFilter);
+                }
+                multiGetRequest.add(item);
+            }
+            MultiGetResponse multiGetResponse = highLevelClient.mget(multiGetRequest, RequestOptions.DEFAULT);
+            for (MultiGetItemResponse itemResponse : multiGetResponse.getResponses()) {
+                if (!itemResponse.isFailed() && itemResponse.getResponse().isExists()) {
+                    GetResponse getResponse = itemResponse.getResponse();
+                    Map<String, Object> document = getResponse.getSourceAsMap();
+                    document.put("id", getResponse.getId());
+                    documents.put(Integer.valueOf(getResponse.getId()), document);
+                }
+            }
+        } catch (ResponseException e) {
+            handleResponseException(e);
+        } catch (IOException | NumberFormatException e) {
+            throw new DataException(e);
+        }
+        return documents;
+    }
+
     /**
      * Get document by query with possible sort of results.
      *
@@ -171,8 +245,35 @@ public class SearchRestClient extends KitodoRestClient {
      */
     SearchHits getDocument(String type, QueryBuilder query, SortBuilder sort, Integer offset, Integer size)
             throws CustomResponseException, DataException {
+        return getDocument(type, query, sort, offset, size, null);
+    }
+
+    /**
+     * Get document by query with possible sort of results, returning only the
+     * fields selected by the source filter.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find a document
+     * @param sort
+     *            as String with sort conditions
+     * @param offset
+     *            as Integer
+     * @param size
+     *            as Integer
+     * @param sourceFilter
+     *            fields of the documents to return, or {@code null} to return
+     *            the whole documents
+     * @return http entity as String
+     */
+    SearchHits getDocument(String type, QueryBuilder query, SortBuilder sort, Integer offset, Integer size,
+            FetchSourceContext sourceFilter) throws CustomResponseException, DataException {
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
         sourceBuilder.query(query);
+        if (Objects.nonNull(sourceFilter)) {
+            sourceBuilder.fetchSource(sourceFilter);
+        }
         if (Objects.nonNull(sort)) {
             sourceBuilder.sort(sort);
         }
@@ -182,9 +283,23 @@ public class SearchRestClient extends KitodoRestClient {
         if (Objects.nonNull(size)) {
             sourceBuilder.size(size);
         } else {
-            sourceBuilder.size(10000);
+            sourceBuilder.size(MAX_RESULT_WINDOW);
         }
+        return getDocuments(type, sourceBuilder);
+    }
 
+    /**
+     * Get documents by a search source, which may contain the query, sort,
+     * paging and source filter.
+     *
+     * @param type
+     *            for which request is performed
+     * @param sourceBuilder
+     *            the search source
+     * @return the search hits
+     */
+    SearchHits getDocuments(String type, SearchSourceBuilder sourceBuilder)
+            throws CustomResponseException, DataException {
         SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
         searchRequest.source(sourceBuilder);
 
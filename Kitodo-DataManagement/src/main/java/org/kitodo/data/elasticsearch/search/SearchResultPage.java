@@ -0,0 +1,88 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.search;
+
+import java.util.List;
+
+/**
+ * One page of search results together with the total number of hits of the
+ * query and the sort values of the last result, with which the following page
+ * can be requested without paging through the results before.
+ *
+ * @param <T>
+ *            type of the results
+ */
+public class SearchResultPage<T> {
+
+    private final List<T> results;
+    private final long totalHits;
+    private final Object[] searchAfter;
+
+    /**
+     * Creates a page of search results.
+     *
+     * @param results
+     *            results on the page
+     * @param totalHits
+     *            total number of hits of the query
+     * @param searchAfter
+     *            sort values of the last result, or {@code null} if the page
+     *            is empty
+     */
+    public SearchResultPage(List<T> results, long totalHits, Object[] searchAfter) {
+        this.results = results;
+        this.totalHits = totalHits;
+        this.searchAfter = searchAfter;
+    }
+
+    /**
+     * Returns a page with the same total number of hits and sort values, but
+     * with other results, for example the results converted to other objects.
+     *
+     * @param otherResults
+     *            results of the new page
+     * @param <R>
+     *            type of the new results
+     * @return the new page
+     */
+    public <R> SearchResultPage<R> withResults(List<R> otherResults) {
+        return new SearchResultPage<>(otherResults, totalHits, searchAfter);
+    }
+
+    /**
+     * Returns the results on the page.
+     *
+     * @return the results
+     */
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the total number of hits of the query.
+     *
+     * @return the total number of hits
+     */
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Returns the sort values of the last result on the page. Passed with the
+     * next request, the page following this page is returned.
+     *
+     * @return the sort values, or {@code null} if the page is empty
+     */
+    public Object[] getSearchAfter() {
+        return searchAfter;
+    }
+}
@@ -13,6 +13,7 @@ package org.kitodo.data.elasticsearch.search;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,11 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 
 /**
  * Implementation of ElasticSearch Searcher for Kitodo - Data Management
@@ -39,6 +44,13 @@ import org.opensearch.search.sort.SortBuilder;
  */
 public class Searcher extends Index {
 
+    /**
+     * Field to sort by last, so that the order is stable. The ID is mapped as
+     * numeric field of processes and tasks. For other types, documents with
+     * equal sort values keep the order of the index.
+     */
+    private static final String ID_FIELD = "id";
+
     /**
      * Constructor for searcher with type names equal to table names.
      *
@@ -125,8 +137,41 @@ public class Searcher extends Index {
      * @return JSONObject
      */
     public Map<String, Object> findDocument(Integer id) throws CustomResponseException, DataException {
+        return findDocument(id, (FetchSourceContext) null);
+    }
+
+    /**
+     * Find document by id, returning only the fields selected by the source
+     * filter.
+     *
+     * @param id
+     *            of searched document
+     * @param sourceFilter
+     *            fields of the document to return, or {@code null} to return
+     *            the whole document
+     * @return JSONObject
+     */
+    public Map<String, Object> findDocument(Integer id, FetchSourceContext sourceFilter)
+            throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        return restClient.getDocument(this.type, id, sourceFilter);
+    }
+
+    /**
+     * Find several documents by id with one request, returning only the
+     * fields selected by the source filter.
+     *
+     * @param ids
+     *            of searched documents
+     * @param sourceFilter
+     *            fields of the documents to return, or {@code null} to return
+     *            the whole documents
+     * @return the found documents by their id
+     */
+    public Map<Integer, Map<String, Object>> findDocuments(Collection<Integer> ids, FetchSourceContext sourceFilter)
+            throws CustomResponseException, DataException {
         SearchRestClient restClient = initiateRestClient();
-        return restClient.getDocument(this.type, id);
+        return restClient.getDocuments(this.type, ids, sourceFilter);
     }
 
     /**
@@ -211,10 +256,28 @@ public class Searcher extends Index {
      */
     public List<Map<String, Object>> findDocuments(QueryBuilder query, SortBuilder sort, Integer offset, Integer size)
             throws CustomResponseException, DataException {
+        return findDocuments(query, sort, offset, size, null);
+    }
+
+    /**
+     * Find many documents by query, sort condition, offset and size of result
+     * set, returning only the fields selected by the source filter.
+     *
+     * @param query
+     *            as String
+     * @param sort
+     *            as String
+     * @param sourceFilter
+     *            fields of the documents to return, or {@code null} to return
+     *            the whole documents
+     * @return list of JSON objects
+     */
+    public List<Map<String, Object>> findDocuments(QueryBuilder query, SortBuilder sort, Integer offset, Integer size,
+            FetchSourceContext sourceFilter) throws CustomResponseException, DataException {
         SearchRestClient restClient = initiateRestClient();
         List<Map<String, Object>> searchResults = new ArrayList<>();
 
-        SearchHits hits = restClient.getDocument(this.type, query, sort, offset, size);
+        SearchHits hits = restClient.getDocument(this.type, query, sort, offset, size, sourceFilter);
         for (SearchHit hit : hits.getHits()) {
             Map<String,Object> result = hit.getSourceAsMap();
             result.put("id", hit.getId());
@@ -223,6 +286,128 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Find one page of documents by query together with the total number of
+     * hits in one request. Pages beyond the maximum result window of the index
+     * are reached with search after cursors: either the sort values of the
+     * last document of the previous page are given, or the documents before
+     * the page are skipped by requesting only their sort values. Pages within
+     * the window are requested by offset. Documents
+     * are additionally sorted by their ID, so that the order is stable.
+     *
+     * @param query
+     *            to find the documents
+     * @param sort
+     *            sort condition, or {@code null} to sort by ID only
+     * @param offset
+     *            position of the first document of the page
+     * @param size
+     *            number of documents on the page
+     * @param sourceFilter
+     *            fields of the documents to return, or {@code null} to return
+     *            the whole documents
+     * @param searchAfter
+     *            sort values of the last document of the previous page, or
+     *            {@code null} if the page does not follow the previous page
+     * @return the page of documents
+     */
+    public SearchResultPage<Map<String, Object>> findDocumentPage(QueryBuilder query, SortBuilder sort, int offset,
+            int size, FetchSourceContext sourceFilter, Object[] searchAfter)
+            throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        SearchSourceBuilder sourceBuilder = createSortedSource(query, sort).trackTotalHits(true).size(size);
+        if (Objects.nonNull(sourceFilter)) {
+            sourceBuilder.fetchSource(sourceFilter);
+        }
+        if (offset + size <= SearchRestClient.MAX_RESULT_WINDOW) {
+            sourceBuilder.from(offset);
+        } else if (Objects.nonNull(searchAfter)) {
+            sourceBuilder.searchAfter(searchAfter);
+        } else if (offset > 0) {
+            Object[] cursor = skipDocuments(restClient, query, sort, offset);
+            if (Objects.nonNull(cursor)) {
+                sourceBuilder.searchAfter(cursor);
+            } else {
+                sourceBuilder.size(0);
+            }
+        }
+
+        SearchHits hits = restClient.getDocuments(this.type, sourceBuilder);
+        List<Map<String, Object>> documents = new ArrayList<>();
+        Object[] lastSortValues = null;
+        for (SearchHit hit : hits.getHits()) {
+            Map<String, Object> document = hit.getSourceAsMap();
+            document.put("id", hit.getId());
+            documents.add(document);
+            lastSortValues = hit.getSortValues();
+        }
+        long totalHits = Objects.nonNull(hits.getTotalHits()) ? hits.getTotalHits().value : documents.size();
+        return new SearchResultPage<>(documents, totalHits, lastSortValues);
+    }
+
+    /**
+     * Find the IDs of all documents matching the query. The IDs are requested
+     * in chunks with search after cursors, so that their number is not limited
+     * by the maximum result window of the index.
+     *
+     * @param query
+     *            to find the documents
+     * @return the IDs of the documents
+     */
+    public List<Integer> findDocumentIds(QueryBuilder query) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        List<Integer> ids = new ArrayList<>();
+        Object[] cursor = null;
+        do {
+            SearchSourceBuilder sourceBuilder = createSortedSource(query, null).fetchSource(false)
+                    .trackTotalHits(false).size(SearchRestClient.MAX_RESULT_WINDOW);
+            if (Objects.nonNull(cursor)) {
+                sourceBuilder.searchAfter(cursor);
+            }
+            SearchHit[] hits = restClient.getDocuments(this.type, sourceBuilder).getHits();
+            for (SearchHit hit : hits) {
+                ids.add(Integer.valueOf(hit.getId()));
+            }
+            cursor = hits.length == SearchRestClient.MAX_RESULT_WINDOW ? hits[hits.length - 1].getSortValues() : null;
+        } while (Objects.nonNull(cursor));
+        return ids;
+    }
+
+    /**
+     * Pages through the documents before the requested position, requesting
+     * only their sort values.
+     *
+     * @return the sort values of the document before the position, or
+     *         {@code null} if there are not as many documents
+     */
+    private Object[] skipDocuments(SearchRestClient restClient, QueryBuilder query, SortBuilder sort, int count)
+            throws CustomResponseException, DataException {
+        Object[] cursor = null;
+        int skipped = 0;
+        while (skipped < count) {
+            SearchSourceBuilder sourceBuilder = createSortedSource(query, sort).fetchSource(false)
+                    .trackTotalHits(false).size(Math.min(count - skipped, SearchRestClient.MAX_RESULT_WINDOW));
+            if (Objects.nonNull(cursor)) {
+                sourceBuilder.searchAfter(cursor);
+            }
+            SearchHit[] hits = restClient.getDocuments(this.type, sourceBuilder).getHits();
+            if (hits.length == 0) {
+                return null;
+            }
+            cursor = hits[hits.length - 1].getSortValues();
+            skipped += hits.length;
+        }
+        return cursor;
+    }
+
+    private SearchSourceBuilder createSortedSource(QueryBuilder query, SortBuilder sort) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(query);
+        if (Objects.nonNull(sort)) {
+            sourceBuilder.sort(sort);
+        }
+        return sourceBuilder.sort(SortBuilders.fieldSort(ID_FIELD).order(SortOrder.ASC).unmappedType("long"));
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndexBase(index);
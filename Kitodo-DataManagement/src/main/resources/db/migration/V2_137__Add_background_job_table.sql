@@ -0,0 +1,33 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add 'background_job' table holding the queue of jobs run by the task manager
+--
+
+-- Add table "background_job"
+CREATE TABLE IF NOT EXISTS background_job
+(
+    id INT(11) NOT NULL AUTO_INCREMENT,
+    type varchar(32) NOT NULL,
+    state varchar(16) NOT NULL,
+    process_id INT(11) DEFAULT NULL,
+    task_id INT(11) DEFAULT NULL,
+    export_images TINYINT(1) NOT NULL DEFAULT 1,
+    progress INT(11) NOT NULL DEFAULT 0,
+    checkpoint INT(11) NOT NULL DEFAULT 0,
+    message varchar(255) DEFAULT NULL,
+    creation_date datetime DEFAULT NULL,
+    completion_date datetime DEFAULT NULL,
+    PRIMARY KEY(id),
+    KEY background_job_state_id (state, id)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
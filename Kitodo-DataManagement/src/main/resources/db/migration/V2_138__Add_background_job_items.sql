@@ -0,0 +1,30 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add the script of Kitodo script jobs and 'background_job_item' table holding the processes of a job
+--
+
+-- Add column "script" to table "background_job"
+ALTER TABLE background_job ADD COLUMN script longtext DEFAULT NULL AFTER export_images;
+
+-- Add table "background_job_item"
+CREATE TABLE IF NOT EXISTS background_job_item
+(
+    id INT(11) NOT NULL AUTO_INCREMENT,
+    job_id INT(11) NOT NULL,
+    process_id INT(11) NOT NULL,
+    state varchar(16) NOT NULL,
+    message varchar(255) DEFAULT NULL,
+    PRIMARY KEY(id),
+    KEY background_job_item_job_state (job_id, state)
+) DEFAULT CHARACTER SET = utf8mb4
+  COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,70 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BackgroundJobDaoIT {
+
+    /**
+     * Test queueing, resuming and deleting background jobs.
+     * @throws DAOException when loading or saving fails
+     */
+    @Test
+    public void runPersistenceSuitTest() throws DAOException {
+        BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+        for (int processId = 1; processId <= 5; processId++) {
+            backgroundJobDAO.save(createJob(processId));
+        }
+        assertEquals(5, backgroundJobDAO.getAll().size(), "Objects were not saved or not found!");
+
+        List<BackgroundJob> queued = backgroundJobDAO.getQueued(2);
+        assertEquals(2, queued.size(), "Wrong number of queued jobs returned");
+        assertEquals(1, queued.get(0).getProcessId(), "Queued jobs are not returned in order");
+        for (BackgroundJob job : queued) {
+            job.setState(BackgroundJobState.WORKING);
+            job.setCheckpoint(job.getProcessId());
+            backgroundJobDAO.save(job);
+        }
+        assertEquals(3, backgroundJobDAO.getQueued(5).size(), "Working jobs were returned as queued");
+
+        assertEquals(2, backgroundJobDAO.requeueWorking(), "Wrong number of jobs queued again");
+        assertEquals(5, backgroundJobDAO.getQueued(5).size(), "Working jobs were not queued again");
+        assertEquals(1, backgroundJobDAO.getQueued(1).get(0).getCheckpoint(),
+            "Checkpoint of job queued again was lost");
+
+        for (BackgroundJob job : backgroundJobDAO.getQueued(4)) {
+            job.setState(job.getProcessId() % 2 == 0 ? BackgroundJobState.FAILED : BackgroundJobState.FINISHED);
+            backgroundJobDAO.save(job);
+        }
+        assertEquals(2, backgroundJobDAO.removeCompletedExceeding(2), "Wrong number of completed jobs deleted");
+        assertEquals(0, backgroundJobDAO.removeCompletedExceeding(2), "Completed jobs to keep were deleted");
+        List<BackgroundJob> remaining = backgroundJobDAO.getAll();
+        assertEquals(3, remaining.size(), "Wrong number of jobs kept");
+        assertEquals(3, remaining.get(0).getProcessId(), "Not the oldest completed jobs were deleted");
+    }
+
+    private static BackgroundJob createJob(int processId) {
+        BackgroundJob job = new BackgroundJob();
+        job.setType(BackgroundJobType.EXPORT_DMS);
+        job.setProcessId(processId);
+        return job;
+    }
+}
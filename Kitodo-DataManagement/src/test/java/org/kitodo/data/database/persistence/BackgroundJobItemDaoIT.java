@@ -0,0 +1,69 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+package org.kitodo.data.database.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.beans.BackgroundJobItem;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BackgroundJobItemDaoIT {
+
+    /**
+     * Test saving, completing and deleting the items of a background job.
+     * @throws DAOException when loading or saving fails
+     */
+    @Test
+    public void runPersistenceSuitTest() throws DAOException {
+        BackgroundJobDAO backgroundJobDAO = new BackgroundJobDAO();
+        BackgroundJob job = new BackgroundJob();
+        job.setType(BackgroundJobType.KITODO_SCRIPT);
+        job.setScript("action:addData \"key:TitleDocMain\" \"value:Title\"");
+        backgroundJobDAO.save(job);
+
+        BackgroundJobItemDAO backgroundJobItemDAO = new BackgroundJobItemDAO();
+        List<BackgroundJobItem> items = new ArrayList<>();
+        for (int processId = 1; processId <= 4; processId++) {
+            BackgroundJobItem item = new BackgroundJobItem();
+            item.setJobId(job.getId());
+            item.setProcessId(processId);
+            items.add(item);
+        }
+        backgroundJobItemDAO.saveList(items);
+        assertEquals(4, backgroundJobItemDAO.getAll().size(), "Objects were not saved or not found!");
+
+        List<BackgroundJobItem> queued = backgroundJobItemDAO.getByJobAndState(job.getId(),
+            BackgroundJobState.QUEUED);
+        assertEquals(4, queued.size(), "Wrong number of queued items returned");
+        queued.get(0).setState(BackgroundJobState.FINISHED);
+        backgroundJobItemDAO.save(queued.get(0));
+        queued.get(1).setState(BackgroundJobState.FAILED);
+        backgroundJobItemDAO.save(queued.get(1));
+        List<BackgroundJobItem> remaining = backgroundJobItemDAO.getByJobAndState(job.getId(),
+            BackgroundJobState.QUEUED);
+        assertEquals(2, remaining.size(), "Completed items were returned as queued");
+        assertEquals(3, remaining.get(0).getProcessId(), "Queued items are not returned in order");
+        assertEquals(1, backgroundJobItemDAO.countByJobAndState(job.getId(), BackgroundJobState.FAILED),
+            "Wrong number of failed items counted");
+
+        job.setState(BackgroundJobState.FINISHED);
+        backgroundJobDAO.save(job);
+        assertEquals(1, backgroundJobDAO.removeCompletedExceeding(0), "Completed job was not deleted");
+        assertEquals(0, backgroundJobItemDAO.getAll().size(), "Items of deleted job were not deleted");
+    }
+}
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,11 @@ public class DocketDaoIT {
         assertEquals(3, docketDAO.getAll().size(), "Objects were not saved or not found!");
         assertEquals(2, docketDAO.getAll(1,2).size(), "Objects were not saved or not found!");
         assertEquals("first_docket", docketDAO.getById(1).getTitle(), "Object was not saved or not found!");
+        assertEquals(Arrays.asList(1, 3), docketDAO.getIdsOfBatchStarts(2, false), "Wrong batch start ids!");
+        assertEquals(Arrays.asList(2, 3), docketDAO.getIdsOfBatchStarts(1, true), "Wrong batch start ids!");
+        assertEquals(2, docketDAO.getAllInIdRange(1, 3, false).size(), "Objects in id range were not found!");
+        assertEquals(1, docketDAO.getAllInIdRange(1, 3, true).size(), "Objects in id range were not found!");
+        assertEquals(1, docketDAO.getAllInIdRange(3, null, false).size(), "Objects in id range were not found!");
 
         docketDAO.remove(1);
         docketDAO.remove(dockets.get(1));
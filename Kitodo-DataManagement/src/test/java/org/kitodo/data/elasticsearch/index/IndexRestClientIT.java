@@ -11,7 +11,9 @@
 
 package org.kitodo.data.elasticsearch.index;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.MockEntity;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.search.Searcher;
 
 /**
@@ -122,6 +125,41 @@ public class IndexRestClientIT {
         assertFalse(isFound(response), "Delete of document has failed!");
     }
 
+    @Test
+    public void shouldPerformBulkRequestWithMixedOperations() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        restClient.addDocument(testTypeName, entities.get(1), 1, false);
+        restClient.addDocument(testTypeName, entities.get(2), 2, true);
+
+        BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+        bulkIndexRequest.deleteDocument(testTypeName, 1);
+        bulkIndexRequest.addDocument(testTypeName, 3, entities.get(3));
+        bulkIndexRequest.addDocument(testTypeName, 4, entities.get(4));
+        bulkIndexRequest.deleteDocument(testTypeName, 4);
+        bulkIndexRequest.addDocument(testTypeName, 2, entities.get(4));
+        assertEquals(4, bulkIndexRequest.size(), "Repeated operations on a document should be collected once");
+        restClient.performBulkRequest(bulkIndexRequest, true);
+
+        assertFalse(isFound(searcher.findDocument(1)), "Document 1 should have been deleted");
+        assertEquals("Order", searcher.findDocument(2).get("title"), "Document 2 should have been updated");
+        assertTrue(isFound(searcher.findDocument(3)), "Document 3 should have been added");
+        assertFalse(isFound(searcher.findDocument(4)), "Last operation on document 4 should win");
+    }
+
+    @Test
+    public void shouldReportFailuresOfPartiallyFailedBulkRequest() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+        bulkIndexRequest.addDocument(testTypeName, 1, entities.get(1));
+        bulkIndexRequest.addDocument("missing", 2, entities.get(2));
+
+        CustomResponseException exception = assertThrows(CustomResponseException.class,
+            () -> restClient.performBulkRequest(bulkIndexRequest, true), "Failed operation should be reported");
+        assertTrue(exception.getMessage().contains(testIndexName + "_missing"),
+            "Failure message should name the index of the failed operation: " + exception.getMessage());
+        assertTrue(isFound(searcher.findDocument(1)), "Successful operation should have been performed");
+    }
+
     @Test
     public void shouldGetServerInfo() throws Exception {
         System.out.println(restClient.getServerInformation());
@@ -119,6 +119,7 @@ public class TaskTypeTest {
         Task task = prepareData().get(0);
         Map<String, Object> actual = taskType.createDocument(task);
 
+        assertEquals(1, TaskTypeField.ID.getIntValue(actual), "Key id doesn't match to given value!");
         assertEquals("Testing", TaskTypeField.TITLE.getStringValue(actual), "Key title doesn't match to given value!");
         assertEquals(1, TaskTypeField.ORDERING.getIntValue(actual), "Key ordering doesn't match to given value!");
         assertEquals(1, TaskTypeField.EDIT_TYPE.getIntValue(actual), "Key editType doesn't match to given value!");
@@ -224,7 +225,7 @@ public class TaskTypeTest {
         Task task = prepareData().get(0);
         Map<String, Object> actual = taskType.createDocument(task);
 
-        assertEquals(30, actual.keySet().size(), "Amount of keys is incorrect!");
+        assertEquals(31, actual.keySet().size(), "Amount of keys is incorrect!");
 
         List<Map<String, Object>> roles = TaskTypeField.ROLES.getJsonArray(actual);
         Map<String, Object> role = roles.get(0);
@@ -21,6 +21,12 @@ import org.kitodo.serviceloader.KitodoServiceLoader;
 
 class CommandService {
 
+    /**
+     * The command module. It is loaded once, on first use, as looking it up
+     * searches the module directory.
+     */
+    private static volatile CommandInterface commandModule;
+
     /**
      * Method executes a script string.
      *
@@ -33,10 +39,7 @@ class CommandService {
         if (script == null) {
             return null;
         }
-        KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-        CommandInterface command = serviceLoader.loadModule();
-
-        CommandResult commandResult = command.runCommand(script);
+        CommandResult commandResult = getCommandModule().runCommand(script);
         List<String> commandResultMessages = commandResult.getMessages();
         if (!commandResultMessages.isEmpty() && commandResultMessages.get(0).contains("IOException")) {
             throw new IOException(commandResultMessages.get(1));
@@ -79,4 +82,18 @@ class CommandService {
         }
         return scriptString;
     }
+
+    private static CommandInterface getCommandModule() {
+        CommandInterface localReference = commandModule;
+        if (localReference == null) {
+            synchronized (CommandService.class) {
+                localReference = commandModule;
+                if (localReference == null) {
+                    localReference = new KitodoServiceLoader<CommandInterface>(CommandInterface.class).loadModule();
+                    commandModule = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
 }
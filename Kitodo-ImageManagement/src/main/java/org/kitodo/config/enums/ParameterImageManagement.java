@@ -16,7 +16,8 @@ public enum ParameterImageManagement implements ParameterInterface {
     DIR_TMP("ImageManagement.tmpDir"),
     SEARCH_PATH("ImageManagement.searchPath"),
     TIMEOUT_SEC("ImageManagement.timeoutSec"),
-    SSH_HOST("ImageManagement.sshHosts");
+    SSH_HOST("ImageManagement.sshHosts"),
+    SSH_CONTROL_PERSIST_SEC("ImageManagement.sshControlPersistSec");
 
     private String name;
 
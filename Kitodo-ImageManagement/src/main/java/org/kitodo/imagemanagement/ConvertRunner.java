@@ -16,7 +16,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.exec.CommandLine;
@@ -43,10 +43,10 @@ class ConvertRunner {
     private static final String CONVERT_COMMAND = "convert";
 
     /**
-     * Randomness generator used to distribute the requests evenly on several
-     * configured SSH hosts.
+     * Default time in seconds for which an idle SSH connection is kept open to
+     * be reused by the next conversion.
      */
-    private static final Random RANDOMNESS_GENERATOR = new Random();
+    private static final int DEFAULT_SSH_CONTROL_PERSIST_SECS = 60;
 
     /**
      * Default timeout.
@@ -76,11 +76,12 @@ class ConvertRunner {
         executor.setWatchdog(new ExecuteWatchdog(timeoutMillis));
 
         CommandLine command;
+        String host = null;
         try {
             String sshHosts = KitodoConfig.getParameter(ParameterImageManagement.SSH_HOST);
+            host = SshHostScheduler.getInstance().acquire(sshHosts.split(","));
             command = new CommandLine("ssh");
-            String[] hosts = sshHosts.split(",");
-            String host = hosts[RANDOMNESS_GENERATOR.nextInt(hosts.length)];
+            addConnectionSharingArguments(command);
             command.addArgument(host, false);
             command.addArgument(convertCommand + ' ' + commandLine.toString(), false);
         } catch (NoSuchElementException e) {
@@ -89,17 +90,50 @@ class ConvertRunner {
             command.addArguments(commandLine.toString(), false);
         }
 
+        long start = System.nanoTime();
+        boolean successful = false;
         try {
             logger.debug("Executing: {}", command);
             logger.trace("Timeout: {} mins", timeoutMillis / 60000d);
             executor.execute(command);
+            successful = true;
             logger.debug("Command output:{}{}", System.lineSeparator(), outAndErr.toString());
         } catch (IOException | RuntimeException e) {
             logger.error("Command output:{}{}", System.lineSeparator(), outAndErr.toString());
             throw e;
+        } finally {
+            if (Objects.nonNull(host)) {
+                SshHostScheduler.getInstance().release(host, System.nanoTime() - start, successful);
+            }
         }
     }
 
+    /**
+     * Adds the arguments to let subsequent SSH calls to the same host reuse
+     * the connection of the first one, so that connection setup and
+     * authentication are done only once. The connection is closed after it
+     * has not been used for the configured time. Setting the time to 0
+     * disables connection sharing.
+     *
+     * @param command
+     *            SSH command line to add the arguments to
+     */
+    private static void addConnectionSharingArguments(CommandLine command) {
+        int controlPersistSecs = KitodoConfig.getIntParameter(ParameterImageManagement.SSH_CONTROL_PERSIST_SEC,
+            DEFAULT_SSH_CONTROL_PERSIST_SECS);
+        if (controlPersistSecs <= 0) {
+            return;
+        }
+        String tmpDir = KitodoConfig.getParameter(ParameterImageManagement.DIR_TMP,
+            System.getProperty("java.io.tmpdir"));
+        command.addArgument("-o", false);
+        command.addArgument("ControlMaster=auto", false);
+        command.addArgument("-o", false);
+        command.addArgument("ControlPath=" + new File(tmpDir, "kitodo-ssh-%C").getAbsolutePath(), false);
+        command.addArgument("-o", false);
+        command.addArgument("ControlPersist=" + controlPersistSecs, false);
+    }
+
     /**
      * Set the search path. This can either be the directory, or the name of the
      * executable.
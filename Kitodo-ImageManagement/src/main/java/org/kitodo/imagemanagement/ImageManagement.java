@@ -17,12 +17,16 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.function.Function;
 
 import javax.imageio.ImageIO;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.config.KitodoConfig;
@@ -94,6 +98,36 @@ public class ImageManagement implements ImageManagementInterface {
         return new File(resultUri).exists();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#createDerivatives(java.net.URI,
+     *      java.util.Collection)
+     */
+    @Override
+    public boolean createDerivatives(URI sourceUri, Collection<ImageDerivative> derivatives) throws IOException {
+        fileExists(sourceUri);
+        if (derivatives.isEmpty()) {
+            return true;
+        }
+
+        ImageConverter imageConverter = new ImageConverter(sourceUri);
+        for (ImageDerivative derivative : derivatives) {
+            FutureDerivative futureDerivative = imageConverter.addResult(derivative.getResultFileUri(),
+                derivative.getResultFileFormat());
+            if (Objects.nonNull(derivative.getPercent())) {
+                futureDerivative.resize(derivative.getPercent());
+            } else if (Objects.nonNull(derivative.getDpi())) {
+                futureDerivative.resizeToDpi(derivative.getDpi());
+            } else if (Objects.nonNull(derivative.getPixelWidth())) {
+                futureDerivative.resizeToWidth(derivative.getPixelWidth());
+            }
+        }
+        logger.info("Creating {} derivatives from {}: {}", derivatives.size(), sourceUri, derivatives);
+        imageConverter.run();
+        return derivatives.stream().allMatch(derivative -> new File(derivative.getResultFileUri()).exists());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -111,6 +145,26 @@ public class ImageManagement implements ImageManagementInterface {
             "Generating sized web image from {} as {}, width {} px", width);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This is the number of processors, or the number of configured SSH hosts
+     * if there are more of them.
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#getRecommendedNumberOfThreads()
+     */
+    @Override
+    public int getRecommendedNumberOfThreads() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        try {
+            String sshHosts = KitodoConfig.getParameter(ParameterImageManagement.SSH_HOST);
+            return Math.max(processors, sshHosts.split(",").length);
+        } catch (NoSuchElementException e) {
+            return processors;
+        }
+    }
+
     /**
      * Summarizes three similar codes.
      *
@@ -0,0 +1,152 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.imagemanagement;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Distributes conversions to the configured SSH hosts. Each conversion is
+ * sent to the host with the fewest conversions running. A host on which a
+ * conversion failed is only used again after a pause, unless all hosts are
+ * pausing. The statistics are kept for the lifetime of the application, as
+ * module objects are created anew for each use.
+ */
+class SshHostScheduler {
+    private static final Logger logger = LogManager.getLogger(SshHostScheduler.class);
+
+    /**
+     * Time for which a host is avoided after a failed conversion.
+     */
+    private static final long FAILURE_PAUSE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private static final SshHostScheduler INSTANCE = new SshHostScheduler();
+
+    private final Map<String, HostStatistics> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Position of the next host to take if several hosts are equally suitable.
+     */
+    private int rotation;
+
+    /**
+     * Returns the scheduler shared by all conversions.
+     *
+     * @return the scheduler
+     */
+    static SshHostScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Chooses the host for the next conversion and counts the conversion as
+     * running on it. The caller must report the end of the conversion with
+     * {@link #release(String, long, boolean)}.
+     *
+     * @param candidates
+     *            configured host names
+     * @return the host to use
+     */
+    synchronized String acquire(String[] candidates) {
+        long now = System.nanoTime();
+        Comparator<HostStatistics> byLoad = Comparator
+                .comparing((HostStatistics host) -> host.isPausing(now))
+                .thenComparingInt(host -> host.running)
+                .thenComparingLong(HostStatistics::getAverageNanos);
+        HostStatistics best = null;
+        for (int i = 0; i < candidates.length; i++) {
+            String name = candidates[(rotation + i) % candidates.length].trim();
+            HostStatistics host = hosts.computeIfAbsent(name, HostStatistics::new);
+            if (Objects.isNull(best) || byLoad.compare(host, best) < 0) {
+                best = host;
+            }
+        }
+        rotation = (rotation + 1) % candidates.length;
+        Objects.requireNonNull(best, "no SSH host configured").running++;
+        return best.name;
+    }
+
+    /**
+     * Reports the end of a conversion.
+     *
+     * @param host
+     *            host the conversion ran on
+     * @param durationNanos
+     *            run time of the conversion
+     * @param successful
+     *            whether the conversion succeeded
+     */
+    synchronized void release(String host, long durationNanos, boolean successful) {
+        HostStatistics statistics = hosts.get(host);
+        statistics.running--;
+        if (successful) {
+            statistics.completed++;
+            statistics.totalNanos += durationNanos;
+        } else {
+            statistics.failed++;
+            statistics.lastFailure = System.nanoTime();
+        }
+        logger.debug("{}: {} running, {} completed in {} ms on average, {} failed", host, statistics.running,
+            statistics.completed, TimeUnit.NANOSECONDS.toMillis(statistics.getAverageNanos()), statistics.failed);
+    }
+
+    /**
+     * Returns the number of conversions currently running on a host.
+     *
+     * @param host
+     *            host name
+     * @return the number of running conversions
+     */
+    synchronized int getRunning(String host) {
+        HostStatistics statistics = hosts.get(host);
+        return Objects.isNull(statistics) ? 0 : statistics.running;
+    }
+
+    /**
+     * Returns the number of failed conversions on a host.
+     *
+     * @param host
+     *            host name
+     * @return the number of failed conversions
+     */
+    synchronized int getFailed(String host) {
+        HostStatistics statistics = hosts.get(host);
+        return Objects.isNull(statistics) ? 0 : statistics.failed;
+    }
+
+    private static class HostStatistics {
+        private final String name;
+        private int running;
+        private int completed;
+        private int failed;
+        private long totalNanos;
+        private Long lastFailure;
+
+        HostStatistics(String name) {
+            this.name = name;
+        }
+
+        long getAverageNanos() {
+            return completed == 0 ? 0 : totalNanos / completed;
+        }
+
+        boolean isPausing(long now) {
+            return Objects.nonNull(lastFailure) && now - lastFailure < FAILURE_PAUSE_NANOS;
+        }
+    }
+}
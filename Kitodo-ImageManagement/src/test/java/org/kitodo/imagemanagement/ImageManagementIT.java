@@ -34,6 +34,7 @@ import org.im4java.core.InfoException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.config.KitodoConfig;
@@ -70,6 +71,7 @@ public class ImageManagementIT {
     private static final String _00000001_MAX_JPG = RESOURCES + "/00000001_max.jpg";
     private static final String _00000001_MAX_JPG_WITH_WHITESPACE = RESOURCES + "/00000001 whiteSpace_max.jpg";
     private static final String _00000001_MAX_JPG_WITH_SPECIAL_CHARACTER = RESOURCES + "/00000001_ÄÜÖ#_max.jpg";
+    private static final String _00000001_THUMBNAIL_JPG = RESOURCES + "/00000001_thumbnail.jpg";
 
     /**
      * Creates the input tiff file. The tiff file will contain the “wizard”
@@ -140,6 +142,19 @@ public class ImageManagementIT {
         assertEquals(150, scaledWebImage.getWidth(null));
     }
 
+    @Test
+    public void testCreateDerivatives() throws IOException, InfoException {
+        assert new File(_00000001_TIF).exists();
+        File maxDerivative = new File(_00000001_MAX_JPG);
+        File thumbnail = new File(_00000001_THUMBNAIL_JPG);
+        ImageManagementInterface module = new ImageManagement();
+        assertTrue(module.createDerivatives(new File(_00000001_TIF).toURI(),
+            Arrays.asList(ImageDerivative.scaled(1.0, maxDerivative.toURI(), ImageFileFormat.JPEG),
+                ImageDerivative.sized(150, thumbnail.toURI(), ImageFileFormat.JPEG))));
+        assertEquals(new Info(_00000001_TIF, true).getImageWidth(), new Info(_00000001_MAX_JPG, true).getImageWidth());
+        assertEquals(150, new Info(_00000001_THUMBNAIL_JPG, true).getImageWidth());
+    }
+
     /**
      * Clean up after tests.
      */
@@ -0,0 +1,48 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.imagemanagement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SshHostSchedulerTest {
+
+    private static final String[] HOSTS = {"user@rhost1", "user@rhost2"};
+
+    @Test
+    public void shouldUseLeastLoadedHost() {
+        SshHostScheduler scheduler = new SshHostScheduler();
+        String first = scheduler.acquire(HOSTS);
+        String second = scheduler.acquire(HOSTS);
+        assertNotEquals(first, second, "Second conversion should go to the idle host");
+
+        scheduler.release(first, 1000, true);
+        assertEquals(first, scheduler.acquire(HOSTS), "Third conversion should go to the host that became idle");
+        assertEquals(1, scheduler.getRunning(first), "One conversion should be running on the first host");
+        assertEquals(1, scheduler.getRunning(second), "One conversion should be running on the second host");
+    }
+
+    @Test
+    public void shouldAvoidFailedHost() {
+        SshHostScheduler scheduler = new SshHostScheduler();
+        String failing = scheduler.acquire(HOSTS);
+        scheduler.release(failing, 1000, false);
+        assertEquals(1, scheduler.getFailed(failing), "Failure should be recorded");
+
+        String next = scheduler.acquire(HOSTS);
+        String afterNext = scheduler.acquire(HOSTS);
+        assertNotEquals(failing, next, "Failed host should be avoided");
+        assertNotEquals(failing, afterNext, "Failed host should be avoided even if the other one is busier");
+    }
+}
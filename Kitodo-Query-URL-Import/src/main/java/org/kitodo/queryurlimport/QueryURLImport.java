@@ -23,6 +23,7 @@ import java.net.URLEncoder;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +32,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
@@ -49,18 +56,20 @@ import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.net.ftp.FTPFileFilter;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.conn.ConnectTimeoutException;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -72,6 +81,8 @@ import org.kitodo.api.externaldatamanagement.SingleHit;
 import org.kitodo.api.schemaconverter.DataRecord;
 import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterQueryURLImport;
 import org.kitodo.exceptions.CatalogException;
 import org.kitodo.exceptions.ConfigException;
 import org.kitodo.exceptions.NoRecordFoundException;
@@ -93,7 +104,19 @@ public class QueryURLImport implements ExternalDataImportInterface {
     private static final String OAI_IDENTIFIER = "identifier";
     private final Charset encoding = StandardCharsets.UTF_8;
 
-    private CloseableHttpClient httpClient = HttpClientBuilder.create().build();
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+    private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int DEFAULT_SOCKET_TIMEOUT_MILLIS = 60000;
+    private static final int DEFAULT_KEEP_ALIVE_SEC = 30;
+
+    /**
+     * Pooled HTTP clients by import configuration. The module is instantiated
+     * for each import, so the clients are kept statically to reuse open
+     * connections across imports.
+     */
+    private static final Map<String, PooledHttpClient> httpClients = new ConcurrentHashMap<>();
+
     private final FTPClient ftpClient = new FTPClient();
 
     @Override
@@ -112,6 +135,42 @@ public class QueryURLImport implements ExternalDataImportInterface {
         }
     }
 
+    @Override
+    public Map<String, DataRecord> getFullRecordsById(DataImport dataImport, Collection<String> identifiers) {
+        Map<String, DataRecord> records = new LinkedHashMap<>();
+        if (SearchInterfaceType.FTP.equals(dataImport.getSearchInterfaceType()) || identifiers.size() < 2) {
+            for (String identifier : identifiers) {
+                try {
+                    records.put(identifier, getFullRecordById(dataImport, identifier));
+                } catch (NoRecordFoundException | RuntimeException e) {
+                    logger.warn("Unable to retrieve record {}: {}", identifier, e.getMessage());
+                }
+            }
+            return records;
+        }
+        int threads = Math.min(identifiers.size(), KitodoConfig.getIntParameter(
+            ParameterQueryURLImport.MAX_CONNECTIONS_PER_HOST, DEFAULT_MAX_CONNECTIONS_PER_HOST));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<String, Future<DataRecord>> futures = new LinkedHashMap<>();
+            for (String identifier : identifiers) {
+                futures.put(identifier, executor.submit(() -> getFullRecordById(dataImport, identifier)));
+            }
+            for (Map.Entry<String, Future<DataRecord>> future : futures.entrySet()) {
+                try {
+                    records.put(future.getKey(), future.getValue().get());
+                } catch (ExecutionException e) {
+                    logger.warn("Unable to retrieve record {}: {}", future.getKey(), e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return records;
+    }
+
     @Override
     public List<DataRecord> getMultipleFullRecordsFromQuery(DataImport dataImport, String field, String value,
                                                             int rows) {
@@ -180,23 +239,87 @@ public class QueryURLImport implements ExternalDataImportInterface {
         return Collections.emptyList();
     }
 
-    private void reinitializeHttpClient(String username, String password) throws IOException {
-        httpClient.close();
+    /**
+     * HTTP client together with the connection settings it was created with.
+     */
+    private static final class PooledHttpClient {
+        private final List<Object> settings;
+        private final CloseableHttpClient client;
+
+        private PooledHttpClient(List<Object> settings, CloseableHttpClient client) {
+            this.settings = settings;
+            this.client = client;
+        }
+    }
+
+    /**
+     * Returns the pooled HTTP client for the import configuration of the
+     * given data import. Connections are kept alive and reused. If the
+     * connection settings of the import configuration have changed, its
+     * previous client is closed and a new one is created.
+     *
+     * @param dataImport
+     *            data import to return the client for
+     * @return the HTTP client
+     */
+    private static CloseableHttpClient getHttpClient(DataImport dataImport) {
+        String username = dataImport.getUsername();
+        String password = dataImport.getPassword();
+        String key = Objects.nonNull(dataImport.getId()) ? "id:" + dataImport.getId()
+                : "title:" + dataImport.getTitle();
+        List<Object> settings = Arrays.asList(dataImport.getScheme(), dataImport.getHost(), dataImport.getPort(),
+            username, password);
+        return httpClients.compute(key, (unused, pooledHttpClient) -> {
+            if (Objects.nonNull(pooledHttpClient)) {
+                if (pooledHttpClient.settings.equals(settings)) {
+                    return pooledHttpClient;
+                }
+                try {
+                    pooledHttpClient.client.close();
+                } catch (IOException e) {
+                    logger.warn("Unable to close HTTP client of import configuration {}: {}", key, e.getMessage());
+                }
+            }
+            return new PooledHttpClient(settings, createHttpClient(username, password));
+        }).client;
+    }
+
+    private static CloseableHttpClient createHttpClient(String username, String password) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(
+            KitodoConfig.getIntParameter(ParameterQueryURLImport.MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS));
+        connectionManager.setDefaultMaxPerRoute(KitodoConfig
+                .getIntParameter(ParameterQueryURLImport.MAX_CONNECTIONS_PER_HOST, DEFAULT_MAX_CONNECTIONS_PER_HOST));
+        int connectTimeout = KitodoConfig.getIntParameter(ParameterQueryURLImport.CONNECT_TIMEOUT_MILLIS,
+            DEFAULT_CONNECT_TIMEOUT_MILLIS);
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setSocketTimeout(KitodoConfig.getIntParameter(ParameterQueryURLImport.SOCKET_TIMEOUT_MILLIS,
+                    DEFAULT_SOCKET_TIMEOUT_MILLIS))
+                .build();
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(
+            KitodoConfig.getIntParameter(ParameterQueryURLImport.KEEP_ALIVE_SEC, DEFAULT_KEEP_ALIVE_SEC));
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create().setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+                        context);
+                    return keepAlive > 0 ? Math.min(keepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS);
         if (StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password)) {
             CredentialsProvider provider = new BasicCredentialsProvider();
             UsernamePasswordCredentials credentials = new UsernamePasswordCredentials(username, password);
             provider.setCredentials(AuthScope.ANY, credentials);
-            httpClient = HttpClientBuilder.create().setDefaultCredentialsProvider(provider).build();
-        } else {
-            httpClient = HttpClientBuilder.create().build();
+            httpClientBuilder.setDefaultCredentialsProvider(provider);
         }
+        return httpClientBuilder.build();
     }
 
     private SearchResult performQuery(DataImport dataImport, String queryURL) {
-        try {
-            this.reinitializeHttpClient(dataImport.getUsername(), dataImport.getPassword());
-            logger.debug("Requesting: {}", queryURL);
-            HttpResponse response = httpClient.execute(new HttpGet(queryURL));
+        logger.debug("Requesting: {}", queryURL);
+        try (CloseableHttpResponse response = getHttpClient(dataImport).execute(new HttpGet(queryURL))) {
             int responseStatusCode = response.getStatusLine().getStatusCode();
             if (Objects.equals(responseStatusCode, SC_OK)) {
                 return XmlResponseHandler.getSearchResult(response, dataImport);
@@ -274,10 +397,8 @@ public class QueryURLImport implements ExternalDataImportInterface {
         } else {
             fullUrl += URLEncoder.encode(idParameter, encoding) + EQUALS_OPERAND + URLEncoder.encode(prefix + identifier, encoding);
         }
-        try {
-            this.reinitializeHttpClient(dataImport.getUsername(), dataImport.getPassword());
-            logger.debug("Requesting: {}", fullUrl);
-            HttpResponse response = httpClient.execute(new HttpGet(fullUrl));
+        logger.debug("Requesting: {}", fullUrl);
+        try (CloseableHttpResponse response = getHttpClient(dataImport).execute(new HttpGet(fullUrl))) {
             if (Objects.equals(response.getStatusLine().getStatusCode(), SC_OK)) {
                 HttpEntity httpEntity = response.getEntity();
                 if (Objects.isNull(httpEntity)) {
@@ -307,9 +428,8 @@ public class QueryURLImport implements ExternalDataImportInterface {
         requestConfigBuilder.setConnectionRequestTimeout(3000);
         requestConfigBuilder.setConnectTimeout(3000);
         request.setConfig(requestConfigBuilder.build());
-        try {
-            logger.debug("Requesting: {}", queryURL);
-            HttpResponse response = httpClient.execute(request);
+        logger.debug("Requesting: {}", queryURL);
+        try (CloseableHttpResponse response = getHttpClient(dataImport).execute(request)) {
             int responseStatusCode = response.getStatusLine().getStatusCode();
             if (Objects.equals(responseStatusCode, SC_OK)) {
                 String xmlContent = IOUtils.toString(response.getEntity().getContent(), Charset.defaultCharset());
@@ -30,8 +30,10 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -86,6 +88,16 @@ public class QueryURLImportTest {
         assertEquals(RECORD_IDENTIFIER_VALUE, recordIdentifierElement.getTextContent(), "Wrong record identifier found!");
     }
 
+    @Test
+    public void shouldGetFullRecordsById() {
+        QueryURLImport queryURLImport = new QueryURLImport();
+        Map<String, DataRecord> importRecords = queryURLImport.getFullRecordsById(dataImport,
+            Arrays.asList(RECORD_ID, "2", RECORD_ID + " "));
+        assertEquals(Collections.singleton(RECORD_ID), importRecords.keySet(), "Wrong records retrieved!");
+        assertThat("Original data of data record has wrong class!", importRecords.get(RECORD_ID).getOriginalData(),
+            instanceOf(String.class));
+    }
+
     private static void setupServer(String serverResponse) {
         // endpoint for importing record by id
         whenHttp(server)
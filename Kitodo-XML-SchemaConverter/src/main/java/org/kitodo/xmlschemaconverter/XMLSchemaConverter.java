@@ -18,17 +18,17 @@ import java.io.InvalidClassException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UnknownFormatConversionException;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Result;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXResult;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.sax.SAXTransformerFactory;
@@ -50,6 +50,14 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
     private static final FileFormat supportedSourceFileFormat = FileFormat.XML;
     private static final FileFormat supportedTargetFileFormat = FileFormat.XML;
 
+    private static final TransformerFactoryImpl transformerFactory = createTransformerFactory();
+
+    /**
+     * Compiled stylesheets by the path of their mapping file. This module is
+     * instantiated for each conversion, so the cache is static.
+     */
+    private static final Map<Path, CompiledStylesheet> compiledStylesheets = new ConcurrentHashMap<>();
+
     /**
      * Converts a given DataRecord to the given MetadataFormat 'targetMetadataFormat' and FileFormat 'targetFileFormat'.
      *
@@ -73,13 +81,8 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
             if (mappingFiles.isEmpty()) {
                 throw new ConfigException("No mapping files found!");
             } else {
-                for (File mappingFile : mappingFiles) {
-                    try (InputStream fileStream = Files.newInputStream(mappingFile.toPath())) {
-                        xmlString = transformXmlByXslt(xmlString, fileStream);
-                    }
-                }
+                conversionResult = transformXmlByXslt(xmlString, mappingFiles);
             }
-            conversionResult = xmlString;
 
             DataRecord resultRecord = new DataRecord();
             resultRecord.setOriginalData(conversionResult);
@@ -102,24 +105,31 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         return supportedSourceFileFormat.equals(format);
     }
 
-    private String transformXmlByXslt(String xmlString, InputStream stylesheetFile) {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        try {
-            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        } catch (ParserConfigurationException e) {
-            throw new IllegalArgumentException(e.getMessage(), e);
-        }
-        factory.setNamespaceAware(true);
+    /**
+     * Transforms a record by a chain of stylesheets. The stylesheets are
+     * connected by SAX events, so that the intermediate results are neither
+     * serialized nor parsed again.
+     *
+     * @param xmlString
+     *            record to transform
+     * @param mappingFiles
+     *            stylesheets to apply, in the order given
+     * @return the transformed record
+     */
+    private String transformXmlByXslt(String xmlString, List<File> mappingFiles) throws IOException {
         try {
             StringWriter stringWriter = new StringWriter();
-            TransformerFactory transformerFactory = new TransformerFactoryImpl();
-            transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
-            System.setProperty("http.agent", "Chrome");
-            Transformer xsltTransformer = transformerFactory.newTransformer(new StreamSource(stylesheetFile));
             TransformerHandler handler
                     = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
             handler.setResult(new StreamResult(stringWriter));
             Result saxResult = new SAXResult(handler);
+            for (int i = mappingFiles.size() - 1; i > 0; i--) {
+                TransformerHandler stylesheetHandler = transformerFactory
+                        .newTransformerHandler(getTemplates(mappingFiles.get(i)));
+                stylesheetHandler.setResult(saxResult);
+                saxResult = new SAXResult(stylesheetHandler);
+            }
+            Transformer xsltTransformer = getTemplates(mappingFiles.get(0)).newTransformer();
             xmlString = removeBom(xmlString);
             SAXSource saxSource = new SAXSource(new InputSource(new StringReader(xmlString)));
             xsltTransformer.transform(saxSource, saxResult);
@@ -129,6 +139,58 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         }
     }
 
+    /**
+     * Returns the compiled stylesheet of a mapping file. Compiled stylesheets
+     * are cached and compiled again only if the mapping file has been
+     * modified.
+     *
+     * @param mappingFile
+     *            mapping file
+     * @return the compiled stylesheet
+     */
+    static Templates getTemplates(File mappingFile) throws IOException, TransformerException {
+        Path path = mappingFile.toPath().toAbsolutePath();
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        long size = Files.size(path);
+        CompiledStylesheet compiledStylesheet = compiledStylesheets.get(path);
+        if (Objects.isNull(compiledStylesheet) || !compiledStylesheet.isUpToDate(lastModified, size)) {
+            synchronized (compiledStylesheets) {
+                compiledStylesheet = compiledStylesheets.get(path);
+                if (Objects.isNull(compiledStylesheet) || !compiledStylesheet.isUpToDate(lastModified, size)) {
+                    try (InputStream fileStream = Files.newInputStream(path)) {
+                        compiledStylesheet = new CompiledStylesheet(
+                                transformerFactory.newTemplates(new StreamSource(fileStream)), lastModified, size);
+                    }
+                    compiledStylesheets.put(path, compiledStylesheet);
+                }
+            }
+        }
+        return compiledStylesheet.templates;
+    }
+
+    private static TransformerFactoryImpl createTransformerFactory() {
+        TransformerFactoryImpl transformerFactory = new TransformerFactoryImpl();
+        transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
+        System.setProperty("http.agent", "Chrome");
+        return transformerFactory;
+    }
+
+    private static class CompiledStylesheet {
+        private final Templates templates;
+        private final long lastModified;
+        private final long size;
+
+        CompiledStylesheet(Templates templates, long lastModified, long size) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        boolean isUpToDate(long lastModified, long size) {
+            return this.lastModified == lastModified && this.size == size;
+        }
+    }
+
     /**
      * Remove potential BOM character because XML parser do not handle it properly.
      * @param xmlStringWithBom String with potential BOM character
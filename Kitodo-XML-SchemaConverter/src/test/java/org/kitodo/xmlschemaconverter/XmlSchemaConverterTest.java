@@ -15,6 +15,9 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -25,6 +28,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,10 +36,12 @@ import java.util.Objects;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Templates;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.kitodo.api.schemaconverter.DataRecord;
 import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
@@ -154,6 +160,17 @@ public class XmlSchemaConverterTest {
         assertEquals("Test-Shelflocator", shelfmarksource, "shelfmarksource after conversion is wrong!");
     }
 
+    @Test
+    public void shouldCacheCompiledStylesheetUntilModified(@TempDir Path tempDir) throws Exception {
+        File xsltFile = Files.copy(getXsltFiles(MetadataFormat.MODS).get(0).toPath(), tempDir.resolve("mods.xsl"))
+                .toFile();
+        Templates templates = XMLSchemaConverter.getTemplates(xsltFile);
+        assertSame(templates, XMLSchemaConverter.getTemplates(xsltFile), "Stylesheet should be taken from the cache");
+
+        assertTrue(xsltFile.setLastModified(xsltFile.lastModified() - 60_000));
+        assertNotSame(templates, XMLSchemaConverter.getTemplates(xsltFile), "Modified stylesheet should be compiled again");
+    }
+
     private Document parseInputStreamToDocument(String inputString) throws ParserConfigurationException,
             IOException, SAXException {
         try (InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8))) {
@@ -213,6 +213,52 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Whether all derivatives of an image are generated by reading the image
+     * only once. Boolean, defaults to {@code false}.
+     */
+    IMAGE_DERIVATIVES_IN_ONE_PASS(new Parameter<>("image.derivativesInOnePass", false)),
+
+    /**
+     * Number of images generated at the same time. {@code 0} uses the number
+     * recommended by the image management module. Integer, defaults to
+     * {@code 1}.
+     */
+    IMAGE_GENERATION_THREADS(new Parameter<>("image.generationThreads", 1)),
+
+    /**
+     * Whether the metadata editor scales images from the generator source
+     * folder on demand if the preview or media view image is missing.
+     * Boolean, defaults to {@code false}.
+     */
+    IMAGE_SCALE_ON_DEMAND(new Parameter<>("image.scaleOnDemand", false)),
+
+    /**
+     * Directory in which images scaled on demand are kept.
+     */
+    IMAGE_SCALED_CACHE_DIRECTORY(new Parameter<>("image.scaledCache.directory", "/usr/local/kitodo/temp/scaled/")),
+
+    /**
+     * Maximum size of the directory of images scaled on demand, in megabytes.
+     * When it is exceeded, the least recently used images are deleted.
+     * Integer, defaults to {@code 1024}.
+     */
+    IMAGE_SCALED_CACHE_SIZE(new Parameter<>("image.scaledCache.size", 1024)),
+
+    /**
+     * Number of following and preceding pages of the gallery stripe whose
+     * media view is scaled in advance when a page is selected. Integer,
+     * defaults to {@code 2}.
+     */
+    IMAGE_SCALED_CACHE_PREFETCH(new Parameter<>("image.scaledCache.prefetch", 2)),
+
+    /**
+     * Maximum number of images scaled on demand at the same time. Further
+     * requests wait until an image is finished. Integer, defaults to
+     * {@code 2}.
+     */
+    IMAGE_SCALED_CACHE_THREADS(new Parameter<>("image.scaledCache.threads", 2)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -421,6 +467,37 @@ public enum ParameterCore implements ParameterInterface {
      */
     TASK_MANAGER_AUTORUN_LIMIT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit")),
 
+    /**
+     * Sets the limit of export tasks run in parallel, in addition to the
+     * overall limit. Integer, defaults to no separate limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_EXPORT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.export")),
+
+    /**
+     * Sets the limit of image generation tasks run in parallel, in addition to
+     * the overall limit. Integer, defaults to no separate limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_IMAGE_GENERATION(
+            new Parameter<UndefinedParameter>("taskManager.autoRunLimit.imageGeneration")),
+
+    /**
+     * Sets the limit of migration tasks run in parallel, in addition to the
+     * overall limit. Integer, defaults to no separate limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_MIGRATION(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.migration")),
+
+    /**
+     * Sets the limit of other tasks run in parallel, in addition to the overall
+     * limit. Integer, defaults to no separate limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_OTHER(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.other")),
+
+    /**
+     * Sets the limit of script tasks run in parallel, in addition to the
+     * overall limit. Integer, defaults to no separate limit.
+     */
+    TASK_MANAGER_AUTORUN_LIMIT_SCRIPT(new Parameter<UndefinedParameter>("taskManager.autoRunLimit.script")),
+
     /**
      * Sets the time interval between two inspections of the task list. Long,
      * defaults to 2000 ms.
@@ -428,6 +505,12 @@ public enum ParameterCore implements ParameterInterface {
     TASK_MANAGER_INSPECTION_INTERVAL_MILLIS(new Parameter<>("taskManager.inspectionIntervalMillis",
             TimeUnit.MILLISECONDS.convert(2, TimeUnit.SECONDS))),
 
+    /**
+     * Sets the maximum number of finished and failed jobs to keep in the
+     * database. Integer, defaults to 1000.
+     */
+    TASK_MANAGER_KEEP_JOBS(new Parameter<>("taskManager.keepJobs.count", 1000)),
+
     /**
      * Sets the maximum number of failed threads to keep around in RAM. Keep in mind
      * that zombie processes still occupy all their resources and aren't available
@@ -462,6 +545,13 @@ public enum ParameterCore implements ParameterInterface {
     TASK_MANAGER_KEEP_SUCCESSFUL_MINS(new Parameter<>("taskManager.keepThreads.successful.minutes",
             TimeUnit.MINUTES.convert(20, TimeUnit.MINUTES))),
 
+    /**
+     * Sets the order in which waiting tasks of the resource pools are started.
+     * String list, defaults to script, imageGeneration, export, migration,
+     * other. Pools not listed are started last.
+     */
+    TASK_MANAGER_POOL_PRIORITY(new Parameter<UndefinedParameter>("taskManager.poolPriority")),
+
     /**
      * Sets whether or not to show an option to "add a sample task" in the task
      * manager. This is if for anything at all—useful for debugging or demonstration
@@ -469,6 +559,24 @@ public enum ParameterCore implements ParameterInterface {
      */
     TASK_MANAGER_SHOW_SAMPLE_TASK(new Parameter<>("taskManager.showSampleTask", false)),
 
+    /*
+     * Kitodo Script
+     */
+
+    /**
+     * Sets the number of processes from which on the actions addData,
+     * overwriteData, deleteData and copyDataToChildren are executed as a job in
+     * the task manager instead of in the request of the user. Integer, defaults
+     * to 100.
+     */
+    KITODO_SCRIPT_BACKGROUND_MINIMUM_PROCESSES(new Parameter<>("kitodoScript.background.minimumProcesses", 100)),
+
+    /**
+     * Sets the number of processes a script job in the task manager works on in
+     * parallel. Integer, defaults to the number of available cores.
+     */
+    KITODO_SCRIPT_THREADS(new Parameter<UndefinedParameter>("kitodoScript.threads")),
+
     /*
      * Export to presentation module
      */
@@ -641,6 +749,12 @@ public enum ParameterCore implements ParameterInterface {
     ELASTICSEARCH_ATTEMPTS(new Parameter<>("elasticsearch.attempts", 10)),
     ELASTICSEARCH_TIME_BETWEEN_ATTEMPTS(new Parameter<>("elasticsearch.timeBetweenAttempts", 2000)),
     ELASTICSEARCH_THREADS(new Parameter<>("elasticsearch.threads", 4)),
+    ELASTICSEARCH_ID_RANGE_PAGING(new Parameter<>("elasticsearch.idRangePaging", true)),
+    ELASTICSEARCH_INDEX_OUTBOX(new Parameter<>("elasticsearch.indexOutbox", false)),
+    ELASTICSEARCH_INDEX_OUTBOX_INTERVAL_MILLIS(new Parameter<>("elasticsearch.indexOutbox.intervalMillis", 1000L)),
+    ELASTICSEARCH_INDEX_OUTBOX_ATTEMPTS(new Parameter<>("elasticsearch.indexOutbox.attempts", 10)),
+    ELASTICSEARCH_INDEX_OUTBOX_MAX_BACKOFF_MILLIS(
+            new Parameter<>("elasticsearch.indexOutbox.maxBackoffMillis", 300000L)),
 
     /*
      * Security properties
@@ -667,7 +781,13 @@ public enum ParameterCore implements ParameterInterface {
      * Optional parameter controlling whether the import of all elements from an uploaded EAD XML file should be
      * canceled when an exception occurs or not. Defaults to 'false'.
      */
-    STOP_EAD_COLLECTION_IMPORT_ON_EXCEPTION(new Parameter<>("stopEadCollectionImportOnException", false));
+    STOP_EAD_COLLECTION_IMPORT_ON_EXCEPTION(new Parameter<>("stopEadCollectionImportOnException", false)),
+
+    /*
+     * Optional parameter controlling how many process directories and metadata files are written at the same time when
+     * many processes are created at once, e.g. by the mass import. Default value is 4.
+     */
+    PROCESS_CREATION_THREADS(new Parameter<>("processCreationThreads", 4));
 
     private final Parameter<?> parameter;
 
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -43,7 +44,6 @@ import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMet
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.helper.tasks.ExportDmsTask;
-import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.helper.tasks.TaskSitter;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
@@ -132,7 +132,12 @@ public class ExportDms extends ExportMets {
     @Override
     public boolean startExport(Process process, URI unused) {
         if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ASYNCHRONOUS_AUTOMATIC_EXPORT)) {
-            TaskManager.addTask(new ExportDmsTask(this, process));
+            try {
+                ServiceManager.getBackgroundJobService().queueExportDms(process, workFlowTask, exportWithImages);
+            } catch (DAOException e) {
+                Helper.setErrorMessage(ERROR_EXPORT, new Object[] {process.getTitle() }, logger, e);
+                return false;
+            }
             Helper.setMessage(TaskSitter.isAutoRunningThreads() ? "DMSExportByThread" : "DMSExportThreadCreated",
                 process.getTitle());
             return false;
@@ -226,18 +231,25 @@ public class ExportDms extends ExportMets {
         String processTitle = Helper.getNormalizedTitle(process.getTitle());
         URI exportFolder = new File(hotfolder.getPath(), processTitle).toURI();
 
-        // delete old export folder
-        if (!fileService.delete(exportFolder)) {
-            String message = Helper.getTranslation(ERROR_EXPORT, processTitle);
-            String description = Helper.getTranslation(EXPORT_DIR_DELETE, exportFolder.getPath());
-            Helper.setErrorMessage(message, description);
-            if (Objects.nonNull(exportDmsTask)) {
-                exportDmsTask.setException(new ExportException(message + ": " + description));
+        // a resumed export keeps the folders it has already copied
+        if (getCheckpoint() > 0 && fileService.fileExist(exportFolder)) {
+            logger.info("Resuming export of {} after {} copied folders", processTitle, getCheckpoint());
+        } else {
+            setCheckpoint(0);
+
+            // delete old export folder
+            if (!fileService.delete(exportFolder)) {
+                String message = Helper.getTranslation(ERROR_EXPORT, processTitle);
+                String description = Helper.getTranslation(EXPORT_DIR_DELETE, exportFolder.getPath());
+                Helper.setErrorMessage(message, description);
+                if (Objects.nonNull(exportDmsTask)) {
+                    exportDmsTask.setException(new ExportException(message + ": " + description));
+                }
+                return false;
             }
-            return false;
-        }
 
-        fileService.createDirectory(hotfolder, processTitle);
+            fileService.createDirectory(hotfolder, processTitle);
+        }
 
         if (Objects.nonNull(exportDmsTask)) {
             exportDmsTask.setProgress(1);
@@ -419,7 +431,10 @@ public class ExportDms extends ExportMets {
     }
 
     /**
-     * Starts copying all directories configured as export folder.
+     * Starts copying all directories configured as export folder. The folders
+     * are copied in the order of their IDs. After each folder, a checkpoint is
+     * recorded; the folders before the checkpoint of a resumed export are not
+     * copied again.
      *
      * @param process
      *            object
@@ -431,16 +446,17 @@ public class ExportDms extends ExportMets {
      *
      */
     private void directoryDownload(Process process, URI destination) throws IOException, InterruptedException, URISyntaxException {
-        Collection<Subfolder> processDirs = process.getProject().getFolders().parallelStream()
-                .filter(Folder::isCopyFolder).map(folder -> new Subfolder(process, folder))
-                .collect(Collectors.toList());
+        List<Subfolder> processDirs = process.getProject().getFolders().stream()
+                .filter(Folder::isCopyFolder).sorted(Comparator.comparing(Folder::getId))
+                .map(folder -> new Subfolder(process, folder)).collect(Collectors.toList());
         VariableReplacer variableReplacer = new VariableReplacer(null, process, null);
 
         String uriToDestination = destination.toString();
         if (!uriToDestination.endsWith("/")) {
             uriToDestination = uriToDestination.concat("/");
         }
-        for (Subfolder processDir : processDirs) {
+        for (int step = getCheckpoint(); step < processDirs.size(); step++) {
+            Subfolder processDir = processDirs.get(step);
             URI dstDir = new URI(uriToDestination
                     + variableReplacer.replace(processDir.getFolder().getRelativePath()));
             fileService.createDirectories(dstDir);
@@ -459,6 +475,17 @@ public class ExportDms extends ExportMets {
                     }
                 }
             }
+            setCheckpoint(step + 1);
+        }
+    }
+
+    private int getCheckpoint() {
+        return exportDmsTask instanceof ExportDmsTask ? ((ExportDmsTask) exportDmsTask).getCheckpoint() : 0;
+    }
+
+    private void setCheckpoint(int checkpoint) {
+        if (exportDmsTask instanceof ExportDmsTask) {
+            ((ExportDmsTask) exportDmsTask).setCheckpoint(checkpoint);
         }
     }
 }
@@ -12,12 +12,14 @@
 package org.kitodo.production.forms;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
@@ -53,13 +55,14 @@ public class DeleteProcessDialog {
      * Delete with children processes.
      */
     public void deleteWithChildren() {
-        List<Process> children = new CopyOnWriteArrayList<>(process.getChildren());
+        List<Integer> processIds = new ArrayList<>();
+        for (Process child : process.getChildren()) {
+            processIds.add(child.getId());
+        }
+        processIds.add(process.getId());
         try {
-            for (Process child : children) {
-                ProcessService.deleteProcess(child);
-            }
-            ProcessService.deleteProcess(process);
-        } catch (DataException | IOException e) {
+            ServiceManager.getProcessService().deleteProcesses(processIds);
+        } catch (DAOException | DataException | IOException e) {
             Helper.setErrorMessage(ERROR_DELETING, new Object[] {ObjectType.PROCESS.getTranslationSingular() },
                     logger, e);
         }
@@ -33,6 +33,7 @@ import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.enums.IndexStates;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.cache.CacheStatistics;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.index.IndexingService;
 import org.omnifaces.util.Ajax;
@@ -355,6 +356,15 @@ public class IndexingForm {
         return ObjectType.NONE;
     }
 
+    /**
+     * Return the statistics of the regions of the second-level cache.
+     *
+     * @return statistics of the cache regions
+     */
+    public List<CacheStatistics> getCacheStatistics() {
+        return CacheStatistics.getAll();
+    }
+
     /**
      * Update the view.
      */
@@ -140,8 +140,7 @@ public class ProcessForm extends TemplateBaseForm {
                 .map(listColumn -> new SelectItem(listColumn, listColumn.getTitle())).toArray(SelectItem[]::new));
         customColumns.add(customColumnGroup);
 
-        selectedColumns =
-                ServiceManager.getListColumnService().getSelectedListColumnsForListAndClient("process");
+        setSelectedColumns(ServiceManager.getListColumnService().getSelectedListColumnsForListAndClient("process"));
     }
 
     /**
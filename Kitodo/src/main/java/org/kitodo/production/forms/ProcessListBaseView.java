@@ -28,6 +28,7 @@ import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
@@ -76,6 +77,21 @@ public class ProcessListBaseView extends BaseForm {
         super.setLazyDTOModel(new LazyProcessDTOModel(ServiceManager.getProcessService()));
     }
 
+    /**
+     * Set list of selected columns. Only the fields needed for these columns
+     * are loaded for the process list.
+     *
+     * @param columns
+     *            list of selected columns
+     */
+    @Override
+    public void setSelectedColumns(List<ListColumn> columns) {
+        super.setSelectedColumns(columns);
+        if (this.lazyDTOModel instanceof LazyProcessDTOModel) {
+            ((LazyProcessDTOModel) this.lazyDTOModel).setSelectedColumns(columns);
+        }
+    }
+
     /**
      * Gets excludedProcessIds.
      *
@@ -125,9 +141,11 @@ public class ProcessListBaseView extends BaseForm {
         ProcessService processService = ServiceManager.getProcessService();
         if (allSelected) {
             try {
-                this.selectedProcessesOrProcessDTOs = processService.findByQuery(processService.getQueryForFilter(
+                // only the IDs are searched, so that the number of processes is not limited by the index
+                List<Integer> ids = processService.findIdsByQuery(processService.getQueryForFilter(
                                 this.isShowClosedProcesses(), isShowInactiveProjects(), getFilter())
-                        .mustNot(processService.createSetQueryForIds(new ArrayList<>(excludedProcessIds))), false);
+                        .mustNot(processService.createSetQueryForIds(new ArrayList<>(excludedProcessIds))));
+                this.selectedProcessesOrProcessDTOs = processService.getByIds(ids);
             } catch (DataException e) {
                 logger.error(e.getMessage());
             }
@@ -368,6 +386,18 @@ public class ProcessListBaseView extends BaseForm {
         }
     }
 
+    /**
+     * Generate result set as CSV file.
+     */
+    public void generateResultAsCsv() {
+        try {
+            ServiceManager.getProcessService().generateResultAsCsv(this.filter, this.isShowClosedProcesses(),
+                    this.isShowInactiveProjects());
+        } catch (IOException e) {
+            Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultSet") }, logger, e);
+        }
+    }
+
     /**
      * Generate result as PDF.
      */
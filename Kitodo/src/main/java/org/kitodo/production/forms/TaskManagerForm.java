@@ -19,6 +19,7 @@ import javax.inject.Named;
 import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
 import org.kitodo.production.helper.tasks.TaskManager;
+import org.kitodo.production.helper.tasks.TaskPoolStatistics;
 import org.kitodo.production.helper.tasks.TaskSitter;
 
 @Named("TaskManagerForm")
@@ -45,6 +46,15 @@ public class TaskManagerForm {
         return TaskManager.getTaskList();
     }
 
+    /**
+     * Returns the number of working and waiting tasks per resource pool.
+     *
+     * @return the statistics of the resource pools
+     */
+    public List<TaskPoolStatistics> getPools() {
+        return TaskManager.getPoolStatistics();
+    }
+
     public void executeTask() {
         task.start();
     }
@@ -11,32 +11,22 @@
 
 package org.kitodo.production.forms.dataeditor;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Paths;
 import java.util.Objects;
 
-import javax.faces.context.FacesContext;
-import javax.faces.event.PhaseId;
-
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataformat.MediaPartial;
 import org.kitodo.api.dataformat.View;
 import org.kitodo.production.enums.MediaContentType;
-import org.kitodo.production.services.ServiceManager;
-import org.primefaces.model.DefaultStreamedContent;
-import org.primefaces.model.StreamedContent;
 
 /**
  * A single media content in the media gallery.
  */
 public class GalleryMediaContent {
 
-    private static final Logger logger = LogManager.getLogger(GalleryMediaContent.class);
+    /**
+     * MIME type of images scaled on demand.
+     */
+    private static final String SCALED_MIME_TYPE = "image/jpeg";
 
     /**
      * Identifier for the media content.
@@ -58,6 +48,24 @@ public class GalleryMediaContent {
 
     private final String mediaViewMimeType;
 
+    /**
+     * Image from which the preview and the media view are scaled on demand, if
+     * their files are missing.
+     */
+    private URI scaleSourceUri;
+
+    /**
+     * Width of the preview scaled on demand, or {@code 0} if the preview is
+     * not scaled on demand.
+     */
+    private int previewScaleWidth;
+
+    /**
+     * Width of the media view scaled on demand, or {@code 0} if the media view
+     * is not scaled on demand.
+     */
+    private int mediaViewScaleWidth;
+
     /**
      * Type of the current object.
      *
@@ -130,7 +138,7 @@ public class GalleryMediaContent {
      * @return the mime type of media view
      */
     public String getMediaViewMimeType() {
-        return mediaViewMimeType;
+        return mediaViewScaleWidth > 0 ? SCALED_MIME_TYPE : mediaViewMimeType;
     }
 
     /**
@@ -139,17 +147,73 @@ public class GalleryMediaContent {
      * @return the mime type of preview
      */
     public String getPreviewMimeType() {
-        return previewMimeType;
+        return previewScaleWidth > 0 ? SCALED_MIME_TYPE : previewMimeType;
+    }
+
+    /**
+     * Returns the URI of the content for the media view.
+     *
+     * @return the URI, or {@code null} if there is no media view
+     */
+    URI getMediaViewUri() {
+        return mediaViewUri;
+    }
+
+    /**
+     * Returns the URI of the content for the media preview.
+     *
+     * @return the URI, or {@code null} if there is no preview
+     */
+    URI getPreviewUri() {
+        return previewUri;
+    }
+
+    /**
+     * Lets the preview and the media view be scaled on demand from a source
+     * image, because their files are missing.
+     *
+     * @param sourceUri
+     *            absolute URI of the image to scale
+     * @param previewWidth
+     *            width of the preview, or {@code 0} if the preview is not to be
+     *            scaled
+     * @param mediaViewWidth
+     *            width of the media view, or {@code 0} if the media view is not
+     *            to be scaled
+     */
+    void scaleOnDemand(URI sourceUri, int previewWidth, int mediaViewWidth) {
+        this.scaleSourceUri = sourceUri;
+        this.previewScaleWidth = previewWidth;
+        this.mediaViewScaleWidth = mediaViewWidth;
+    }
+
+    /**
+     * Returns the image from which the preview and the media view are scaled
+     * on demand.
+     *
+     * @return the absolute URI of the image, or {@code null}
+     */
+    URI getScaleSourceUri() {
+        return scaleSourceUri;
     }
 
     /**
-     * Returns the media content. This is the method that is called when the web browser wants to retrieve the media
-     * file itself.
+     * Returns the width of the preview scaled on demand.
      *
-     * @return a Primefaces object that handles the output of media data
+     * @return the width, or {@code 0} if the preview is not scaled on demand
      */
-    public StreamedContent getMediaViewData() {
-        return sendData(mediaViewUri, mediaViewMimeType);
+    int getPreviewScaleWidth() {
+        return previewScaleWidth;
+    }
+
+    /**
+     * Returns the width of the media view scaled on demand.
+     *
+     * @return the width, or {@code 0} if the media view is not scaled on
+     *         demand
+     */
+    int getMediaViewScaleWidth() {
+        return mediaViewScaleWidth;
     }
 
     /**
@@ -170,16 +234,6 @@ public class GalleryMediaContent {
         return view.getPhysicalDivision().getOrderlabel();
     }
 
-    /**
-     * Returns the media content of the preview media. This is the method that
-     * is called through the gallery panel using a media ID.
-     *
-     * @return a Primefaces object that handles the output of media data
-     */
-    StreamedContent getPreviewData() {
-        return sendData(previewUri, previewMimeType);
-    }
-
     /**
      * Indicates if there is a media view for this media. Production is able to
      * work with media files for which there is currently no adequate display
@@ -190,7 +244,7 @@ public class GalleryMediaContent {
      * @return if there is a media view for this media
      */
     public boolean isShowingInMediaView() {
-        return Objects.nonNull(mediaViewUri);
+        return Objects.nonNull(mediaViewUri) || mediaViewScaleWidth > 0;
     }
 
     /**
@@ -203,7 +257,7 @@ public class GalleryMediaContent {
      * @return if there is a media preview for this media
      */
     public boolean isShowingInPreview() {
-        return Objects.nonNull(previewUri);
+        return Objects.nonNull(previewUri) || previewScaleWidth > 0;
     }
 
     /**
@@ -237,45 +291,6 @@ public class GalleryMediaContent {
         return type.name();
     }
 
-    /**
-     * Method for output of URL-referenced media content.
-     *
-     * @param uri
-     *         internal URI of the media file to be transferred
-     * @param mimeType
-     *         the Internet MIME type of the media file
-     * @return a Primefaces object that handles the output of media data
-     */
-    private StreamedContent sendData(URI uri, String mimeType) {
-        /*
-         * During the construction of the HTML page, only an URL for the media
-         * file is generated.
-         */
-        if (FacesContext.getCurrentInstance().getCurrentPhaseId() == PhaseId.RENDER_RESPONSE) {
-            return DefaultStreamedContent.builder().build();
-        }
-
-        /*
-         * Output of media data when the browser retrieves this URL. Note that
-         * we are NOT ALLOWED TO close the InputStream at this point. Faces does
-         * that after transferring the data.
-         */
-        try {
-            InputStream viewData = ServiceManager.getFileService().read(uri);
-            return DefaultStreamedContent.builder().stream(() -> viewData).contentType(mimeType)
-                    .name(Paths.get(uri.getPath()).getFileName().toString()).contentLength(viewData.available())
-                    .build();
-        } catch (IOException e) {
-            logger.catching(e);
-            String errorpage = "<html>" + System.lineSeparator() + "<h1>Error!</h1>" + System.lineSeparator() + "<p>"
-                    + e.getClass().getSimpleName() + ": " + e.getMessage() + "</p>" + System.lineSeparator() + "</html>"
-                    + System.lineSeparator();
-            ByteArrayInputStream errorPage = new ByteArrayInputStream(errorpage.getBytes(StandardCharsets.UTF_8));
-            return DefaultStreamedContent.builder().stream(() -> errorPage).contentType("text/html")
-                    .name("errorpage.html").contentEncoding("UTF-8").build();
-        }
-    }
-
     public View getView() {
         return view;
     }
@@ -11,6 +11,7 @@
 
 package org.kitodo.production.forms.dataeditor;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -40,6 +41,8 @@ import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.MediaVariant;
 import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.View;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
@@ -52,6 +55,7 @@ import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.dataeditor.DataEditorService;
 import org.kitodo.production.services.file.FileService;
+import org.kitodo.production.services.image.ScaledImageCache;
 import org.kitodo.utils.MediaUtil;
 import org.primefaces.PrimeFaces;
 
@@ -63,6 +67,13 @@ public class GalleryPanel {
 
     private static final FileService fileService = ServiceManager.getFileService();
 
+    /**
+     * Widths of previews and media views scaled on demand, if the folder does
+     * not specify an image size.
+     */
+    private static final int DEFAULT_PREVIEW_SCALE_WIDTH = 300;
+    private static final int DEFAULT_MEDIA_VIEW_SCALE_WIDTH = 1200;
+
     // Structured media
     private static final Pattern DRAG_STRIPE_IMAGE = Pattern.compile(
             "imagePreviewForm:structuredPages:(\\d+):structureElementDataList:(\\d+):structuredPagePanel");
@@ -97,6 +108,14 @@ public class GalleryPanel {
 
     private Map<MediaContentType, Subfolder> mediaContentTypePreviewFolder = new HashMap<>();
 
+    /**
+     * Folder from which missing preview and media view images are scaled on
+     * demand, or {@code null} if images are not scaled on demand.
+     */
+    private Subfolder scaleSourceFolder;
+    private int previewScaleWidth;
+    private int mediaViewScaleWidth;
+
     private List<GalleryStripe> stripes;
 
     private String cachingUUID = "";
@@ -379,6 +398,7 @@ public class GalleryPanel {
                 MediaContentType.AUDIO);
         initMediaContentType(physicalDivisions, project.getVideoPreview(), project.getVideoMediaView(),
                 MediaContentType.VIDEO);
+        initScaleOnDemand(project);
 
         medias = new ArrayList<>(physicalDivisions.size());
         stripes = new ArrayList<>();
@@ -408,6 +428,22 @@ public class GalleryPanel {
         mediaContentTypeVariants.put(mediaContentType, galleryViewModeMediaVariant);
     }
 
+    private void initScaleOnDemand(Project project) {
+        scaleSourceFolder = null;
+        Folder generatorSource = project.getGeneratorSource();
+        if (!ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.IMAGE_SCALE_ON_DEMAND)
+                || Objects.isNull(generatorSource)) {
+            return;
+        }
+        scaleSourceFolder = new Subfolder(dataEditor.getProcess(), generatorSource);
+        previewScaleWidth = Objects.nonNull(project.getPreview())
+                ? project.getPreview().getImageSize().orElse(DEFAULT_PREVIEW_SCALE_WIDTH)
+                : 0;
+        mediaViewScaleWidth = Objects.nonNull(project.getMediaView())
+                ? project.getMediaView().getImageSize().orElse(DEFAULT_MEDIA_VIEW_SCALE_WIDTH)
+                : 0;
+    }
+
     /**
      * Recreate media list from workpiece, which provides medias in correct order after drag and drop.
      */
@@ -561,11 +597,64 @@ public class GalleryPanel {
             treeNodeId = stripeTreeNodeId + "_" + index;
         }
 
-        return new GalleryMediaContent(mediaContentType, view, canonical,
+        GalleryMediaContent galleryMediaContent = new GalleryMediaContent(mediaContentType, view, canonical,
                 Objects.nonNull(previewMediaVariant) ? previewMediaVariant.getMimeType() : null,
                 resourceListUri,
                 Objects.nonNull(mediaViewMediaVariant) ? mediaViewMediaVariant.getMimeType() : null,
                 resourceMediaViewUri, treeNodeId);
+        if (MediaContentType.IMAGE.equals(mediaContentType) && Objects.nonNull(scaleSourceFolder)
+                && Objects.nonNull(canonical)) {
+            scaleOnDemand(galleryMediaContent, resourceListUri, resourceMediaViewUri);
+        }
+        return galleryMediaContent;
+    }
+
+    /**
+     * Lets missing preview and media view images be scaled on demand from the
+     * generator source folder.
+     */
+    private void scaleOnDemand(GalleryMediaContent galleryMediaContent, URI previewUri, URI mediaViewUri) {
+        int previewWidth = previewScaleWidth > 0 && isMissing(previewUri) ? previewScaleWidth : 0;
+        int mediaViewWidth = mediaViewScaleWidth > 0 && isMissing(mediaViewUri) ? mediaViewScaleWidth : 0;
+        if (previewWidth > 0 || mediaViewWidth > 0) {
+            scaleSourceFolder.getURIIfExists(galleryMediaContent.getId()).ifPresent(
+                sourceUri -> galleryMediaContent.scaleOnDemand(sourceUri, previewWidth, mediaViewWidth));
+        }
+    }
+
+    private static boolean isMissing(URI uri) {
+        return Objects.isNull(uri) || !fileService.fileExist(uri);
+    }
+
+    /**
+     * Scales the media views of the pages around the selected page in the
+     * background, if they are scaled on demand, so that they can be shown
+     * without delay when the user moves on through the stripe.
+     */
+    private void prefetchScaledMediaViews(GalleryMediaContent selection, GalleryStripe stripe) {
+        if (Objects.isNull(scaleSourceFolder) || Objects.isNull(stripe)) {
+            return;
+        }
+        List<GalleryMediaContent> stripeMedias = stripe.getMedias();
+        int index = stripeMedias.indexOf(selection);
+        if (index < 0) {
+            return;
+        }
+        int pages = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_SCALED_CACHE_PREFETCH);
+        try {
+            ScaledImageCache scaledImageCache = ScaledImageCache.getInstance();
+            for (int distance = 1; distance <= pages; distance++) {
+                for (int neighbour : new int[] {index + distance, index - distance }) {
+                    if (neighbour >= 0 && neighbour < stripeMedias.size()
+                            && stripeMedias.get(neighbour).getMediaViewScaleWidth() > 0) {
+                        GalleryMediaContent media = stripeMedias.get(neighbour);
+                        scaledImageCache.prefetch(media.getScaleSourceUri(), media.getMediaViewScaleWidth());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot prefetch scaled images: {}", e.getMessage());
+        }
     }
 
     /**
@@ -953,6 +1042,7 @@ public class GalleryPanel {
             logicalDivision = physicalDivision.getLogicalDivisions().get(0);
         }
         dataEditor.getSelectedMedia().add(new ImmutablePair<>(physicalDivision, logicalDivision));
+        prefetchScaledMediaViews(currentSelection, parentStripe);
     }
 
     private void rangeSelect(GalleryMediaContent currentSelection, GalleryStripe parentStripe) {
@@ -12,22 +12,13 @@
 package org.kitodo.production.forms.dataeditor;
 
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.SessionScoped;
-import javax.faces.context.FacesContext;
-import javax.faces.event.PhaseId;
 import javax.inject.Named;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-import org.kitodo.production.helper.Helper;
-import org.primefaces.model.DefaultStreamedContent;
-import org.primefaces.model.StreamedContent;
-
-
 /**
  * Session scoped media provider bean.
  */
@@ -35,13 +26,15 @@ import org.primefaces.model.StreamedContent;
 @Named
 public class MediaProvider implements Serializable {
 
-    private static final Logger logger = LogManager.getLogger(MediaProvider.class);
-
-    private final Map<Integer, Map<String, GalleryMediaContent>> mediaResolver = new HashMap<>();
+    /*
+     * The media resolver is also read by the media servlet, which serves the
+     * media of a page in parallel requests, so the maps must be thread-safe.
+     */
+    private final Map<Integer, Map<String, GalleryMediaContent>> mediaResolver = new ConcurrentHashMap<>();
 
-    private static final String PREVIEW = "preview";
+    static final String PREVIEW = "preview";
 
-    private static final String MEDIA_VIEW = "mediaView";
+    static final String MEDIA_VIEW = "mediaView";
 
     /**
      * Get the media resolver.
@@ -49,11 +42,23 @@ public class MediaProvider implements Serializable {
      * @return value of media resolver
      */
     public Map<String, GalleryMediaContent> getMediaResolver(int processId) {
-        if (!mediaResolver.containsKey(processId)) {
-            mediaResolver.put(processId, new HashMap<>());
+        return mediaResolver.computeIfAbsent(processId, id -> new ConcurrentHashMap<>());
+    }
 
-        }
-        return mediaResolver.get(processId);
+    /**
+     * Returns the media content of a process registered with the media
+     * resolver, without adding an entry for the process.
+     *
+     * @param processId
+     *            ID of the process
+     * @param mediaId
+     *            ID of the media content
+     * @return the media content, or {@code null} if there is none
+     */
+    GalleryMediaContent findMediaContent(int processId, String mediaId) {
+        Map<String, GalleryMediaContent> processMediaContent = mediaResolver.get(processId);
+        return Objects.nonNull(processMediaContent) && Objects.nonNull(mediaId) ? processMediaContent.get(mediaId)
+                : null;
     }
 
     /**
@@ -76,21 +81,37 @@ public class MediaProvider implements Serializable {
     }
 
     /**
-     * Returns the media content of the preview media.
+     * Returns the URL under which the media servlet serves the preview of a
+     * media.
      *
-     * @return preview of media content as PrimeFaces StreamedContent
+     * @param processId
+     *            ID of the process
+     * @param mediaId
+     *            ID of the media content
+     * @param version
+     *            changes when the media of the process are loaded anew, so
+     *            that no outdated media are taken from the browser cache
+     * @return the URL, relative to the context root
      */
-    public StreamedContent getPreviewData() {
-        return getMediaContent(PREVIEW);
+    public String getPreviewUrl(int processId, String mediaId, String version) {
+        return MediaServlet.createUrl(PREVIEW, processId, mediaId, version);
     }
 
     /**
-     * Returns the media content of the media view.
+     * Returns the URL under which the media servlet serves the media view of a
+     * media.
      *
-     * @return media view of media content as PrimeFaces StreamedContent
+     * @param processId
+     *            ID of the process
+     * @param mediaId
+     *            ID of the media content
+     * @param version
+     *            changes when the media of the process are loaded anew, so
+     *            that no outdated media are taken from the browser cache
+     * @return the URL, relative to the context root
      */
-    public StreamedContent getMediaView() {
-        return getMediaContent(MEDIA_VIEW);
+    public String getMediaViewUrl(int processId, String mediaId, String version) {
+        return MediaServlet.createUrl(MEDIA_VIEW, processId, mediaId, version);
     }
 
     /**
@@ -115,34 +136,4 @@ public class MediaProvider implements Serializable {
         return Objects.nonNull(galleryMediaContent) && galleryMediaContent.isShowingInMediaView();
     }
 
-    private StreamedContent getMediaContent(String mediaVariant) {
-        FacesContext context = FacesContext.getCurrentInstance();
-        if (context.getCurrentPhaseId() != PhaseId.RENDER_RESPONSE) {
-            String processIdString = context.getExternalContext().getRequestParameterMap().get("process");
-            try {
-                int processId = Integer.parseInt(processIdString);
-                if (mediaResolver.containsKey(processId)) {
-                    String id = context.getExternalContext().getRequestParameterMap().get("mediaId");
-                    Map<String, GalleryMediaContent> processPreviewData = mediaResolver.get(processId);
-                    GalleryMediaContent mediaContent = processPreviewData.get(id);
-                    if (Objects.nonNull(mediaContent)) {
-                        logger.trace("Serving image request {}", id);
-                        if (PREVIEW.equals(mediaVariant)) {
-                            return mediaContent.getPreviewData();
-                        }
-                        if (MEDIA_VIEW.equals(mediaVariant)) {
-                            return mediaContent.getMediaViewData();
-                        }
-                        logger.error("Error: Unknown media variant '" + mediaVariant + "'");
-                    }
-                    logger.debug("Cannot serve image request, mediaId = {}", id);
-                }
-                logger.debug("Media resolver does not contain media content for process with ID {}", processId);
-            } catch (NumberFormatException e) {
-                Helper.setErrorMessage("Process ID '" + processIdString + "' is not numeric!");
-            }
-        }
-        return DefaultStreamedContent.builder().build();
-    }
-
 }
@@ -0,0 +1,186 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.image.ScaledImageCache;
+import org.omnifaces.servlet.FileServlet;
+
+/**
+ * Serves the media of the metadata editor outside of the JSF life cycle, so
+ * that the web browser can load them in parallel and keep them in its cache.
+ * The responses carry {@code ETag}, {@code Last-Modified} and
+ * {@code Cache-Control} headers, conditional requests are answered with
+ * {@code 304 Not Modified}, and range requests are supported for seeking in
+ * audio and video.
+ *
+ * <p>Only media which the metadata editor of the current session has
+ * registered with the {@link MediaProvider} are served. Images whose preview
+ * or media view file is missing are scaled on demand, if so configured; the
+ * scaled image is pinned in the cache until the response is finished. The
+ * URL has the form
+ * {@code /media/<variant>?process=<id>&mediaId=<id>&sessionId=<version>},
+ * where the variant is either {@code preview} or {@code mediaView}.
+ */
+@WebServlet(urlPatterns = MediaServlet.PATH + "/*")
+public class MediaServlet extends FileServlet {
+    private static final Logger logger = LogManager.getLogger(MediaServlet.class);
+
+    private static final long serialVersionUID = 1L;
+
+    static final String PATH = "/media";
+
+    private static final String PROCESS_PARAMETER = "process";
+    private static final String MEDIA_ID_PARAMETER = "mediaId";
+    private static final String VERSION_PARAMETER = "sessionId";
+
+    /**
+     * Request attribute holding the scaled image pinned for the request.
+     */
+    private static final String PINNED_IMAGE_ATTRIBUTE = MediaServlet.class.getName() + ".pinnedImage";
+
+    /**
+     * Time for which the web browser may use the media without asking again.
+     * The URL of the media changes when the media of a process are loaded
+     * anew in the metadata editor.
+     */
+    private static final long EXPIRE_TIME_IN_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    @Inject
+    private transient MediaProvider mediaProvider;
+
+    /**
+     * Creates the URL of a media.
+     *
+     * @param variant
+     *            media variant, either {@code preview} or {@code mediaView}
+     * @param processId
+     *            ID of the process
+     * @param mediaId
+     *            ID of the media content
+     * @param version
+     *            changes when the media of the process are loaded anew
+     * @return the URL, relative to the context root
+     */
+    static String createUrl(String variant, int processId, String mediaId, String version) {
+        return PATH + '/' + variant + '?' + PROCESS_PARAMETER + '=' + processId + '&' + MEDIA_ID_PARAMETER + '='
+                + URLEncoder.encode(Objects.toString(mediaId, ""), StandardCharsets.UTF_8) + '&'
+                + VERSION_PARAMETER + '=' + URLEncoder.encode(Objects.toString(version, ""), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        try {
+            super.service(request, response);
+        } finally {
+            Object pinnedImage = request.getAttribute(PINNED_IMAGE_ATTRIBUTE);
+            if (pinnedImage instanceof Path) {
+                ScaledImageCache.getInstance().release((Path) pinnedImage);
+            }
+        }
+    }
+
+    @Override
+    protected File getFile(HttpServletRequest request) {
+        GalleryMediaContent mediaContent = getMediaContent(request);
+        String variant = Objects.toString(request.getPathInfo(), "");
+        if (Objects.nonNull(mediaContent)) {
+            if (variant.equals('/' + MediaProvider.PREVIEW)) {
+                return getFile(request, mediaContent.getPreviewUri(), mediaContent,
+                    mediaContent.getPreviewScaleWidth());
+            }
+            if (variant.equals('/' + MediaProvider.MEDIA_VIEW)) {
+                return getFile(request, mediaContent.getMediaViewUri(), mediaContent,
+                    mediaContent.getMediaViewScaleWidth());
+            }
+        }
+        logger.debug("Cannot serve media request {}?{}", request.getRequestURI(), request.getQueryString());
+        return null;
+    }
+
+    private File getFile(HttpServletRequest request, URI uri, GalleryMediaContent mediaContent, int scaleWidth) {
+        if (scaleWidth > 0) {
+            Object pinnedImage = request.getAttribute(PINNED_IMAGE_ATTRIBUTE);
+            if (pinnedImage instanceof Path) {
+                return ((Path) pinnedImage).toFile();
+            }
+            try {
+                Path scaledImage = ScaledImageCache.getInstance().pinScaledImage(mediaContent.getScaleSourceUri(),
+                    scaleWidth);
+                request.setAttribute(PINNED_IMAGE_ATTRIBUTE, scaledImage);
+                return scaledImage.toFile();
+            } catch (IOException e) {
+                logger.warn("Cannot scale {}: {}", mediaContent.getScaleSourceUri(), e.getMessage());
+                return null;
+            }
+        }
+        if (Objects.isNull(uri)) {
+            return null;
+        }
+        File file = ServiceManager.getFileService().getFile(uri);
+        return file.isFile() ? file : null;
+    }
+
+    @Override
+    protected String getContentType(HttpServletRequest request, File file) {
+        GalleryMediaContent mediaContent = getMediaContent(request);
+        if (Objects.nonNull(mediaContent)) {
+            String mimeType = isPreview(request) ? mediaContent.getPreviewMimeType()
+                    : mediaContent.getMediaViewMimeType();
+            if (Objects.nonNull(mimeType)) {
+                return mimeType;
+            }
+        }
+        return super.getContentType(request, file);
+    }
+
+    @Override
+    protected long getExpireTime(HttpServletRequest request, File file) {
+        return EXPIRE_TIME_IN_SECONDS;
+    }
+
+    @Override
+    protected boolean isAttachment(HttpServletRequest request, String contentType) {
+        return false;
+    }
+
+    private GalleryMediaContent getMediaContent(HttpServletRequest request) {
+        try {
+            int processId = Integer.parseInt(request.getParameter(PROCESS_PARAMETER));
+            return mediaProvider.findMediaContent(processId, request.getParameter(MEDIA_ID_PARAMETER));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isPreview(HttpServletRequest request) {
+        return Objects.equals(request.getPathInfo(), '/' + MediaProvider.PREVIEW);
+    }
+}
@@ -38,7 +38,6 @@ import org.kitodo.production.forms.BaseForm;
 import org.kitodo.production.forms.CsvRecord;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.data.ImportService;
 import org.kitodo.production.services.data.MassImportService;
 import org.primefaces.PrimeFaces;
 import org.primefaces.event.FileUploadEvent;
@@ -198,18 +197,10 @@ public class MassImportForm extends BaseForm {
      * @param processMetadata Map containing record IDs as keys and preset metadata lists as values
      */
     private void importRecords(Map<String, Map<String, List<String>>> processMetadata) {
-        ImportService importService = ServiceManager.getImportService();
         PrimeFaces.current().ajax().update("massImportProgressDialog");
-        for (Map.Entry<String, Map<String, List<String>>> entry : processMetadata.entrySet()) {
-            try {
-                importService.importProcess(entry.getKey(), projectId, templateId, importConfiguration,
-                        entry.getValue());
-                importSuccessMap.put(entry.getKey(), null);
-            } catch (ImportException e) {
-                importSuccessMap.put(entry.getKey(), e.getLocalizedMessage());
-            }
-            PrimeFaces.current().ajax().update("massImportProgressDialog");
-        }
+        ServiceManager.getImportService().importProcesses(processMetadata, projectId, templateId,
+            importConfiguration, importSuccessMap,
+            () -> PrimeFaces.current().ajax().update("massImportProgressDialog"));
     }
 
     /**
@@ -13,6 +13,7 @@ package org.kitodo.production.helper;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -61,14 +62,22 @@ public class IndexWorker implements Runnable {
             int attempt = 1;
             while (attempt < maxAttempts) {
                 try {
-                    int offset = nextBatch * batchSize;
-                    logger.info("index " + objectType.toString() + " with offset " + offset + " and attempt " 
-                        + attempt + "/" + maxAttempts);
-
-                    if (indexAllObjects) {
-                        indexObjects(searchService.getAll(offset, batchSize));
+                    if (indexWorkerStatus.isIdRangePaging()) {
+                        Integer fromId = indexWorkerStatus.getFromId(nextBatch);
+                        Integer toId = indexWorkerStatus.getToId(nextBatch);
+                        logger.info("index " + objectType.toString() + " with ids from " + fromId + " to "
+                            + (Objects.nonNull(toId) ? toId : "end") + " and attempt " + attempt + "/" + maxAttempts);
+                        indexObjects(searchService.getAllInIdRange(fromId, toId, !indexAllObjects));
                     } else {
-                        indexObjects(searchService.getAllNotIndexed(offset, batchSize));
+                        int offset = nextBatch * batchSize;
+                        logger.info("index " + objectType.toString() + " with offset " + offset + " and attempt "
+                            + attempt + "/" + maxAttempts);
+
+                        if (indexAllObjects) {
+                            indexObjects(searchService.getAll(offset, batchSize));
+                        } else {
+                            indexObjects(searchService.getAllNotIndexed(offset, batchSize));
+                        }
                     }
 
                     break;
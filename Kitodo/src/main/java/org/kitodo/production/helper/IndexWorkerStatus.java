@@ -11,6 +11,9 @@
 
 package org.kitodo.production.helper;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -24,6 +27,12 @@ public class IndexWorkerStatus {
      */
     private final Integer maxBatch;
 
+    /**
+     * Stores the first id of every batch if batches are determined by id
+     * ranges instead of offsets, otherwise null.
+     */
+    private final List<Integer> batchStartIds;
+
     /**
      * Stores the number of the next batch that needs to be indexed.
      */
@@ -46,6 +55,19 @@ public class IndexWorkerStatus {
      */
     public IndexWorkerStatus(Integer maxBatch) {
         this.maxBatch = maxBatch;
+        this.batchStartIds = null;
+    }
+
+    /**
+     * Initialize index worker status for batches determined by id ranges. Batch
+     * number n covers all ids from the n-th start id up to (excluding) the
+     * next start id.
+     *
+     * @param batchStartIds the ascending first id of every batch
+     */
+    public IndexWorkerStatus(List<Integer> batchStartIds) {
+        this.maxBatch = batchStartIds.size();
+        this.batchStartIds = Collections.unmodifiableList(batchStartIds);
     }
 
     /**
@@ -57,6 +79,35 @@ public class IndexWorkerStatus {
         return this.maxBatch;
     }
 
+    /**
+     * Returns whether batches are determined by id ranges.
+     *
+     * @return true if batches are determined by id ranges, false if by offsets
+     */
+    public boolean isIdRangePaging() {
+        return Objects.nonNull(batchStartIds);
+    }
+
+    /**
+     * Returns the lowest id (inclusive) of the given batch.
+     *
+     * @param batch the batch number
+     * @return the first id of the batch
+     */
+    public Integer getFromId(int batch) {
+        return batchStartIds.get(batch);
+    }
+
+    /**
+     * Returns the upper id bound (exclusive) of the given batch.
+     *
+     * @param batch the batch number
+     * @return the first id of the following batch, or null for the last batch
+     */
+    public Integer getToId(int batch) {
+        return batch + 1 < batchStartIds.size() ? batchStartIds.get(batch + 1) : null;
+    }
+
     /**
      * Access and increase next batch that needs to be indexed in a thread-safe way.
      * 
@@ -11,8 +11,23 @@
 
 package org.kitodo.production.helper;
 
-import java.util.ArrayList;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,13 +35,13 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.exceptions.DataException;
-import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
 import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.index.query.RangeQueryBuilder;
-import org.opensearch.search.sort.SortOrder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 public class SearchResultGeneration {
 
@@ -35,6 +50,43 @@ public class SearchResultGeneration {
     private boolean showInactiveProjects;
     private static final Logger logger = LogManager.getLogger(SearchResultGeneration.class);
 
+    /**
+     * Number of processes read from the index with one request.
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * Number of rows of a workbook kept in memory before they are written to
+     * a temporary file.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    /**
+     * Fields of the index documents which are exported. All other fields are
+     * not transferred from the index.
+     */
+    private static final FetchSourceContext EXPORTED_FIELDS = new FetchSourceContext(true,
+            new String[] {ProcessTypeField.TITLE.getKey(), ProcessTypeField.CREATION_DATE.getKey(),
+                ProcessTypeField.NUMBER_OF_IMAGES.getKey(), ProcessTypeField.NUMBER_OF_STRUCTURES.getKey(),
+                ProcessTypeField.NUMBER_OF_METADATA.getKey(), ProcessTypeField.PROJECT_TITLE.getKey(),
+                ProcessTypeField.SORT_HELPER_STATUS.getKey() }, null);
+
+    /**
+     * Receives the rows of the search result one after the other.
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Object[] values) throws IOException;
+    }
+
+    /**
+     * Is notified when all rows of a page have been passed on.
+     */
+    @FunctionalInterface
+    private interface PageListener {
+        void pageWritten() throws IOException;
+    }
+
     /**
      * Constructor.
      *
@@ -52,24 +104,96 @@ public class SearchResultGeneration {
     }
 
     /**
-     * Get result.
+     * Writes the search result as Excel workbook to an output stream. Only a
+     * few rows are kept in memory at any time, the others are buffered in a
+     * temporary file until the workbook is complete.
      *
-     * @return HSSFWorkbook
+     * @param outputStream
+     *            stream to write the workbook to
+     * @throws IOException
+     *             if the processes cannot be read or the workbook cannot be
+     *             written
      */
-    public SXSSFWorkbook getResult() {
-        return getWorkbook();
-    }
-
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
+    public void writeXlsx(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
         try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
+            fillWorkbook(workbook);
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
+    }
 
-        return processDTOS;
+    /**
+     * Writes the search result as CSV file to an output stream. The rows are
+     * written as they are read from the index, and the stream is flushed
+     * after each page, so that the download starts immediately.
+     *
+     * @param outputStream
+     *            stream to write the CSV file to
+     * @throws IOException
+     *             if the processes cannot be read or the CSV file cannot be
+     *             written
+     */
+    public void writeCsv(OutputStream outputStream) throws IOException {
+        CSVWriter csvWriter = new CSVWriter(new BufferedWriter(new OutputStreamWriter(outputStream,
+                StandardCharsets.UTF_8)));
+        csvWriter.writeNext(getHeaders());
+        writeRows(values -> {
+            String[] line = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                line[i] = Objects.toString(values[i], "");
+            }
+            csvWriter.writeNext(line);
+        }, csvWriter::flush);
+        csvWriter.flush();
+    }
+
+    /**
+     * Writes the search result as PDF file to an output stream. The table is
+     * added to the document page by page, so that only the rows of the
+     * current page are kept in memory.
+     *
+     * @param outputStream
+     *            stream to write the PDF file to
+     * @throws DocumentException
+     *             if the PDF document cannot be created
+     * @throws IOException
+     *             if the processes cannot be read or the PDF file cannot be
+     *             written
+     */
+    public void writePdf(OutputStream outputStream) throws DocumentException, IOException {
+        Document document = new Document();
+        PdfWriter.getInstance(document, outputStream);
+        document.setPageSize(new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth()));
+        document.open();
+        document.add(new Paragraph(this.filter));
+
+        String[] headers = getHeaders();
+        PdfPTable table = new PdfPTable(headers.length);
+        table.setComplete(false);
+        table.setSpacingBefore(20);
+        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
+        table.setHeaderRows(1);
+        for (String header : headers) {
+            table.addCell(header);
+        }
+        writeRows(values -> {
+            for (Object value : values) {
+                table.addCell(Objects.toString(value, ""));
+            }
+        }, () -> {
+            try {
+                document.add(table);
+            } catch (DocumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        });
+        table.setComplete(true);
+        document.add(table);
+        document.close();
     }
 
     /**
@@ -96,8 +220,7 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private SXSSFWorkbook getWorkbook() {
-        SXSSFWorkbook workbook = new SXSSFWorkbook();
+    private void fillWorkbook(SXSSFWorkbook workbook) throws IOException {
         Sheet sheet = workbook.createSheet("Search results");
 
         Row title = sheet.createRow(0);
@@ -108,68 +231,79 @@ public class SearchResultGeneration {
 
         setRowHeader(sheet);
 
-        insertRowData(sheet);
-
-        return workbook;
+        writeRows(values -> prepareRow(sheet.createRow(sheet.getLastRowNum() + 1), values), () -> {
+        });
     }
 
-    private void insertRowData(Sheet sheet) {
-        int rowCounter = 2;
-        long numberOfProcessedProcesses = 0;
-        int elasticsearchLimit = 9999;
+    /**
+     * Reads the processes matching the filter page by page, sorted by their
+     * ID, and passes them on row by row. Pages beyond the maximum result
+     * window of the index are continued after the last process of the
+     * previous page, so the number of processes is not limited. If the
+     * processes cannot be read, an IOException is thrown, so that the
+     * download is aborted instead of ending early.
+     */
+    private void writeRows(RowWriter rowWriter, PageListener pageListener) throws IOException {
+        ProcessService processService = ServiceManager.getProcessService();
+        BoolQueryBuilder query = getQueryForFilter(ObjectType.PROCESS);
+        int position = 0;
+        Object[] searchAfter = null;
+        List<Map<String, Object>> processes;
         try {
-            Long numberOfExpectedProcesses = ServiceManager.getProcessService()
-                    .count(getQueryForFilter(ObjectType.PROCESS));
-            if (numberOfExpectedProcesses > elasticsearchLimit) {
-                List<ProcessDTO> processDTOS;
-                int queriedIds = 0;
-                while (numberOfProcessedProcesses < numberOfExpectedProcesses) {
-                    RangeQueryBuilder rangeQueryBuilder = new RangeQueryBuilder(ProcessTypeField.ID.toString());
-                    rangeQueryBuilder.gte(queriedIds).lt(queriedIds + elasticsearchLimit);
-                    BoolQueryBuilder queryForFilter = getQueryForFilter(ObjectType.PROCESS);
-                    queryForFilter.must(rangeQueryBuilder);
-                    processDTOS = ServiceManager.getProcessService().findByQuery(queryForFilter,
-                        ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
-                    queriedIds += elasticsearchLimit;
-                    for (ProcessDTO processDTO : processDTOS) {
-                        prepareRow(rowCounter, sheet, processDTO);
-                        rowCounter++;
-                    }
-                    numberOfProcessedProcesses += processDTOS.size();
-                }
-            } else {
-                List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-                for (ProcessDTO processDTO : resultsWithFilter) {
-                    prepareRow(rowCounter, sheet, processDTO);
-                    rowCounter++;
+            do {
+                SearchResultPage<Map<String, Object>> page = processService.findDocumentPageByQuery(query, null,
+                    position, PAGE_SIZE, EXPORTED_FIELDS, searchAfter);
+                processes = page.getResults();
+                for (Map<String, Object> process : processes) {
+                    rowWriter.write(getRowValues(processService, process));
                 }
-            }
+                pageListener.pageWritten();
+                position += processes.size();
+                searchAfter = page.getSearchAfter();
+            } while (processes.size() == PAGE_SIZE && Objects.nonNull(searchAfter));
         } catch (DataException e) {
-            logger.error(e.getMessage(), e);
+            throw new IOException(e.getMessage(), e);
         }
     }
 
+    private static Object[] getRowValues(ProcessService processService, Map<String, Object> process)
+            throws DataException {
+        return new Object[] {ProcessTypeField.TITLE.getStringValue(process),
+            processService.getIdFromJSONObject(process), ProcessTypeField.CREATION_DATE.getStringValue(process),
+            getNumber(process, ProcessTypeField.NUMBER_OF_IMAGES),
+            getNumber(process, ProcessTypeField.NUMBER_OF_STRUCTURES),
+            getNumber(process, ProcessTypeField.NUMBER_OF_METADATA),
+            ProcessTypeField.PROJECT_TITLE.getStringValue(process),
+            ProcessTypeField.SORT_HELPER_STATUS.getStringValue(process) };
+    }
+
+    private static int getNumber(Map<String, Object> process, ProcessTypeField field) {
+        Object value = process.get(field.getKey());
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static String[] getHeaders() {
+        return new String[] {Helper.getTranslation("title"), Helper.getTranslation("ID"),
+            Helper.getTranslation("Datum"), Helper.getTranslation("CountImages"),
+            Helper.getTranslation("CountStructuralElements"), Helper.getTranslation("CountMetadata"),
+            Helper.getTranslation("Project"), Helper.getTranslation("Status") };
+    }
+
     private void setRowHeader(Sheet sheet) {
         Row rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountStructuralElements"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
+        String[] headers = getHeaders();
+        for (int i = 0; i < headers.length; i++) {
+            rowHeader.createCell(i).setCellValue(headers[i]);
+        }
     }
 
-    private void prepareRow(int rowCounter, Sheet sheet, ProcessDTO processDTO) {
-        Row row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(processDTO.getTitle());
-        row.createCell(1).setCellValue(processDTO.getId());
-        row.createCell(2).setCellValue(processDTO.getCreationDate());
-        row.createCell(3).setCellValue(processDTO.getNumberOfImages());
-        row.createCell(4).setCellValue(processDTO.getNumberOfStructures());
-        row.createCell(5).setCellValue(processDTO.getNumberOfMetadata());
-        row.createCell(6).setCellValue(processDTO.getProject().getTitle());
-        row.createCell(7).setCellValue(processDTO.getSortHelperStatus());
+    private void prepareRow(Row row, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof Number) {
+                row.createCell(i).setCellValue(((Number) values[i]).doubleValue());
+            } else {
+                row.createCell(i).setCellValue(Objects.toString(values[i], null));
+            }
+        }
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Statistics of one region of the Hibernate second-level cache. The values are
+ * read from the statistics beans which the JCache provider registers in the
+ * platform MBean server, so they can also be watched with any JMX console.
+ */
+public class CacheStatistics {
+    private static final Logger logger = LogManager.getLogger(CacheStatistics.class);
+
+    private static final String OBJECT_NAME_PATTERN = "javax.cache:type=CacheStatistics,*";
+
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final float hitPercentage;
+    private final long evictions;
+
+    private CacheStatistics(String region, long hits, long misses, float hitPercentage, long evictions) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitPercentage = hitPercentage;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns the statistics of all cache regions, sorted by name of the
+     * region. If statistics are not available, the list is empty.
+     *
+     * @return the statistics of the cache regions
+     */
+    public static List<CacheStatistics> getAll() {
+        List<CacheStatistics> statistics = new ArrayList<>();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (ObjectName name : server.queryNames(new ObjectName(OBJECT_NAME_PATTERN), null)) {
+                statistics.add(new CacheStatistics(ObjectName.unquote(name.getKeyProperty("Cache")),
+                        (Long) server.getAttribute(name, "CacheHits"),
+                        (Long) server.getAttribute(name, "CacheMisses"),
+                        (Float) server.getAttribute(name, "CacheHitPercentage"),
+                        (Long) server.getAttribute(name, "CacheEvictions")));
+            }
+        } catch (JMException | RuntimeException e) {
+            logger.warn("Cannot read cache statistics: {}", e.getMessage());
+        }
+        statistics.sort(Comparator.comparing(CacheStatistics::getRegion));
+        return statistics;
+    }
+
+    /**
+     * Returns the name of the cache region.
+     *
+     * @return the region
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the number of requests answered from the cache.
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests not answered from the cache.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the percentage of requests answered from the cache.
+     *
+     * @return the hit percentage
+     */
+    public float getHitPercentage() {
+        return hitPercentage;
+    }
+
+    /**
+     * Returns the number of entries removed from the cache because it was
+     * full.
+     *
+     * @return the evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+}
@@ -29,7 +29,6 @@ import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterfac
 import org.kitodo.data.database.beans.User;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.dataeditor.RulesetManagementService;
 
 /**
  * Connects a legacy prefs to a ruleset. This is a soldering class to keep
@@ -38,9 +37,6 @@ import org.kitodo.production.services.dataeditor.RulesetManagementService;
 public class LegacyPrefsHelper {
     private static final Logger logger = LogManager.getLogger(LegacyPrefsHelper.class);
 
-    private static final RulesetManagementService rulesetManagementService = ServiceManager
-            .getRulesetManagementService();
-
     /**
      * The ruleset accessed via this soldering class.
      */
@@ -125,9 +121,6 @@ public class LegacyPrefsHelper {
      */
     @Deprecated
     public void loadPrefs(String fileName) throws IOException {
-        File rulesetFile = new File(fileName);
-        RulesetManagementInterface loadRuleset = rulesetManagementService.getRulesetManagement();
-        loadRuleset.load(rulesetFile);
-        this.ruleset = loadRuleset;
+        this.ruleset = ServiceManager.getRulesetService().openRuleset(new File(fileName));
     }
 }
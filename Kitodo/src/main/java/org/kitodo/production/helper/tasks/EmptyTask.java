@@ -108,6 +108,18 @@ public class EmptyTask extends Thread {
      */
     private int progress = 0;
 
+    /**
+     * The field queued holds a time stamp of when the task was created, to be
+     * able to tell how long it has been waiting to be started.
+     */
+    private final long queued = System.nanoTime();
+
+    /**
+     * The field started will be initialised with a time stamp as the thread is
+     * started.
+     */
+    private Long started = null;
+
     /**
      * Default constructor. Creates an empty thread.
      *
@@ -209,6 +221,28 @@ public class EmptyTask extends Thread {
         return exception;
     }
 
+    /**
+     * Returns the resource pool of the task. Tasks of one pool are limited
+     * separately from tasks of other pools. Subclasses which need a resource
+     * that is limited should overload this method.
+     *
+     * @return the resource pool of the task
+     */
+    public TaskPool getPool() {
+        return TaskPool.OTHER;
+    }
+
+    /**
+     * Returns how long the task has been waiting to be started. If it has been
+     * started, returns how long it had been waiting.
+     *
+     * @return the waiting time of the task
+     */
+    public Duration getWaitingTime() {
+        long end = Objects.nonNull(started) ? started : System.nanoTime();
+        return Duration.of(end - queued, ChronoUnit.NANOS);
+    }
+
     /**
      * Returns the progress of the task in percent,
      * i.e. in a range from 0 to 100.
@@ -519,6 +553,7 @@ public class EmptyTask extends Thread {
     public void start() {
         TaskManager.addTaskIfMissing(this);
         setUncaughtExceptionHandler(CATCH_ALL);
+        started = System.nanoTime();
         super.start();
     }
 }
@@ -16,6 +16,7 @@ import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.data.database.beans.BackgroundJob;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -28,7 +29,10 @@ import org.kitodo.production.services.workflow.WorkflowControllerService;
  * The class ExportDmsTask accepts an {@link org.kitodo.export.ExportDms} for a
  * process and provides the ability to run the export in the background this
  * way. This is especially valuable if the export has a big load of images to
- * copy.
+ * copy. Exports queued as {@link BackgroundJob}s report back to the job when
+ * they are done. They record each export folder copied as a checkpoint, so
+ * that an interrupted export continues with the next folder when it is
+ * resumed.
  */
 public class ExportDmsTask extends EmptyTask {
 
@@ -36,6 +40,7 @@ public class ExportDmsTask extends EmptyTask {
 
     private final ExportDms exportDms;
     private final Process process;
+    private final BackgroundJob job;
 
     /**
      * ExportDmsTask constructor. Creates a ExportDmsTask.
@@ -46,9 +51,32 @@ public class ExportDmsTask extends EmptyTask {
      *            the process to export
      */
     public ExportDmsTask(ExportDms exportDms, Process process) {
+        this(exportDms, process, null);
+    }
+
+    private ExportDmsTask(ExportDms exportDms, Process process, BackgroundJob job) {
         super(process.getTitle());
         this.exportDms = exportDms;
         this.process = process;
+        this.job = job;
+    }
+
+    /**
+     * Creates the task which runs a queued export job.
+     *
+     * @param job
+     *            job taken from the queue
+     * @return the task
+     * @throws DAOException
+     *             if the process or the workflow task of the job cannot be
+     *             loaded
+     */
+    public static ExportDmsTask forJob(BackgroundJob job) throws DAOException {
+        Process process = ServiceManager.getProcessService().getById(job.getProcessId());
+        ExportDms exportDms = Objects.nonNull(job.getTaskId())
+                ? new ExportDms(ServiceManager.getTaskService().getById(job.getTaskId()))
+                : new ExportDms(job.isExportImages());
+        return new ExportDmsTask(exportDms, process, job);
     }
 
     /**
@@ -62,6 +90,7 @@ public class ExportDmsTask extends EmptyTask {
         super(source);
         this.exportDms = source.exportDms;
         this.process = source.process;
+        this.job = source.job;
     }
 
     /**
@@ -94,6 +123,65 @@ public class ExportDmsTask extends EmptyTask {
         } catch (DataException e) {
             logger.error(e.getMessage(), e);
         }
+        if (Objects.nonNull(job)) {
+            completeJob(exportSuccessful);
+        }
+    }
+
+    /**
+     * Marks the job of the export as finished or failed. If the export was
+     * interrupted to be restarted, or because the application is shutting
+     * down, the job is left working, so that it is resumed.
+     */
+    private void completeJob(boolean exportSuccessful) {
+        if (Behaviour.PREPARE_FOR_RESTART.equals(getBehaviour()) || TaskManager.isShuttingDown()) {
+            return;
+        }
+        String message = Objects.nonNull(getException()) ? getException().getMessage() : null;
+        try {
+            ServiceManager.getBackgroundJobService().complete(job, getProgress(), message, exportSuccessful);
+        } catch (DAOException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of steps of the export which are done. Exports not
+     * queued as jobs always start from the beginning.
+     *
+     * @return the number of steps done
+     */
+    public int getCheckpoint() {
+        return Objects.nonNull(job) ? job.getCheckpoint() : 0;
+    }
+
+    /**
+     * Records the number of steps of the export which are done, if the export
+     * is queued as a job. Errors are logged, as the export can go on without
+     * a checkpoint.
+     *
+     * @param checkpoint
+     *            number of steps done
+     */
+    public void setCheckpoint(int checkpoint) {
+        if (Objects.isNull(job) || job.getCheckpoint() == checkpoint) {
+            return;
+        }
+        try {
+            ServiceManager.getBackgroundJobService().saveCheckpoint(job, checkpoint);
+        } catch (DAOException e) {
+            logger.warn("Cannot save checkpoint of background job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#EXPORT} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.EXPORT;
     }
 
     /**
@@ -133,6 +133,16 @@ public class HierarchyMigrationTask extends EmptyTask {
         return Helper.getTranslation(getClass().getSimpleName().toLowerCase());
     }
 
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#MIGRATION} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.MIGRATION;
+    }
+
     /**
      * The {@code run()} method is called when the thread starts. It initializes
      * the process list (if this has not already been done), processes it and
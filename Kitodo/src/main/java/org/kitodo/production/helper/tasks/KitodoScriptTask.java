@@ -0,0 +1,210 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+package org.kitodo.production.helper.tasks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.beans.BackgroundJobItem;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.HibernateUtil;
+import org.kitodo.exceptions.KitodoScriptExecutionException;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.BackgroundJobService;
+
+/**
+ * The class KitodoScriptTask executes a Kitodo script queued as a
+ * {@link BackgroundJob} for the processes of the job. The processes are worked
+ * on in parallel by a configurable number of threads. The result for each
+ * process is recorded in the item of the process as soon as it is done, so
+ * that a job which is interrupted, either to be restarted or by the shutdown
+ * of the application, resumes with the processes not yet done. The workers
+ * close their database session after each process, so that it does not keep
+ * the processes loaded before.
+ */
+public class KitodoScriptTask extends EmptyTask {
+
+    private static final Logger logger = LogManager.getLogger(KitodoScriptTask.class);
+
+    private static final int NAME_DETAIL_MAX_LENGTH = 60;
+
+    private final BackgroundJob job;
+
+    /**
+     * Set when the task is interrupted. Processes not yet started are not
+     * started any more then.
+     */
+    private volatile boolean stopping;
+
+    private KitodoScriptTask(BackgroundJob job) {
+        super(StringUtils.abbreviate(StringUtils.normalizeSpace(job.getScript()), NAME_DETAIL_MAX_LENGTH));
+        this.job = job;
+    }
+
+    /**
+     * Creates the task which runs a queued Kitodo script job.
+     *
+     * @param job
+     *            job taken from the queue
+     * @return the task
+     */
+    static KitodoScriptTask forJob(BackgroundJob job) {
+        return new KitodoScriptTask(job);
+    }
+
+    /**
+     * Clone constructor. Provides the ability to restart a script that was
+     * previously interrupted by the user. The restarted task continues with
+     * the processes not yet done.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private KitodoScriptTask(KitodoScriptTask source) {
+        super(source);
+        this.job = source.job;
+    }
+
+    /**
+     * If the task is started, it will execute this run() method which will
+     * execute the script for all processes of the job not yet done, and then
+     * mark the job as finished, or as failed if the script has failed for any
+     * process.
+     *
+     * @see org.kitodo.production.helper.tasks.EmptyTask#run()
+     */
+    @Override
+    public void run() {
+        BackgroundJobService backgroundJobService = ServiceManager.getBackgroundJobService();
+        try {
+            List<BackgroundJobItem> items = backgroundJobService.getQueuedItems(job);
+            AtomicInteger failed = new AtomicInteger(
+                (int) backgroundJobService.countItems(job, BackgroundJobState.FAILED));
+            long done = failed.get() + backgroundJobService.countItems(job, BackgroundJobState.FINISHED);
+            AtomicLong completed = new AtomicLong(done);
+            long total = done + items.size();
+
+            ExecutorService workers = Executors.newFixedThreadPool(getThreads());
+            for (BackgroundJobItem item : items) {
+                workers.execute(() -> executeItem(item, completed, failed, total));
+            }
+            workers.shutdown();
+            awaitTermination(workers);
+
+            if (stopping && (Behaviour.PREPARE_FOR_RESTART.equals(getBehaviour()) || TaskManager.isShuttingDown())) {
+                return;
+            }
+            String message = null;
+            if (failed.get() > 0) {
+                message = "Script failed for " + failed.get() + " of " + total + " processes";
+                setException(new KitodoScriptExecutionException(message));
+            } else if (completed.get() < total) {
+                message = "Script was stopped after " + completed.get() + " of " + total + " processes";
+            }
+            backgroundJobService.complete(job, getProgress(), message, failed.get() == 0 && !stopping);
+        } catch (DAOException | RuntimeException e) {
+            setException(e);
+        }
+    }
+
+    private void executeItem(BackgroundJobItem item, AtomicLong completed, AtomicInteger failed, long total) {
+        if (stopping) {
+            return;
+        }
+        try {
+            executeAndCompleteItem(item, failed);
+        } finally {
+            HibernateUtil.closeSession();
+        }
+        setProgress((int) (100 * completed.incrementAndGet() / total));
+    }
+
+    private void executeAndCompleteItem(BackgroundJobItem item, AtomicInteger failed) {
+        String message = null;
+        try {
+            Process process = ServiceManager.getProcessService().getById(item.getProcessId());
+            setWorkDetail(process.getTitle());
+            ServiceManager.getKitodoScriptService().executeForProcess(process, job.getScript());
+        } catch (DAOException | IOException | KitodoScriptExecutionException | RuntimeException e) {
+            logger.error("Script failed for process {}: {}", item.getProcessId(), e.getMessage(), e);
+            message = StringUtils.defaultIfEmpty(e.getMessage(), e.getClass().getSimpleName());
+            failed.incrementAndGet();
+        }
+        try {
+            ServiceManager.getBackgroundJobService().completeItem(item, message, message == null);
+        } catch (DAOException e) {
+            logger.error("Cannot record result for process {}: {}", item.getProcessId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Waits until the workers are done. If the task is interrupted meanwhile,
+     * no further processes are started, but the processes being worked on are
+     * completed, so that no metadata file is left half written.
+     */
+    private void awaitTermination(ExecutorService workers) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (workers.awaitTermination(1, TimeUnit.SECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                stopping = true;
+            }
+        }
+        if (interrupted) {
+            interrupt();
+        }
+    }
+
+    private static int getThreads() {
+        return Math.max(ConfigCore.getIntParameter(ParameterCore.KITODO_SCRIPT_THREADS,
+            Runtime.getRuntime().availableProcessors()), 1);
+    }
+
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#SCRIPT} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.SCRIPT;
+    }
+
+    /**
+     * Calls the clone constructor to create a not yet executed instance of this
+     * thread object. This is necessary for threads that have terminated in
+     * order to render possible to restart them.
+     *
+     * @return a not-yet-executed replacement of this thread
+     * @see org.kitodo.production.helper.tasks.EmptyTask#replace()
+     */
+    @Override
+    public KitodoScriptTask replace() {
+        return new KitodoScriptTask(this);
+    }
+}
@@ -71,6 +71,16 @@ public class MigrationTask extends EmptyTask {
         this.processes = sourceMigrationTask.processes;
     }
 
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#MIGRATION} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.MIGRATION;
+    }
+
     /**
      * The method to work the thread.
      */
@@ -150,6 +150,16 @@ public class NewspaperMigrationTask extends EmptyTask {
         setProgress(100 * ++step / getNumberOfSteps());
     }
 
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#MIGRATION} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.MIGRATION;
+    }
+
     /**
      * Runs the current thread.
      */
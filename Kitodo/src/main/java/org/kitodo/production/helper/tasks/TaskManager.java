@@ -15,8 +15,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -26,7 +28,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.BackgroundJobService;
 
 /**
  * The class TaskManager serves to handle the execution of threads. It can be
@@ -57,6 +63,12 @@ public class TaskManager {
      */
     final LinkedList<EmptyTask> taskList = new LinkedList<>();
 
+    /**
+     * The field shuttingDown is set when the servlet container shuts down, so
+     * that interrupted tasks can tell a shutdown from a user’s request.
+     */
+    private volatile boolean shuttingDown;
+
     /**
      * TaskManager is a singleton so its constructor is private. It will be
      * called once and just once by the synchronized function singleton() and
@@ -128,6 +140,44 @@ public class TaskManager {
         }
     }
 
+    /**
+     * Returns the number of working and waiting tasks per resource pool, in
+     * the order of priority of the pools. For the export pool, the jobs queued
+     * in the database are included.
+     *
+     * @return the statistics of the resource pools
+     */
+    public static List<TaskPoolStatistics> getPoolStatistics() {
+        Map<TaskPool, TaskPoolStatistics> statistics = new LinkedHashMap<>();
+        for (TaskPool pool : TaskPool.getByPriority()) {
+            statistics.put(pool, new TaskPoolStatistics(pool, pool.getAutoRunLimit()));
+        }
+        for (EmptyTask task : getTaskList()) {
+            TaskPoolStatistics poolStatistics = statistics.get(task.getPool());
+            switch (task.getTaskState()) {
+                case WORKING:
+                case STOPPING:
+                    poolStatistics.addWorking();
+                    break;
+                case NEW:
+                    poolStatistics.addWaiting(1, task.getWaitingTime());
+                    break;
+                default:
+                    break;
+            }
+        }
+        try {
+            BackgroundJobService backgroundJobService = ServiceManager.getBackgroundJobService();
+            for (BackgroundJobType type : BackgroundJobType.values()) {
+                statistics.get(TaskPool.getByJobType(type)).addWaiting(backgroundJobService.countQueued(type),
+                    backgroundJobService.getLongestWait(type));
+            }
+        } catch (DAOException | RuntimeException e) {
+            logger.warn("Cannot count queued background jobs: {}", e.getMessage());
+        }
+        return new ArrayList<>(statistics.values());
+    }
+
     /**
      * Returns the index of the last task in the task
      * list that is in the given TaskState.
@@ -224,10 +274,21 @@ public class TaskManager {
      * shutdown.
      */
     static void shutdownNow() {
+        singleton().shuttingDown = true;
         stopAndDeleteAllTasks();
         singleton().taskSitter.shutdownNow();
     }
 
+    /**
+     * Returns whether the task manager is shutting down with the servlet
+     * container.
+     *
+     * @return whether the task manager is shutting down
+     */
+    static boolean isShuttingDown() {
+        return singleton().shuttingDown;
+    }
+
     /**
      * Can be called to both request
      * interrupt and immediate deletion for all threads that are alive and at
@@ -0,0 +1,125 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.enums.BackgroundJobType;
+
+/**
+ * TaskPool defines the resource pools that tasks are assigned to. Each pool
+ * can have its own limit of tasks run in parallel, in addition to the overall
+ * limit, so that tasks of one pool don’t starve the tasks of another pool.
+ * The pools are the following:
+ *
+ * <dl>
+ * <dt>{@code SCRIPT}</dt>
+ * <dd>Tasks running the scripts of workflow tasks, and Kitodo script jobs.</dd>
+ * <dt>{@code IMAGE_GENERATION}</dt>
+ * <dd>Tasks generating images, which mostly need CPU.</dd>
+ * <dt>{@code EXPORT}</dt>
+ * <dd>Tasks exporting to the DMS, which mostly need file I/O.</dd>
+ * <dt>{@code MIGRATION}</dt>
+ * <dd>Tasks migrating processes.</dd>
+ * <dt>{@code OTHER}</dt>
+ * <dd>All other tasks.</dd>
+ * </dl>
+ */
+public enum TaskPool {
+    SCRIPT("script", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_SCRIPT),
+    IMAGE_GENERATION("imageGeneration", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_IMAGE_GENERATION),
+    EXPORT("export", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_EXPORT),
+    MIGRATION("migration", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_MIGRATION),
+    OTHER("other", ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_OTHER);
+
+    private final String key;
+    private final ParameterCore limitParameter;
+
+    TaskPool(String key, ParameterCore limitParameter) {
+        this.key = key;
+        this.limitParameter = limitParameter;
+    }
+
+    /**
+     * Returns the key of the pool, as used in the configuration.
+     *
+     * @return the key of the pool
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the message key of the display name of the pool.
+     *
+     * @return the message key
+     */
+    public String getMessageKey() {
+        return "taskPool" + StringUtils.capitalize(key);
+    }
+
+    /**
+     * Returns the limit of tasks of this pool run in parallel. If no limit is
+     * configured for the pool, only the overall limit applies.
+     *
+     * @return the limit of tasks run in parallel
+     */
+    public int getAutoRunLimit() {
+        return ConfigCore.getIntParameter(limitParameter, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the pool of the tasks running background jobs of a type.
+     *
+     * @param type
+     *            type of the background jobs
+     * @return the pool of the tasks
+     */
+    public static TaskPool getByJobType(BackgroundJobType type) {
+        switch (type) {
+            case EXPORT_DMS:
+                return EXPORT;
+            case KITODO_SCRIPT:
+                return SCRIPT;
+            default:
+                return OTHER;
+        }
+    }
+
+    /**
+     * Returns the pools in the configured order of priority. Pools not listed
+     * in the configuration follow in their default order.
+     *
+     * @return the pools, highest priority first
+     */
+    public static List<TaskPool> getByPriority() {
+        List<TaskPool> pools = new ArrayList<>();
+        String priority = ConfigCore.getParameter(ParameterCore.TASK_MANAGER_POOL_PRIORITY, "");
+        for (String key : priority.split("[,\\s]+")) {
+            for (TaskPool pool : values()) {
+                if (pool.key.equalsIgnoreCase(key) && !pools.contains(pool)) {
+                    pools.add(pool);
+                }
+            }
+        }
+        for (TaskPool pool : values()) {
+            if (!pools.contains(pool)) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.kitodo.production.helper.Helper;
+
+/**
+ * The class TaskPoolStatistics holds the number of working and waiting tasks
+ * of a resource pool, to be shown in the task manager.
+ */
+public class TaskPoolStatistics {
+    private final TaskPool pool;
+    private final int limit;
+    private int working;
+    private long waiting;
+    private Duration longestWait = Duration.ZERO;
+
+    /**
+     * Creates empty statistics of a resource pool.
+     *
+     * @param pool
+     *            resource pool
+     * @param limit
+     *            limit of tasks of the pool run in parallel
+     */
+    TaskPoolStatistics(TaskPool pool, int limit) {
+        this.pool = pool;
+        this.limit = limit;
+    }
+
+    /**
+     * Counts a working task.
+     */
+    void addWorking() {
+        working++;
+    }
+
+    /**
+     * Counts waiting tasks.
+     *
+     * @param count
+     *            number of waiting tasks
+     * @param waitingTime
+     *            how long the longest waiting of them is waiting
+     */
+    void addWaiting(long count, Duration waitingTime) {
+        waiting += count;
+        if (waitingTime.compareTo(longestWait) > 0) {
+            longestWait = waitingTime;
+        }
+    }
+
+    /**
+     * Returns the resource pool.
+     *
+     * @return the resource pool
+     */
+    public TaskPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the translated name of the resource pool.
+     *
+     * @return the name of the resource pool
+     */
+    public String getTitle() {
+        return Helper.getTranslation(pool.getMessageKey());
+    }
+
+    /**
+     * Returns the limit of tasks of the pool run in parallel, or
+     * {@link Integer#MAX_VALUE} if only the overall limit applies.
+     *
+     * @return the limit of tasks run in parallel
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns whether a separate limit is configured for the pool.
+     *
+     * @return whether the pool is limited
+     */
+    public boolean isLimited() {
+        return limit < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of working tasks of the pool.
+     *
+     * @return the number of working tasks
+     */
+    public int getWorking() {
+        return working;
+    }
+
+    /**
+     * Returns the number of tasks of the pool waiting to be started, including
+     * the jobs queued in the database.
+     *
+     * @return the number of waiting tasks
+     */
+    public long getWaiting() {
+        return waiting;
+    }
+
+    /**
+     * Returns how long the longest waiting task of the pool is waiting.
+     *
+     * @return the longest waiting time
+     */
+    public Duration getLongestWait() {
+        return longestWait;
+    }
+
+    /**
+     * Returns the longest waiting time formatted for display.
+     *
+     * @return the longest waiting time as hours, minutes and seconds
+     */
+    public String getLongestWaitFormatted() {
+        return DurationFormatUtils.formatDuration(longestWait.toMillis(), "HH:mm:ss");
+    }
+}
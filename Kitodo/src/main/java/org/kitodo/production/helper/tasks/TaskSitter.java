@@ -13,18 +13,28 @@ package org.kitodo.production.helper.tasks;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
+import java.util.EnumMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
+import org.kitodo.production.services.ServiceManager;
 
 /**
  * The class TaskSitter takes care of the tasks in the task manager. While the
@@ -32,8 +42,8 @@ import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
  * method of the TaskSitter every some seconds to delete threads that have died,
  * replace threads that are to be restarted by new copies of themselves (a
  * Thread can never be started twice) and finally starts some new threads if
- * there aren’t too many working any more. Several limits are configurable for
- * the {@link #run()} method.
+ * there aren’t too many working any more, together with jobs queued in the
+ * database. Several limits are configurable for the {@link #run()} method.
  *
  * <p>
  * On shutdown of the servlet container, the TaskSitter will try to shut down
@@ -43,6 +53,8 @@ import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
  */
 @WebListener
 public class TaskSitter implements Runnable, ServletContextListener {
+    private static final Logger logger = LogManager.getLogger(TaskSitter.class);
+
     /**
      * The field autoRunLimit holds the number of threads which at most are
      * allowed to be started automatically. It is by default initialised by the
@@ -67,13 +79,18 @@ public class TaskSitter implements Runnable, ServletContextListener {
     }
 
     /**
-     * Currently, there is nothing to do when the servlet is loading.
+     * When the servlet is loading, the jobs which were interrupted by the last
+     * shutdown are queued again, so that they are resumed.
      *
      * @see javax.servlet.ServletContextListener#contextInitialized(javax.servlet.ServletContextEvent)
      */
     @Override
     public void contextInitialized(ServletContextEvent argument) {
-        // nothing is done here
+        try {
+            ServiceManager.getBackgroundJobService().resumeInterruptedJobs();
+        } catch (DAOException | RuntimeException e) {
+            logger.error("Cannot resume background jobs: {}", e.getMessage(), e);
+        }
     }
 
     /**
@@ -136,60 +153,178 @@ public class TaskSitter implements Runnable, ServletContextListener {
      * to the bottom of the list and we therefore want to remove older ones
      * top-down we cannot do this before we know their count, thus we cannot do
      * this while iterating.) Last, new threads will be started up to the
-     * remaining available clearance.
+     * remaining available clearance, see
+     * {@link #selectTasks(List, int, Map, List, List)}. The jobs queued in the
+     * database are taken without holding the lock on the task list, so that
+     * the task manager is not blocked by the database. The lock is only taken
+     * again to add and start the tasks.
      *
      * @see java.lang.Runnable#run()
      */
     @Override
     public void run() {
         LinkedList<EmptyTask> taskList = TaskManager.singleton().taskList;
+        Map<TaskPool, Integer> workingThreads = new EnumMap<>(TaskPool.class);
+        LinkedList<EmptyTask> launchableThreads = new LinkedList<>();
+        int availableClearance = autoRunLimit;
         synchronized (taskList) {
-            if (taskList.isEmpty()) {
-                return;
-            }
-    
-            LinkedList<EmptyTask> launchableThreads = new LinkedList<>();
-            LinkedList<EmptyTask> finishedThreads = new LinkedList<>();
-            LinkedList<EmptyTask> failedThreads = new LinkedList<>();
-            int availableClearance = autoRunLimit;
-    
-            int successfulMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL);
-            int failedMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_FAILED);
-            Duration successfulMaxAge = ConfigCore.getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL_MINS,
-                    ChronoUnit.MINUTES);
-            Duration failedMaxAge = ConfigCore.getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_FAILED_MINS,
-                    ChronoUnit.MINUTES);
+            if (!taskList.isEmpty()) {
+                LinkedList<EmptyTask> finishedThreads = new LinkedList<>();
+                LinkedList<EmptyTask> failedThreads = new LinkedList<>();
+
+                int successfulMaxCount = ConfigCore
+                        .getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL);
+                int failedMaxCount = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_FAILED);
+                Duration successfulMaxAge = ConfigCore
+                        .getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_SUCCESSFUL_MINS, ChronoUnit.MINUTES);
+                Duration failedMaxAge = ConfigCore.getDurationParameter(ParameterCore.TASK_MANAGER_KEEP_FAILED_MINS,
+                        ChronoUnit.MINUTES);
+
+                ListIterator<EmptyTask> position = taskList.listIterator();
+                EmptyTask task;
+                try {
+                    while (position.hasNext()) {
+                        availableClearance = handleTaskModification(launchableThreads, finishedThreads,
+                                failedThreads, workingThreads, availableClearance, successfulMaxAge, failedMaxAge,
+                                position);
+                    }
+                } catch (ConcurrentModificationException e) {
+                    return;
+                }
 
-            ListIterator<EmptyTask> position = taskList.listIterator();
-            EmptyTask task;
-            try {
-                while (position.hasNext()) {
-                    availableClearance = handleTaskModification(launchableThreads, finishedThreads, failedThreads,
-                            availableClearance, successfulMaxAge, failedMaxAge, position);
+                while (finishedThreads.size() > successfulMaxCount && (task = finishedThreads.pollFirst()) != null) {
+                    taskList.remove(task);
+                }
+
+                while (failedThreads.size() > failedMaxCount && (task = failedThreads.pollFirst()) != null) {
+                    taskList.remove(task);
                 }
-            } catch (ConcurrentModificationException e) {
-                return;
             }
+        }
 
-            while (finishedThreads.size() > successfulMaxCount && (task = finishedThreads.pollFirst()) != null) {
-                taskList.remove(task);
+        List<EmptyTask> threadsToStart = new ArrayList<>();
+        List<EmptyTask> jobTasks = new ArrayList<>();
+        selectTasks(launchableThreads, availableClearance, workingThreads, threadsToStart, jobTasks);
+        if (threadsToStart.isEmpty() && jobTasks.isEmpty()) {
+            return;
+        }
+        synchronized (taskList) {
+            for (EmptyTask thread : threadsToStart) {
+                if (TaskState.NEW.equals(thread.getTaskState()) && taskList.contains(thread)) {
+                    thread.start();
+                }
+            }
+            for (EmptyTask task : jobTasks) {
+                taskList.addLast(task);
+                task.start();
             }
+        }
+    }
 
-            while (failedThreads.size() > failedMaxCount && (task = failedThreads.pollFirst()) != null) {
-                taskList.remove(task);
+    /**
+     * Selects new threads, and takes jobs queued in the database, up to the
+     * given clearance. The resource pools are served in the configured order of
+     * priority, so that jobs queued in the database are not starved by threads
+     * of pools with lower priority. Within a pool, the threads in the task
+     * list are selected before the queued jobs. A thread or job is only
+     * selected if the limit of its pool has not been reached yet, see
+     * {@link TaskPool}. Errors reading the queue are logged, as they must not
+     * stop the scheduled inspection; the queue is not read again in this
+     * inspection then.
+     *
+     * @param launchableThreads
+     *            threads which may be started, in the order of the task list
+     * @param clearance
+     *            maximum number of threads and jobs to start
+     * @param workingThreads
+     *            number of working threads per resource pool
+     * @param threadsToStart
+     *            list to add the threads to start to
+     * @param jobTasks
+     *            list to add the tasks of the jobs taken from the queue to
+     */
+    private static void selectTasks(List<EmptyTask> launchableThreads, int clearance,
+            Map<TaskPool, Integer> workingThreads, List<EmptyTask> threadsToStart, List<EmptyTask> jobTasks) {
+        boolean readQueue = true;
+        for (TaskPool pool : TaskPool.getByPriority()) {
+            for (EmptyTask task : launchableThreads) {
+                if (clearance <= 0) {
+                    return;
+                }
+                if (pool.equals(task.getPool()) && getClearance(pool, workingThreads) > 0) {
+                    threadsToStart.add(task);
+                    workingThreads.merge(pool, 1, Integer::sum);
+                    clearance--;
+                }
             }
+            if (readQueue) {
+                try {
+                    clearance -= takeQueuedJobs(pool, clearance, workingThreads, jobTasks);
+                } catch (DAOException | RuntimeException e) {
+                    logger.error("Cannot start background jobs: {}", e.getMessage(), e);
+                    readQueue = false;
+                }
+            }
+        }
+    }
 
-            while (launchableThreads.size() > availableClearance) {
-                launchableThreads.removeLast();
+    /**
+     * Takes jobs of a resource pool from the queue in the database and creates
+     * their tasks.
+     *
+     * @return the number of jobs taken
+     */
+    private static int takeQueuedJobs(TaskPool pool, int clearance, Map<TaskPool, Integer> workingThreads,
+            List<EmptyTask> jobTasks) throws DAOException {
+        int taken = 0;
+        for (BackgroundJobType type : BackgroundJobType.values()) {
+            int max = Math.min(clearance - taken, getClearance(pool, workingThreads));
+            if (max <= 0) {
+                break;
             }
-            while ((task = launchableThreads.pollFirst()) != null) {
-                task.start();
+            if (!pool.equals(TaskPool.getByJobType(type))) {
+                continue;
+            }
+            for (BackgroundJob job : ServiceManager.getBackgroundJobService().takeQueuedJobs(type, max)) {
+                EmptyTask task = createTask(job);
+                if (Objects.nonNull(task)) {
+                    jobTasks.add(task);
+                    workingThreads.merge(pool, 1, Integer::sum);
+                    taken++;
+                }
             }
         }
+        return taken;
+    }
+
+    /**
+     * Creates the task for a job taken from the queue. If the task cannot be
+     * created, the job is marked as failed.
+     *
+     * @return the task, or {@code null} if the job has failed
+     */
+    private static EmptyTask createTask(BackgroundJob job) throws DAOException {
+        try {
+            return BackgroundJobType.KITODO_SCRIPT.equals(job.getType()) ? KitodoScriptTask.forJob(job)
+                    : ExportDmsTask.forJob(job);
+        } catch (DAOException | RuntimeException e) {
+            logger.error("Cannot start background job {}: {}", job.getId(), e.getMessage(), e);
+            ServiceManager.getBackgroundJobService().complete(job, 0, e.getMessage(), false);
+            return null;
+        }
+    }
+
+    /**
+     * Returns how many more threads of a resource pool may be started, with
+     * respect to the limit of the pool only.
+     */
+    private static int getClearance(TaskPool pool, Map<TaskPool, Integer> workingThreads) {
+        return pool.getAutoRunLimit() - workingThreads.getOrDefault(pool, 0);
     }
 
     private int handleTaskModification(LinkedList<EmptyTask> launchableThreads, LinkedList<EmptyTask> finishedThreads,
-                                       LinkedList<EmptyTask> failedThreads, int availableClearance,
+                                       LinkedList<EmptyTask> failedThreads, Map<TaskPool, Integer> workingThreads,
+                                       int availableClearance,
                                        Duration successfulMaxAge, Duration failedMaxAge,
                                        ListIterator<EmptyTask> position) {
         EmptyTask task;
@@ -198,6 +333,7 @@ public class TaskSitter implements Runnable, ServletContextListener {
             case WORKING:
             case STOPPING:
                 availableClearance = Math.max(availableClearance - 1, 0);
+                workingThreads.merge(task.getPool(), 1, Integer::sum);
                 break;
             case NEW:
                 if (Behaviour.DELETE_IMMEDIATELY.equals(task.getBehaviour())) {
@@ -13,10 +13,8 @@ package org.kitodo.production.migration;
 
 
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -45,8 +43,6 @@ import org.kitodo.api.dataeditor.rulesetmanagement.SimpleMetadataViewInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
-import org.kitodo.config.ConfigCore;
-import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.enums.BatchType;
@@ -361,13 +357,8 @@ public class NewspaperProcessesMigrator {
                 .get(0).getChildren();
         issuesIncludedStructuralElements.get(0).getMetadata().addAll(processMetadataFromYear);
 
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
-
-        // find and load the ruleset file
-        String rulesetDir = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
-        String rulesetFullPath = Paths.get(rulesetDir, process.getRuleset().getFile()).toString();
-        rulesetManagement.load(new File(rulesetFullPath));
+        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetService()
+                .openRuleset(process.getRuleset());
         Collection<String> functionalKeys = rulesetManagement.getFunctionalKeys(FunctionalMetadata.PROCESS_TITLE);
         String titleKey = functionalKeys.isEmpty() ? FIELD_TITLE : functionalKeys.stream().findFirst().get();
 
@@ -29,6 +29,7 @@ import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.index.IndexRestClient;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.FilterException;
 import org.kitodo.production.dto.BaseDTO;
@@ -49,6 +50,16 @@ public class LazyDTOModel extends LazyDataModel<Object> {
     transient List entities = new ArrayList<>();
     String filterString = "";
 
+    /*
+     * Sort values of the last object of the page loaded last, the position
+     * after that page and the parameters it was loaded with. If the following
+     * page is requested, the search continues there instead of paging through
+     * all objects before.
+     */
+    private transient Object[] searchAfter;
+    private int searchAfterPosition = -1;
+    private transient List<Object> searchAfterParameters;
+
     /**
      * Creates a LazyDTOModel instance that allows fetching data from the data
      * source lazily, e.g. only the number of datasets that will be displayed in the
@@ -122,6 +133,44 @@ public class LazyDTOModel extends LazyDataModel<Object> {
         return new LinkedList<>();
     }
 
+    /**
+     * Returns the sort values of the last object of the page loaded last, if
+     * the requested page directly follows it and was loaded with the same
+     * parameters.
+     *
+     * @param first
+     *            position of the first object of the requested page
+     * @param parameters
+     *            parameters the page is loaded with, for example filter and
+     *            sort order
+     * @return the sort values, or {@code null}
+     */
+    Object[] getSearchAfter(int first, List<Object> parameters) {
+        if (first == searchAfterPosition && parameters.equals(searchAfterParameters)) {
+            return searchAfter;
+        }
+        return null;
+    }
+
+    /**
+     * Takes over the results and the total number of objects from a loaded
+     * page, and remembers where the page ended.
+     *
+     * @param page
+     *            the loaded page
+     * @param first
+     *            position of the first object of the page
+     * @param parameters
+     *            parameters the page was loaded with
+     */
+    void setPage(SearchResultPage<?> page, int first, List<Object> parameters) {
+        setRowCount(toIntExact(page.getTotalHits()));
+        entities = page.getResults();
+        searchAfter = page.getSearchAfter();
+        searchAfterPosition = first + page.getResults().size();
+        searchAfterParameters = parameters;
+    }
+
     /**
      * Checks and returns whether the ElasticSearch index is running or not.
      *
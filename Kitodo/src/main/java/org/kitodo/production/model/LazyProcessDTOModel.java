@@ -11,14 +11,14 @@
 
 package org.kitodo.production.model;
 
-import static java.lang.Math.toIntExact;
-
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.FilterException;
 import org.kitodo.production.services.data.FilterService;
@@ -48,6 +48,7 @@ public class LazyProcessDTOModel extends LazyDTOModel {
 
     private boolean showClosedProcesses = false;
     private boolean showInactiveProjects = false;
+    private List<ListColumn> selectedColumns;
 
     /**
      * Creates a LazyDTOModel instance that allows fetching data from the data
@@ -99,6 +100,18 @@ public class LazyProcessDTOModel extends LazyDTOModel {
         return showInactiveProjects;
     }
 
+    /**
+     * Set the list columns shown. Only the fields needed for these columns are
+     * loaded from the index. If no columns are set, all fields used by the
+     * DTOs are loaded.
+     *
+     * @param selectedColumns
+     *            list columns shown
+     */
+    public void setSelectedColumns(List<ListColumn> selectedColumns) {
+        this.selectedColumns = selectedColumns;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Object> load(int first, int pageSize, String sortField, SortOrder sortOrder,
@@ -114,10 +127,11 @@ public class LazyProcessDTOModel extends LazyDTOModel {
                 if (!StringUtils.isBlank(this.filterString)) {
                     filterMap.put(FilterService.FILTER_STRING, this.filterString);
                 }
-                setRowCount(toIntExact(((ProcessService)searchService).countResults(filterMap, this.showClosedProcesses,
-                        this.showInactiveProjects)));
-                entities = ((ProcessService)searchService).loadData(first, pageSize, sortField, sortOrder, filterMap,
-                        this.showClosedProcesses, this.showInactiveProjects);
+                List<Object> parameters = Arrays.asList(sortField, sortOrder, this.filterString,
+                    this.showClosedProcesses, this.showInactiveProjects);
+                setPage(((ProcessService) searchService).loadPage(first, pageSize, sortField, sortOrder, filterMap,
+                    this.showClosedProcesses, this.showInactiveProjects, this.selectedColumns,
+                    getSearchAfter(first, parameters)), first, parameters);
                 logger.trace("{} entities loaded!", entities.size());
                 return entities;
             } catch (DataException | OpenSearchStatusException | QueryShardException e) {
@@ -11,8 +11,8 @@
 
 package org.kitodo.production.model;
 
-import static java.lang.Math.toIntExact;
-
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -81,11 +81,11 @@ public class LazyTaskDTOModel extends LazyDTOModel {
                 if (!StringUtils.isBlank(this.filterString)) {
                     filterMap.put(FilterService.FILTER_STRING, this.filterString);
                 }
-                setRowCount(toIntExact(((TaskService)searchService).countResults(filterMap, this.onlyOwnTasks,
-                        this.hideCorrectionTasks, this.showAutomaticTasks, this.taskStatusRestriction)));
-                entities = ((TaskService)searchService).loadData(first, pageSize, sortField, sortOrder, filterMap,
-                        this.onlyOwnTasks, this.hideCorrectionTasks, this.showAutomaticTasks,
-                        this.taskStatusRestriction);
+                List<Object> parameters = Arrays.asList(sortField, sortOrder, this.filterString, this.onlyOwnTasks,
+                    this.hideCorrectionTasks, this.showAutomaticTasks, new ArrayList<>(this.taskStatusRestriction));
+                setPage(((TaskService) searchService).loadPage(first, pageSize, sortField, sortOrder, filterMap,
+                    this.onlyOwnTasks, this.hideCorrectionTasks, this.showAutomaticTasks, this.taskStatusRestriction,
+                    getSearchAfter(first, parameters)), first, parameters);
                 logger.trace("{} entities loaded!", entities.size());
                 return entities;
             } catch (DataException | OpenSearchStatusException | QueryShardException e) {
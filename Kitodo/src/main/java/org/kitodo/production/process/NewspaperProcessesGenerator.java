@@ -89,6 +89,12 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private static final int NUMBER_OF_COMPLETION_STEPS = 1;
 
+    /**
+     * Number of issue processes which are collected before they are saved
+     * together.
+     */
+    private static final int ISSUE_PROCESSES_PER_SAVE = 100;
+
     /**
      * Date format pattern indicating a double year. A double year is a time
      * span with the length of one year, starting on a day different from
@@ -189,6 +195,23 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private Workpiece overallWorkpiece;
 
+    /**
+     * Issue processes which have been generated, but not yet saved.
+     */
+    private final List<Process> issueProcesses = new ArrayList<>();
+
+    /**
+     * Object models of the media presentation descriptions of the issue
+     * processes not yet saved.
+     */
+    private final List<Workpiece> issueWorkpieces = new ArrayList<>();
+
+    /**
+     * Links from the year process to the issue processes not yet saved. They
+     * get their URIs when the issue processes have been saved.
+     */
+    private final List<List<LinkedMetsResource>> issueLinks = new ArrayList<>();
+
     /**
      * List of processes to be created. A process is characterized here only by
      * the issues contained therein.
@@ -521,8 +544,11 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         getGeneratedProcess().setTitle(title);
         getGeneratedProcess().setParent(yearProcess);
         yearProcess.getChildren().add(getGeneratedProcess());
-        processService.save(getGeneratedProcess(), true);
-        createMetadataFileForProcess(individualIssuesForProcess, title);
+        issueProcesses.add(getGeneratedProcess());
+        createWorkpieceForProcess(individualIssuesForProcess, title);
+        if (issueProcesses.size() >= ISSUE_PROCESSES_PER_SAVE) {
+            saveIssueProcesses();
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Creating newspaper process {} took {} ms", title,
@@ -549,8 +575,8 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         return title;
     }
 
-    private void createMetadataFileForProcess(List<IndividualIssue> individualIssues, String title)
-            throws IOException, CommandException {
+    private void createWorkpieceForProcess(List<IndividualIssue> individualIssues, String title) {
+        List<LinkedMetsResource> linksToProcess = new ArrayList<>();
 
         LogicalDivision logicalStructure = new LogicalDivision();
         MetadataEntry dateMetadataEntry = new MetadataEntry();
@@ -580,17 +606,43 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             LogicalDivision yearIssue = new LogicalDivision();
             LinkedMetsResource linkToProcess = new LinkedMetsResource();
             linkToProcess.setLoctype("Kitodo.Production");
-            linkToProcess.setUri(processService.getProcessURI(getGeneratedProcess()));
+            linksToProcess.add(linkToProcess);
             yearIssue.setLink(linkToProcess);
             yearDay.getChildren().add(yearIssue);
         }
 
         Workpiece workpiece = new Workpiece();
         workpiece.setLogicalStructure(logicalStructure);
-        workpiece.setId(getGeneratedProcess().getId().toString());
-        fileService.createProcessLocation(getGeneratedProcess());
-        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
-        metsService.saveWorkpiece(workpiece, metadataFileUri);
+        issueWorkpieces.add(workpiece);
+        issueLinks.add(linksToProcess);
+    }
+
+    /**
+     * Saves the issue processes generated so far together and links them from
+     * the year process.
+     */
+    private void saveIssueProcesses() throws DataException, IOException {
+        if (issueProcesses.isEmpty()) {
+            return;
+        }
+        final long begin = System.nanoTime();
+
+        processService.createProcesses(issueProcesses, issueWorkpieces);
+        for (int i = 0; i < issueProcesses.size(); i++) {
+            URI processUri = processService.getProcessURI(issueProcesses.get(i));
+            for (LinkedMetsResource linkToProcess : issueLinks.get(i)) {
+                linkToProcess.setUri(processUri);
+            }
+        }
+        int numberOfProcesses = issueProcesses.size();
+        issueProcesses.clear();
+        issueWorkpieces.clear();
+        issueLinks.clear();
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Saving {} issue processes took {} ms", numberOfProcesses,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
     }
 
     private void addCustomMetadata(IndividualIssue definition, LogicalDivision issue) {
@@ -666,6 +718,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     private void saveAndCloseCurrentYearProcess() throws DataException, IOException {
         final long begin = System.nanoTime();
 
+        saveIssueProcesses();
         metsService.saveWorkpiece(yearWorkpiece, yearMetadataFileUri);
         ProcessService.checkTasks(yearProcess, yearWorkpiece.getLogicalStructure().getType());
         processService.save(yearProcess, true);
@@ -18,6 +18,7 @@ import org.apache.logging.log4j.Logger;
 import org.kitodo.production.services.command.CommandService;
 import org.kitodo.production.services.command.KitodoScriptService;
 import org.kitodo.production.services.data.AuthorityService;
+import org.kitodo.production.services.data.BackgroundJobService;
 import org.kitodo.production.services.data.BatchService;
 import org.kitodo.production.services.data.ClientService;
 import org.kitodo.production.services.data.CommentService;
@@ -62,6 +63,7 @@ public class ServiceManager {
     private static final Logger logger = LogManager.getLogger(ServiceManager.class);
 
     private static AuthorityService authorityService;
+    private static BackgroundJobService backgroundJobService;
     private static BatchService batchService;
     private static ClientService clientService;
     private static CommandService commandService;
@@ -117,6 +119,13 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeBackgroundJobService() {
+        if (Objects.isNull(backgroundJobService)) {
+            logServiceInitialization();
+            backgroundJobService = BackgroundJobService.getInstance();
+        }
+    }
+
     private static void initializeBatchService() {
         if (Objects.isNull(batchService)) {
             logServiceInitialization();
@@ -416,6 +425,18 @@ public class ServiceManager {
         return authorityService;
     }
 
+    /**
+     * Initialize BackgroundJobService if it is not yet initialized and return
+     * it.
+     *
+     * @return BackgroundJobService object
+     */
+    public static BackgroundJobService getBackgroundJobService() {
+        initializeBackgroundJobService();
+        logServiceDelivery();
+        return backgroundJobService;
+    }
+
     /**
      * Initialize BatchService if it is not yet initialized and next return it.
      *
@@ -12,7 +12,6 @@
 package org.kitodo.production.services.command;
 
 // base Java
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -305,9 +304,7 @@ public final class ImportProcesses extends EmptyTask {
 
     private void initialize() throws IOException {
         super.setWorkDetail(importRootPath.toString());
-        ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-            templateForProcesses.getRuleset().getFile()).toString()));
+        ruleset = ServiceManager.getRulesetService().openRuleset(templateForProcesses.getRuleset());
         totalActions = importingProcesses.entrySet().parallelStream().map(Entry::getValue)
                 .mapToInt(ImportingProcess::numberOfActions).sum() + INIT_ACTIONS_COUNT;
         importingProcessesIterator = importingProcesses.values().iterator();
@@ -28,12 +28,15 @@ import org.apache.commons.lang3.text.StrTokenizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Role;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
 import org.kitodo.exceptions.InvalidImagesException;
@@ -63,6 +66,14 @@ public class KitodoScriptService {
     private static final String STATUS = "status";
     private static final String TASK_TITLE = "tasktitle";
     private static final String ROLE = "role";
+    private static final String ACTION = "action";
+
+    /**
+     * Actions which are executed as a job in the task manager if there are
+     * many processes. They work on each process on its own.
+     */
+    private static final List<String> BACKGROUND_ACTIONS = Arrays.asList("addData", "overwriteData", "deleteData",
+        "copyDataToChildren");
 
     /**
      * Return the singleton instance of the Kitodo script service.
@@ -90,7 +101,9 @@ public class KitodoScriptService {
     }
 
     /**
-     * Start the script execution.
+     * Start the script execution. The actions addData, overwriteData,
+     * deleteData and copyDataToChildren are executed as a job in the task
+     * manager if there are at least as many processes as configured.
      *
      * @param processes
      *            list of Process objects
@@ -99,20 +112,10 @@ public class KitodoScriptService {
      */
     public void execute(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
-        this.parameters = new HashMap<>();
-        // decompose and capture all script parameters
-        StrTokenizer tokenizer = new StrTokenizer(script, ' ', '\"');
-        while (tokenizer.hasNext()) {
-            String tok = tokenizer.nextToken();
-            if (Objects.nonNull(tok) && tok.contains(":")) {
-                String key = tok.substring(0, tok.indexOf(':'));
-                String value = tok.substring(tok.indexOf(':') + 1);
-                this.parameters.put(key, value);
-            }
-        }
+        this.parameters = parseParameters(script);
 
         // pass the appropriate method with the correct parameters
-        if (Objects.isNull(this.parameters.get("action"))) {
+        if (Objects.isNull(this.parameters.get(ACTION))) {
             Helper.setErrorMessage("missing action",
                 " - possible: 'action:addRole, action:setTaskProperty, action:setStepStatus, "
                         + "action:swapprozessesout, action:swapprozessesin, action:deleteTiffHeaderFile, "
@@ -120,15 +123,87 @@ public class KitodoScriptService {
             return;
         }
 
+        if (BACKGROUND_ACTIONS.contains(this.parameters.get(ACTION)) && processes.size() >= ConfigCore
+                .getIntParameterOrDefaultValue(ParameterCore.KITODO_SCRIPT_BACKGROUND_MINIMUM_PROCESSES)) {
+            queueScript(processes, script);
+            return;
+        }
+
         if (executeScript(processes, script)) {
             Helper.setMessage("kitodoScript finished");
         }
     }
 
+    /**
+     * Executes the script for one process. This is used by the task executing
+     * a script as a job. Only the actions addData, overwriteData, deleteData
+     * and copyDataToChildren are supported.
+     *
+     * @param process
+     *            process to execute the script for
+     * @param script
+     *            script to execute
+     * @throws IOException
+     *             if the metadata file of the process cannot be read or
+     *             written
+     * @throws KitodoScriptExecutionException
+     *             if the script cannot be executed for the process
+     */
+    public void executeForProcess(Process process, String script)
+            throws IOException, KitodoScriptExecutionException {
+        String action = Objects.toString(parseParameters(script).get(ACTION), "");
+        switch (action) {
+            case "addData":
+                editData(new AddDataScript(), process, stripAction(script, action));
+                break;
+            case "overwriteData":
+                editData(new OverwriteDataScript(), process, stripAction(script, action));
+                break;
+            case "deleteData":
+                editData(new DeleteDataScript(), process, stripAction(script, action));
+                break;
+            case "copyDataToChildren":
+                copyDataToChildren(new AddDataScript(), process, stripAction(script, action));
+                break;
+            default:
+                throw new KitodoScriptExecutionException("Action cannot be executed as a job: " + action);
+        }
+    }
+
+    private static Map<String, String> parseParameters(String script) {
+        Map<String, String> parameters = new HashMap<>();
+        // decompose and capture all script parameters
+        StrTokenizer tokenizer = new StrTokenizer(script, ' ', '\"');
+        while (tokenizer.hasNext()) {
+            String tok = tokenizer.nextToken();
+            if (Objects.nonNull(tok) && tok.contains(":")) {
+                String key = tok.substring(0, tok.indexOf(':'));
+                String value = tok.substring(tok.indexOf(':') + 1);
+                parameters.put(key, value);
+            }
+        }
+        return parameters;
+    }
+
+    private static String stripAction(String script, String action) {
+        return script.replaceFirst("\\s*action:" + action + "\\s+(.*?)[\r\n\\s]*", "$1");
+    }
+
+    private void queueScript(List<Process> processes, String script) {
+        try {
+            ServiceManager.getBackgroundJobService().queueKitodoScript(script,
+                processes.stream().map(Process::getId).collect(Collectors.toList()));
+            Helper.setMessage(Helper.getTranslation("kitodoScript.executesInTaskManager",
+                String.valueOf(processes.size())));
+        } catch (DAOException e) {
+            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+        }
+    }
+
     private boolean executeScript(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "importFromFileSystem":
                 importFromFileSystem(processes);
                 break;
@@ -173,7 +248,7 @@ public class KitodoScriptService {
     private boolean executeOtherScript(List<Process> processes, String script)
             throws DataException, IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "runscript":
                 String taskName = this.parameters.get("stepname");
                 String scriptName = this.parameters.get(SCRIPT);
@@ -213,7 +288,7 @@ public class KitodoScriptService {
     private boolean executeRemainingScript(List<Process> processes)
             throws IOException, InvalidImagesException, MediaNotFoundException {
         // call the correct method via the parameter
-        switch (this.parameters.get("action")) {
+        switch (this.parameters.get(ACTION)) {
             case "generateImages":
                 String folders = parameters.get("folders");
                 List<String> foldersList = Arrays.asList("all");
@@ -254,16 +329,12 @@ public class KitodoScriptService {
 
     private void deleteData(List<Process> processes, String script) {
         String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:deleteData\\s+(.*?)[\r\n\\s]*", "$1");
+        script = stripAction(script, "deleteData");
         DeleteDataScript deleteDataScript = new DeleteDataScript();
         for (Process process : processes) {
             try {
                 currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                deleteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                editData(deleteDataScript, process, script);
                 Helper.setMessage("deleteDataOk", currentProcessTitle);
             } catch (IOException | KitodoScriptExecutionException e) {
                 Helper.setErrorMessage("deleteDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
@@ -273,20 +344,12 @@ public class KitodoScriptService {
 
     private void copyDataToChildren(List<Process> processes, String script) {
         String currentProcessTitle;
-        script = script.replaceFirst("\\s*action:copyDataToChildren\\s+(.*?)[\r\n\\s]*", "$1");
+        script = stripAction(script, "copyDataToChildren");
         AddDataScript addDataScript = new AddDataScript();
         for (Process parentProcess : processes) {
             currentProcessTitle = parentProcess.getTitle();
-            List<MetadataScript> metadataScripts = addDataScript.parseScript(script);
             try {
-                generateScriptValues(addDataScript, metadataScripts, parentProcess);
-                for (Process child : parentProcess.getChildren()) {
-                    LegacyMetsModsDigitalDocumentHelper childMetadataFile = ServiceManager.getProcessService()
-                            .readMetadataFile(child);
-                    for (MetadataScript metadataScript : metadataScripts) {
-                        addDataScript.executeScript(childMetadataFile, child, metadataScript);
-                    }
-                }
+                copyDataToChildren(addDataScript, parentProcess, script);
                 Helper.setMessage("addDataOk", currentProcessTitle);
             } catch (IOException | KitodoScriptExecutionException e) {
                 Helper.setErrorMessage("addDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
@@ -294,6 +357,19 @@ public class KitodoScriptService {
         }
     }
 
+    private void copyDataToChildren(AddDataScript addDataScript, Process parentProcess, String script)
+            throws IOException, KitodoScriptExecutionException {
+        List<MetadataScript> metadataScripts = addDataScript.parseScript(script);
+        generateScriptValues(addDataScript, metadataScripts, parentProcess);
+        for (Process child : parentProcess.getChildren()) {
+            LegacyMetsModsDigitalDocumentHelper childMetadataFile = ServiceManager.getProcessService()
+                    .readMetadataFile(child);
+            for (MetadataScript metadataScript : metadataScripts) {
+                addDataScript.executeScript(childMetadataFile, child, metadataScript);
+            }
+        }
+    }
+
     private void generateScriptValues(AddDataScript addDataScript, List<MetadataScript> metadataScripts,
             Process parentProcess) throws IOException {
         for (MetadataScript metadataScript : metadataScripts) {
@@ -303,16 +379,12 @@ public class KitodoScriptService {
 
     private void overwriteData(List<Process> processes, String script) {
         String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:overwriteData\\s+(.*?)[\r\n\\s]*", "$1");
+        script = stripAction(script, "overwriteData");
         OverwriteDataScript overwriteDataScript = new OverwriteDataScript();
         for (Process process : processes) {
             try {
                 currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                overwriteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                editData(overwriteDataScript, process, script);
                 Helper.setMessage("overwriteDataOk", currentProcessTitle);
             } catch (IOException | KitodoScriptExecutionException e) {
                 Helper.setErrorMessage("overwriteDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
@@ -320,6 +392,19 @@ public class KitodoScriptService {
         }
     }
 
+    /**
+     * Reads the metadata file of a process, edits it with the script and
+     * writes it back.
+     */
+    private void editData(EditDataScript editDataScript, Process process, String script)
+            throws IOException, KitodoScriptExecutionException {
+        LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
+                .readMetadataFile(process);
+        editDataScript.process(metadataFile, process, script);
+        ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
+                ServiceManager.getProcessService().getMetadataFileUri(process));
+    }
+
     private void updateContentFiles(List<Process> processes) {
         for (Process process : processes) {
             try {
@@ -344,46 +429,43 @@ public class KitodoScriptService {
     }
 
     private void deleteProcess(List<Process> processes, boolean contentOnly) {
+        if (!contentOnly) {
+            try {
+                ServiceManager.getProcessService()
+                        .deleteProcesses(processes.stream().map(Process::getId).collect(Collectors.toList()));
+                Helper.setMessage(processes.size() + " processes deleted.");
+            } catch (DAOException | DataException | IOException e) {
+                Helper.setErrorMessage("errorDeleting", new Object[] {Helper.getTranslation("processes") }, logger,
+                    e);
+            }
+            return;
+        }
         for (Process process : processes) {
             String title = process.getTitle();
-            if (contentOnly) {
-                try {
-                    URI ocr = fileService.getOcrDirectory(process);
-                    if (fileService.fileExist(ocr)) {
-                        fileService.delete(ocr);
-                    }
-                    URI images = fileService.getImagesDirectory(process);
-                    if (fileService.fileExist(images)) {
-                        fileService.delete(images);
-                    }
-                    Helper.setMessage("Content deleted for " + title);
-                } catch (IOException | RuntimeException e) {
-                    Helper.setErrorMessage("errorDeleting", new Object[] {"content for " + title }, logger, e);
+            try {
+                URI ocr = fileService.getOcrDirectory(process);
+                if (fileService.fileExist(ocr)) {
+                    fileService.delete(ocr);
                 }
-            } else {
-                try {
-                    ServiceManager.getProcessService().deleteProcess(process);
-                    Helper.setMessage("Process " + title + " deleted.");
-                } catch (DataException | IOException e) {
-                    Helper.setErrorMessage("errorDeleting",
-                        new Object[] {Helper.getTranslation("process") + " " + title }, logger, e);
+                URI images = fileService.getImagesDirectory(process);
+                if (fileService.fileExist(images)) {
+                    fileService.delete(images);
                 }
+                Helper.setMessage("Content deleted for " + title);
+            } catch (IOException | RuntimeException e) {
+                Helper.setErrorMessage("errorDeleting", new Object[] {"content for " + title }, logger, e);
             }
         }
     }
 
     private void addData(List<Process> processes, String script) {
         String currentProcessTitle = null;
-        script = script.replaceFirst("\\s*action:addData\\s+(.*?)[\r\n\\s]*", "$1");
+        script = stripAction(script, "addData");
         AddDataScript addDataScript = new AddDataScript();
         for (Process process : processes) {
             try {
                 currentProcessTitle = process.getTitle();
-                LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
-                        .readMetadataFile(process);
-                addDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                editData(addDataScript, process, script);
                 Helper.setMessage("addDataOk", currentProcessTitle);
             } catch (IOException | KitodoScriptExecutionException e) {
                 Helper.setErrorMessage("addDataError", currentProcessTitle + ": " + e.getMessage(), logger, e);
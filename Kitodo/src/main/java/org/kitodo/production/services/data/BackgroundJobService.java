@@ -0,0 +1,325 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.beans.BackgroundJobItem;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.enums.BackgroundJobType;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.database.persistence.BackgroundJobDAO;
+import org.kitodo.data.database.persistence.BackgroundJobItemDAO;
+import org.kitodo.production.services.data.base.SearchDatabaseService;
+import org.primefaces.model.SortOrder;
+
+/**
+ * Keeps the queue of background jobs in the database. Jobs are queued here,
+ * taken from the queue by the
+ * {@link org.kitodo.production.helper.tasks.TaskSitter} as long as it may
+ * start more tasks, and marked as finished or failed when they are done. Jobs
+ * which were working when the application was shut down are queued again on
+ * start-up. Jobs working on several processes keep an item for each process,
+ * which records the result for the process.
+ */
+public class BackgroundJobService extends SearchDatabaseService<BackgroundJob, BackgroundJobDAO> {
+    private static final Logger logger = LogManager.getLogger(BackgroundJobService.class);
+
+    private static final int MESSAGE_MAX_LENGTH = 255;
+
+    private static volatile BackgroundJobService instance = null;
+
+    /**
+     * Types of which there may be queued jobs. As long as no job of a type is
+     * queued, the database need not be asked for queued jobs of the type.
+     */
+    private final Set<BackgroundJobType> queuedTypes = ConcurrentHashMap.newKeySet();
+
+    private final BackgroundJobItemDAO itemDAO = new BackgroundJobItemDAO();
+
+    /**
+     * Constructor.
+     */
+    private BackgroundJobService() {
+        super(new BackgroundJobDAO());
+        queuedTypes.addAll(Arrays.asList(BackgroundJobType.values()));
+    }
+
+    /**
+     * Return singleton variable of type BackgroundJobService.
+     *
+     * @return unique instance of BackgroundJobService
+     */
+    public static BackgroundJobService getInstance() {
+        BackgroundJobService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (BackgroundJobService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new BackgroundJobService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    @Override
+    public List loadData(int first, int pageSize, String sortField, SortOrder sortOrder, Map filters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Long countDatabaseRows() throws DAOException {
+        return countDatabaseRows("SELECT COUNT(*) FROM BackgroundJob");
+    }
+
+    @Override
+    public Long countResults(Map filters) throws DAOException {
+        return countDatabaseRows();
+    }
+
+    /**
+     * Queues the export of a process to the DMS.
+     *
+     * @param process
+     *            process to export
+     * @param workflowTask
+     *            workflow task to close after the export, may be null
+     * @param exportImages
+     *            whether the images are exported
+     * @return the queued job
+     * @throws DAOException
+     *             if the job cannot be saved
+     */
+    public BackgroundJob queueExportDms(Process process, Task workflowTask, boolean exportImages)
+            throws DAOException {
+        BackgroundJob job = new BackgroundJob();
+        job.setType(BackgroundJobType.EXPORT_DMS);
+        job.setProcessId(process.getId());
+        job.setTaskId(Objects.nonNull(workflowTask) ? workflowTask.getId() : null);
+        job.setExportImages(exportImages);
+        job.setCreationDate(new Date());
+        saveToDatabase(job);
+        queuedTypes.add(BackgroundJobType.EXPORT_DMS);
+        return job;
+    }
+
+    /**
+     * Queues the execution of a Kitodo script for several processes. The job
+     * is queued only after an item has been saved for each process.
+     *
+     * @param script
+     *            Kitodo script to execute
+     * @param processIds
+     *            IDs of the processes to execute the script for
+     * @return the queued job
+     * @throws DAOException
+     *             if the job or its items cannot be saved
+     */
+    public BackgroundJob queueKitodoScript(String script, Collection<Integer> processIds) throws DAOException {
+        BackgroundJob job = new BackgroundJob();
+        job.setType(BackgroundJobType.KITODO_SCRIPT);
+        job.setState(BackgroundJobState.WORKING);
+        job.setScript(script);
+        job.setCreationDate(new Date());
+        saveToDatabase(job);
+        List<BackgroundJobItem> items = new ArrayList<>(processIds.size());
+        for (Integer processId : processIds) {
+            BackgroundJobItem item = new BackgroundJobItem();
+            item.setJobId(job.getId());
+            item.setProcessId(processId);
+            items.add(item);
+        }
+        itemDAO.saveList(items);
+        job.setState(BackgroundJobState.QUEUED);
+        saveToDatabase(job);
+        queuedTypes.add(BackgroundJobType.KITODO_SCRIPT);
+        return job;
+    }
+
+    /**
+     * Returns the items of a job which are not done yet.
+     *
+     * @param job
+     *            job whose items to return
+     * @return the queued items of the job
+     */
+    public List<BackgroundJobItem> getQueuedItems(BackgroundJob job) {
+        return itemDAO.getByJobAndState(job.getId(), BackgroundJobState.QUEUED);
+    }
+
+    /**
+     * Counts the items of a job in the given state.
+     *
+     * @param job
+     *            job whose items to count
+     * @param state
+     *            state of the items
+     * @return the number of items
+     * @throws DAOException
+     *             if the items cannot be counted
+     */
+    public long countItems(BackgroundJob job, BackgroundJobState state) throws DAOException {
+        return itemDAO.countByJobAndState(job.getId(), state);
+    }
+
+    /**
+     * Records the result of a job for one of its processes.
+     *
+     * @param item
+     *            item of the process
+     * @param message
+     *            why the job has failed for the process, may be null
+     * @param successful
+     *            whether the job has finished successfully for the process
+     * @throws DAOException
+     *             if the item cannot be saved
+     */
+    public void completeItem(BackgroundJobItem item, String message, boolean successful) throws DAOException {
+        item.setState(successful ? BackgroundJobState.FINISHED : BackgroundJobState.FAILED);
+        item.setMessage(StringUtils.abbreviate(message, MESSAGE_MAX_LENGTH));
+        itemDAO.save(item);
+    }
+
+    /**
+     * Counts the queued jobs of a type.
+     *
+     * @param type
+     *            type of the jobs
+     * @return the number of queued jobs
+     * @throws DAOException
+     *             if the jobs cannot be counted
+     */
+    public long countQueued(BackgroundJobType type) throws DAOException {
+        return queuedTypes.contains(type) ? dao.countQueued(type) : 0;
+    }
+
+    /**
+     * Returns how long the oldest queued job of a type is waiting.
+     *
+     * @param type
+     *            type of the jobs
+     * @return the waiting time of the oldest queued job
+     */
+    public Duration getLongestWait(BackgroundJobType type) {
+        if (!queuedTypes.contains(type)) {
+            return Duration.ZERO;
+        }
+        List<BackgroundJob> oldest = dao.getQueued(type, 1);
+        if (oldest.isEmpty() || Objects.isNull(oldest.get(0).getCreationDate())) {
+            return Duration.ZERO;
+        }
+        return Duration.between(oldest.get(0).getCreationDate().toInstant(), Instant.now());
+    }
+
+    /**
+     * Queues the jobs again which were working when the application was shut
+     * down, so that they are resumed.
+     *
+     * @throws DAOException
+     *             if the jobs cannot be updated
+     */
+    public void resumeInterruptedJobs() throws DAOException {
+        int resumed = dao.requeueWorking();
+        if (resumed > 0) {
+            logger.info("Resuming {} background jobs interrupted by shutdown", resumed);
+        }
+        queuedTypes.addAll(Arrays.asList(BackgroundJobType.values()));
+    }
+
+    /**
+     * Takes the next jobs of a type from the queue and marks them as working.
+     *
+     * @param type
+     *            type of the jobs
+     * @param max
+     *            maximum number of jobs to take
+     * @return the jobs to start, in the order they were queued
+     * @throws DAOException
+     *             if the jobs cannot be updated
+     */
+    public List<BackgroundJob> takeQueuedJobs(BackgroundJobType type, int max) throws DAOException {
+        if (max <= 0 || !queuedTypes.contains(type)) {
+            return Collections.emptyList();
+        }
+        queuedTypes.remove(type);
+        List<BackgroundJob> jobs = dao.getQueued(type, max);
+        if (jobs.size() == max) {
+            queuedTypes.add(type);
+        }
+        for (BackgroundJob job : jobs) {
+            job.setState(BackgroundJobState.WORKING);
+            saveToDatabase(job);
+        }
+        return jobs;
+    }
+
+    /**
+     * Records how many steps of a job are done, so that the job continues
+     * after them if it is interrupted and resumed.
+     *
+     * @param job
+     *            job which is working
+     * @param checkpoint
+     *            number of steps of the job which are done
+     * @throws DAOException
+     *             if the job cannot be saved
+     */
+    public void saveCheckpoint(BackgroundJob job, int checkpoint) throws DAOException {
+        job.setCheckpoint(checkpoint);
+        saveToDatabase(job);
+    }
+
+    /**
+     * Marks a job as finished or failed and deletes the oldest finished and
+     * failed jobs exceeding the configured number to keep.
+     *
+     * @param job
+     *            job which is done
+     * @param progress
+     *            progress of the job in percent
+     * @param message
+     *            why the job has failed, may be null
+     * @param successful
+     *            whether the job has finished successfully
+     * @throws DAOException
+     *             if the job cannot be saved
+     */
+    public void complete(BackgroundJob job, int progress, String message, boolean successful) throws DAOException {
+        job.setState(successful ? BackgroundJobState.FINISHED : BackgroundJobState.FAILED);
+        job.setProgress(progress);
+        job.setMessage(StringUtils.abbreviate(message, MESSAGE_MAX_LENGTH));
+        job.setCompletionDate(new Date());
+        saveToDatabase(job);
+        dao.removeCompletedExceeding(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.TASK_MANAGER_KEEP_JOBS));
+    }
+}
@@ -25,12 +25,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.faces.model.SelectItem;
@@ -150,6 +152,18 @@ public class ImportService {
 
     private TempProcess parentTempProcess;
 
+    /**
+     * Number of records which are retrieved in advance and whose processes
+     * without parent process are saved together by {@link #importProcesses(Map, int, int, ImportConfiguration, Map, Runnable)}.
+     */
+    private static final int IMPORT_CHUNK_SIZE = 100;
+
+    /**
+     * Records retrieved in advance by {@link #prefetchRecords(ImportConfiguration, Collection)} for the import run
+     * in the current thread, by import configuration and search term. Each record is handed out once.
+     */
+    private final ThreadLocal<Map<String, DataRecord>> prefetchedRecords = new ThreadLocal<>();
+
     private static final String CATALOG_IDENTIFIER = "CatalogIDDigital";
 
     private static final String SRU_OPERATION = "operation";
@@ -753,16 +767,69 @@ public class ImportService {
                                                 boolean extractExemplars)
             throws NoRecordFoundException, IOException,
             XPathExpressionException, ParserConfigurationException, SAXException {
-        importModule = initializeImportModule();
-        DataRecord dataRecord = importModule.getFullRecordById(
-                createDataImportFromImportConfiguration(importConfiguration),
-                getSearchTermWithDelimiter(identifier, importConfiguration));
+        String searchTerm = getSearchTermWithDelimiter(identifier, importConfiguration);
+        Map<String, DataRecord> prefetched = prefetchedRecords.get();
+        DataRecord dataRecord = Objects.nonNull(prefetched)
+                ? prefetched.remove(getPrefetchKey(importConfiguration, searchTerm))
+                : null;
+        if (Objects.isNull(dataRecord)) {
+            importModule = initializeImportModule();
+            dataRecord = importModule.getFullRecordById(createDataImportFromImportConfiguration(importConfiguration),
+                searchTerm);
+        }
         if (extractExemplars) {
             exemplarRecords = extractExemplarRecords(dataRecord, importConfiguration);
         }
         return dataRecord;
     }
 
+    /**
+     * Retrieves the records with the given IDs from the external data source concurrently. A subsequent import of
+     * one of these records with the same import configuration in the same thread uses the retrieved record instead
+     * of requesting it again, until the returned handle is closed. Records that cannot be retrieved are requested
+     * again on import, which then reports the error.
+     *
+     * @param importConfiguration ImportConfiguration used for data import
+     * @param identifiers IDs of records to be loaded from external source
+     * @return handle to discard the records that have not been imported
+     */
+    public PrefetchedRecords prefetchRecords(ImportConfiguration importConfiguration, Collection<String> identifiers) {
+        List<String> searchTerms = identifiers.stream()
+                .map(identifier -> getSearchTermWithDelimiter(identifier, importConfiguration))
+                .collect(Collectors.toList());
+        Map<String, DataRecord> records = initializeImportModule()
+                .getFullRecordsById(createDataImportFromImportConfiguration(importConfiguration), searchTerms);
+        Map<String, DataRecord> prefetched = new HashMap<>();
+        for (Map.Entry<String, DataRecord> record : records.entrySet()) {
+            prefetched.put(getPrefetchKey(importConfiguration, record.getKey()), record.getValue());
+        }
+        prefetchedRecords.set(prefetched);
+        return new PrefetchedRecords(prefetched);
+    }
+
+    /**
+     * Handle to the records retrieved in advance for an import run. Closing it
+     * discards the records that have not been imported.
+     */
+    public final class PrefetchedRecords implements AutoCloseable {
+        private final Map<String, DataRecord> records;
+
+        private PrefetchedRecords(Map<String, DataRecord> records) {
+            this.records = records;
+        }
+
+        @Override
+        public void close() {
+            if (prefetchedRecords.get() == records) {
+                prefetchedRecords.remove();
+            }
+        }
+    }
+
+    private static String getPrefetchKey(ImportConfiguration importConfiguration, String searchTerm) {
+        return importConfiguration.getId() + "\n" + searchTerm;
+    }
+
     /**
      * This method transforms a given data record that contains an EAD collection as an XML string into a list of
      * temp processes. The first temp process in the list will contain the 'collection' itself, while all following temp
@@ -1362,6 +1429,131 @@ public class ImportService {
      */
     public Process importProcess(String ppn, int projectId, int templateId, ImportConfiguration importConfiguration,
                                  Map<String, List<String>> presetMetadata) throws ImportException {
+        return saveImportedProcess(createImportedProcess(ppn, projectId, templateId, importConfiguration,
+                presetMetadata));
+    }
+
+    private Process saveImportedProcess(TempProcess tempProcess) throws ImportException {
+        try {
+            ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
+            URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
+            tempProcess.getProcess().setProcessBaseUri(processBaseUri);
+            OutputStream out = ServiceManager.getFileService()
+                    .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
+            tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
+            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+            linkToParent(tempProcess);
+            ServiceManager.getProcessService().save(tempProcess.getProcess());
+        } catch (DAOException | IOException | ProcessGenerationException | DataException | CommandException e) {
+            logger.error(e);
+            throw new ImportException(e.getLocalizedMessage());
+        }
+        return tempProcess.getProcess();
+    }
+
+    /**
+     * Imports the processes of several records and saves them to the database. The records are retrieved in
+     * advance in chunks, and the records of a chunk are discarded once its processes have been created, so that
+     * only the records of one chunk are held in memory. Processes without a parent process are saved together per
+     * chunk, see {@link ProcessService#createProcesses(List, List)}; processes with a parent process are saved one
+     * by one, as the metadata file of the parent must be updated. If a chunk cannot be saved completely, its
+     * processes are removed again, so that the records can be imported again later, and only the records of that
+     * chunk are reported as failed.
+     *
+     * @param processMetadata Map containing record IDs as keys and preset metadata as values
+     * @param projectId the projectId
+     * @param templateId the templateId
+     * @param importConfiguration the selected import configuration
+     * @param importResults Map to which the record IDs are added when their processes have been saved, with
+     *                      {@code null} as value on success and the error message otherwise
+     * @param progressListener notified each time record IDs have been added to the import results, that is after
+     *                         each failed record, each process saved one by one and each chunk of processes
+     */
+    public void importProcesses(Map<String, Map<String, List<String>>> processMetadata, int projectId,
+                                int templateId, ImportConfiguration importConfiguration,
+                                Map<String, String> importResults, Runnable progressListener) {
+        List<Map.Entry<String, Map<String, List<String>>>> records = new ArrayList<>(processMetadata.entrySet());
+        Set<String> titles = new HashSet<>();
+        for (int from = 0; from < records.size(); from += IMPORT_CHUNK_SIZE) {
+            List<Map.Entry<String, Map<String, List<String>>>> chunk = records.subList(from,
+                Math.min(from + IMPORT_CHUNK_SIZE, records.size()));
+            try (PrefetchedRecords prefetchedRecords = prefetchChunk(importConfiguration,
+                chunk.stream().map(Map.Entry::getKey).collect(Collectors.toList()))) {
+                importChunk(chunk, projectId, templateId, importConfiguration, titles, importResults,
+                    progressListener);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the records of a chunk in advance. If this fails, the records
+     * are requested one by one on import, which reports the errors per record.
+     *
+     * @return handle to the records retrieved in advance, or {@code null}
+     */
+    private PrefetchedRecords prefetchChunk(ImportConfiguration importConfiguration, List<String> identifiers) {
+        try {
+            return prefetchRecords(importConfiguration, identifiers);
+        } catch (RuntimeException e) {
+            logger.warn("Unable to retrieve records in advance: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void importChunk(List<Map.Entry<String, Map<String, List<String>>>> chunk, int projectId,
+                             int templateId, ImportConfiguration importConfiguration, Set<String> titles,
+                             Map<String, String> importResults, Runnable progressListener) {
+        List<String> recordIds = new ArrayList<>();
+        List<TempProcess> tempProcesses = new ArrayList<>();
+        for (Map.Entry<String, Map<String, List<String>>> entry : chunk) {
+            try {
+                TempProcess tempProcess = createImportedProcess(entry.getKey(), projectId, templateId,
+                        importConfiguration, entry.getValue());
+                String title = tempProcess.getProcess().getTitle();
+                if (!titles.add(title)) {
+                    throw new ImportException(Helper.getTranslation("processTitleAlreadyInUse", title));
+                }
+                if (Objects.nonNull(parentTempProcess)) {
+                    saveImportedProcess(tempProcess);
+                    importResults.put(entry.getKey(), null);
+                    progressListener.run();
+                } else {
+                    recordIds.add(entry.getKey());
+                    tempProcesses.add(tempProcess);
+                }
+            } catch (ImportException e) {
+                importResults.put(entry.getKey(), e.getLocalizedMessage());
+                progressListener.run();
+            }
+        }
+        if (!tempProcesses.isEmpty()) {
+            saveImportedProcesses(recordIds, tempProcesses, importResults);
+            progressListener.run();
+        }
+    }
+
+    private void saveImportedProcesses(List<String> recordIds, List<TempProcess> tempProcesses,
+                                       Map<String, String> importResults) {
+        String errorMessage = null;
+        try {
+            ServiceManager.getProcessService().createProcesses(
+                tempProcesses.stream().map(TempProcess::getProcess).collect(Collectors.toList()),
+                tempProcesses.stream().map(TempProcess::getWorkpiece).collect(Collectors.toList()));
+        } catch (DataException | IOException e) {
+            logger.error(e);
+            errorMessage = e.getLocalizedMessage();
+        }
+        for (int i = 0; i < recordIds.size(); i++) {
+            boolean created = Objects.nonNull(tempProcesses.get(i).getProcess().getId());
+            importResults.put(recordIds.get(i), created ? null : errorMessage);
+        }
+        recordIds.clear();
+        tempProcesses.clear();
+    }
+
+    private TempProcess createImportedProcess(String ppn, int projectId, int templateId,
+                                              ImportConfiguration importConfiguration,
+                                              Map<String, List<String>> presetMetadata) throws ImportException {
         LinkedList<TempProcess> processList = new LinkedList<>();
         TempProcess tempProcess;
         Template template;
@@ -1392,23 +1584,14 @@ public class ImportService {
             } else if (ServiceManager.getProcessService().findNumberOfProcessesWithTitle(title) > 0) {
                 throw new ProcessGenerationException(Helper.getTranslation("processTitleAlreadyInUse", title));
             }
-            ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
-            URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
-            tempProcess.getProcess().setProcessBaseUri(processBaseUri);
-            OutputStream out = ServiceManager.getFileService()
-                    .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
-            tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
-            linkToParent(tempProcess);
-            ServiceManager.getProcessService().save(tempProcess.getProcess());
         } catch (DAOException | IOException | ProcessGenerationException | XPathExpressionException
                 | ParserConfigurationException | NoRecordFoundException | UnsupportedFormatException
                 | URISyntaxException | SAXException | InvalidMetadataValueException | NoSuchMetadataFieldException
-                | DataException | CommandException | TransformerException | CatalogException e) {
+                | DataException | TransformerException | CatalogException e) {
             logger.error(e);
             throw new ImportException(e.getLocalizedMessage());
         }
-        return tempProcess.getProcess();
+        return tempProcess;
     }
 
     private void linkToParent(TempProcess tempProcess) throws DAOException, ProcessGenerationException, IOException {
@@ -1437,12 +1620,7 @@ public class ImportService {
 
     private static Collection<String> getFunctionalMetadata(Ruleset ruleset, FunctionalMetadata metadata)
             throws IOException {
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
-        String rulesetDir = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
-        String rulesetPath = Paths.get(rulesetDir, ruleset.getFile()).toString();
-        rulesetManagement.load(new File(rulesetPath));
-        return rulesetManagement.getFunctionalKeys(metadata);
+        return ServiceManager.getRulesetService().openRuleset(ruleset).getFunctionalKeys(metadata);
     }
 
     private List<MetadataEntry> createMetadata(Map<String, List<String>> presetMetadata) {
@@ -1510,6 +1688,7 @@ public class ImportService {
                     + "' (OPAC_SEARCH expected instead)!");
         }
         DataImport dataImport = new DataImport();
+        dataImport.setId(importConfiguration.getId());
         dataImport.setTitle(importConfiguration.getTitle());
         dataImport.setSearchInterfaceType(SearchInterfaceType.valueOf(importConfiguration.getInterfaceType()));
         dataImport.setReturnFormat(FileFormat.valueOf(importConfiguration.getReturnFormat()));
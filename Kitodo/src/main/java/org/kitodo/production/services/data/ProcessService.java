@@ -19,24 +19,17 @@ import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 
-import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
-import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DateFormat;
@@ -51,7 +44,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -59,7 +51,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -78,17 +75,8 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.json.XML;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
 import org.kitodo.api.dataformat.LogicalDivision;
-import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
@@ -101,6 +89,7 @@ import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.ImportConfiguration;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Property;
@@ -116,12 +105,15 @@ import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.database.persistence.ProcessDAO;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.elasticsearch.index.BulkIndexRequest;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.ProcessType;
 import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.CommandException;
 import org.kitodo.exceptions.ConfigurationException;
 import org.kitodo.exceptions.InvalidImagesException;
 import org.kitodo.export.ExportMets;
@@ -147,7 +139,8 @@ import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.ProjectSearchService;
-import org.kitodo.production.services.dataformat.MetsService;
+import org.kitodo.production.services.index.IndexOutbox;
+import org.kitodo.production.services.index.MetsIndexData;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.workflow.WorkflowControllerService;
 import org.kitodo.production.workflow.KitodoNamespaceContext;
@@ -159,6 +152,7 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.Operator;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.WildcardQueryBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
@@ -186,7 +180,25 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private static final String METADATA_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadata";
     private static final String METADATA_GROUP_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadataGroup.metadata";
     private static final String METADATA_FILE_NAME = "meta.xml";
+    private static final String COMMENTS_LIST_COLUMN = "process.comments";
     private static final String NEW_LINE_ENTITY = "\n";
+
+    /**
+     * Number of processes removed in one transaction and one bulk index
+     * request by {@link #deleteProcesses(List)}.
+     */
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    /**
+     * Number of processes loaded with one query by {@link #getByIds(List)}.
+     */
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    /**
+     * Number of processes inserted in one transaction and indexed with one
+     * bulk request by {@link #createProcesses(List, List)}.
+     */
+    private static final int CREATE_CHUNK_SIZE = 100;
     private static final boolean USE_ORIG_FOLDER = ConfigCore
             .getBooleanParameterOrDefaultValue(ParameterCore.USE_ORIG_FOLDER);
     private static final Map<Integer, Collection<String>> RULESET_CACHE_FOR_CREATE_FROM_CALENDAR = new HashMap<>();
@@ -327,19 +339,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return parents;
     }
 
-    private int getNumberOfImagesForIndex(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getPhysicalStructure())
-                .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE)).count());
-    }
-
-    private int getNumberOfMetadata(Workpiece workpiece) {
-        return Math.toIntExact(MetsService.countLogicalMetadata(workpiece));
-    }
-
-    private int getNumberOfStructures(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getLogicalStructure()).count());
-    }
-
     @Override
     public void addAllObjectsToIndex(List<Process> processes) throws CustomResponseException, DAOException, IOException {
         for (Process process : processes) {
@@ -349,19 +348,21 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     private void enrichProcessData(Process process, boolean forIndexingAll) throws IOException {
-        process.setMetadata(getMetadataForIndex(process, forIndexingAll));
+        process.setMetadata(Collections.emptyList());
         URI metadataFilePath = fileService.getMetadataFilePath(process, false, forIndexingAll);
         if (!fileService.fileExist(metadataFilePath)) {
             logger.info("No metadata file for indexing: {}", metadataFilePath);
         } else {
-            try {
-                Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFilePath);
-                process.setNumberOfImages(getNumberOfImagesForIndex(workpiece));
-                process.setNumberOfMetadata(getNumberOfMetadata(workpiece));
-                process.setNumberOfStructures(getNumberOfStructures(workpiece));
-                process.setBaseType(getBaseType(workpiece));
-            } catch (IllegalArgumentException | IOException e) {
-                logger.warn("Cannot read metadata file for indexing: {}", metadataFilePath);
+            // read metadata, counts and base type in one streaming pass instead of unmarshalling the workpiece
+            try (InputStream inputStream = fileService.read(metadataFilePath)) {
+                MetsIndexData metsIndexData = MetsIndexData.read(inputStream);
+                process.setMetadata(metsIndexData.getMetadata());
+                process.setNumberOfImages(metsIndexData.getNumberOfImages());
+                process.setNumberOfMetadata(metsIndexData.getNumberOfMetadata());
+                process.setNumberOfStructures(metsIndexData.getNumberOfStructures());
+                process.setBaseType(metsIndexData.getBaseType());
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Cannot read metadata file for indexing: {}: {}", metadataFilePath, e.getMessage());
                 logger.catching(Level.DEBUG, e);
             }
         }
@@ -403,9 +404,73 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     public List<ProcessDTO> loadData(int first, int pageSize, String sortField,
                                      org.primefaces.model.SortOrder sortOrder, Map filters,
                                      boolean showClosedProcesses, boolean showInactiveProjects) throws DataException {
+        return loadPage(first, pageSize, sortField, sortOrder, filters, showClosedProcesses, showInactiveProjects,
+            null, null).getResults();
+    }
+
+    /**
+     * Load a page of processes with given parameters together with the total
+     * number of processes matching the filter, in one request. Only the fields
+     * needed to show the given list columns are loaded from the index.
+     * @param first index of first process to load
+     * @param pageSize number of processes to load
+     * @param sortField name of field by which processes are sorted
+     * @param sortOrder SortOrder by which processes are sorted - either ascending or descending
+     * @param filters filter map
+     * @param showClosedProcesses boolean controlling whether to load closed processes or not
+     * @param showInactiveProjects boolean controlling whether to load processes of closed projects or not
+     * @param columns list columns shown, or null to load all fields used by the DTOs
+     * @param searchAfter sort values of the last process of the previous page, or null if the page does not follow it
+     * @return page of loaded processes
+     * @throws DataException if processes cannot be loaded from search index
+     */
+    public SearchResultPage<ProcessDTO> loadPage(int first, int pageSize, String sortField,
+                                                 org.primefaces.model.SortOrder sortOrder, Map filters,
+                                                 boolean showClosedProcesses, boolean showInactiveProjects,
+                                                 Collection<ListColumn> columns, Object[] searchAfter)
+            throws DataException {
         String filter = ServiceManager.getFilterService().parseFilterString(filters);
-        return findByQuery(getQueryForFilter(showClosedProcesses, showInactiveProjects, filter),
-                getSortBuilder(sortField, sortOrder), first, pageSize, false);
+        return findPageByQuery(getQueryForFilter(showClosedProcesses, showInactiveProjects, filter),
+                getSortBuilder(sortField, sortOrder), first, pageSize, false, getSourceFilterForListColumns(columns),
+                searchAfter);
+    }
+
+    /**
+     * Returns the source filter for loading processes to be shown in the
+     * process list with the given columns. In addition to the fields never
+     * converted to DTOs, the wiki field is not loaded, the comments only if
+     * the comments column is shown and the properties only if a property
+     * column is shown.
+     *
+     * @param columns
+     *            list columns shown, or null to load all fields used by the
+     *            DTOs
+     * @return the source filter
+     */
+    public FetchSourceContext getSourceFilterForListColumns(Collection<ListColumn> columns) {
+        if (Objects.isNull(columns)) {
+            return getSourceFilterForDTOs();
+        }
+        List<String> excludes = new ArrayList<>();
+        excludes.add(ProcessTypeField.METADATA.getKey());
+        excludes.add(ProcessTypeField.WIKI_FIELD.getKey());
+        if (columns.stream().noneMatch(column -> COMMENTS_LIST_COLUMN.equals(column.getTitle()))) {
+            excludes.add(ProcessTypeField.COMMENTS.getKey());
+            excludes.add(ProcessTypeField.COMMENTS_MESSAGE.getKey());
+        }
+        if (columns.stream().noneMatch(ListColumn::isCustom)) {
+            excludes.add(ProcessTypeField.PROPERTIES.getKey());
+        }
+        return new FetchSourceContext(true, null, excludes.toArray(new String[0]));
+    }
+
+    /**
+     * The metadata of the processes are searched in the index, but never
+     * converted to DTOs, and are therefore not loaded.
+     */
+    @Override
+    protected FetchSourceContext getSourceFilterForDTOs() {
+        return new FetchSourceContext(true, null, new String[] {ProcessTypeField.METADATA.getKey() });
     }
 
     /**
@@ -453,7 +518,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
     /**
      * Method saves or removes batches, tasks and project related to modified
-     * process.
+     * process. All documents are sent to the index in one request.
      *
      * @param process
      *            object
@@ -461,9 +526,11 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     @Override
     protected void manageDependenciesForIndex(Process process)
             throws CustomResponseException, DAOException, DataException, IOException {
-        manageBatchesDependenciesForIndex(process);
-        manageProjectDependenciesForIndex(process);
-        manageTaskDependenciesForIndex(process);
+        BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+        manageBatchesDependenciesForIndex(process, bulkIndexRequest);
+        manageProjectDependenciesForIndex(process, bulkIndexRequest);
+        manageTaskDependenciesForIndex(process, bulkIndexRequest);
+        performBulkRequest(bulkIndexRequest, false);
     }
 
     /**
@@ -472,17 +539,19 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      *
      * @param process
      *            object
+     * @param bulkIndexRequest
+     *            request collecting the documents to index
      */
-    private void manageBatchesDependenciesForIndex(Process process)
-            throws CustomResponseException, DataException, IOException {
+    private void manageBatchesDependenciesForIndex(Process process, BulkIndexRequest bulkIndexRequest)
+            throws CustomResponseException {
         if (process.getIndexAction() == IndexAction.DELETE) {
             for (Batch batch : process.getBatches()) {
                 batch.getProcesses().remove(process);
-                ServiceManager.getBatchService().saveToIndex(batch, false);
+                ServiceManager.getBatchService().addToBulkRequest(bulkIndexRequest, batch);
             }
         } else {
             for (Batch batch : process.getBatches()) {
-                ServiceManager.getBatchService().saveToIndex(batch, false);
+                ServiceManager.getBatchService().addToBulkRequest(bulkIndexRequest, batch);
             }
         }
     }
@@ -492,11 +561,13 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      *
      * @param process
      *            object
+     * @param bulkIndexRequest
+     *            request collecting the documents to index
      */
-    private void manageProjectDependenciesForIndex(Process process)
-            throws CustomResponseException, DataException, IOException {
+    private void manageProjectDependenciesForIndex(Process process, BulkIndexRequest bulkIndexRequest)
+            throws CustomResponseException {
         if (Objects.nonNull(process.getProject())) {
-            ServiceManager.getProjectService().saveToIndex(process.getProject(), false);
+            ServiceManager.getProjectService().addToBulkRequest(bulkIndexRequest, process.getProject());
         }
     }
 
@@ -506,48 +577,47 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      *
      * @param process
      *            object
+     * @param bulkIndexRequest
+     *            request collecting the documents to index
      */
-    private void manageTaskDependenciesForIndex(Process process)
-            throws CustomResponseException, DAOException, IOException, DataException {
+    private void manageTaskDependenciesForIndex(Process process, BulkIndexRequest bulkIndexRequest)
+            throws CustomResponseException, DataException {
         if (process.getIndexAction() == IndexAction.DELETE) {
             for (Task task : process.getTasks()) {
-                ServiceManager.getTaskService().removeFromIndex(task, false);
+                ServiceManager.getTaskService().addRemovalToBulkRequest(bulkIndexRequest, task.getId());
             }
         } else {
-            saveOrRemoveTasksInIndex(process);
+            saveOrRemoveTasksInIndex(process, bulkIndexRequest);
         }
     }
 
     /**
      * Compare index and database, according to comparisons results save or
-     * remove tasks.
+     * remove tasks. All tasks of the process are saved, and tasks which are
+     * in the index but no longer belong to the process are removed.
      *
      * @param process
      *            object
+     * @param bulkIndexRequest
+     *            request collecting the documents to index
      */
-    private void saveOrRemoveTasksInIndex(Process process)
-            throws CustomResponseException, DAOException, IOException, DataException {
+    private void saveOrRemoveTasksInIndex(Process process, BulkIndexRequest bulkIndexRequest)
+            throws CustomResponseException, DataException {
         List<Integer> database = new ArrayList<>();
         List<Integer> index = new ArrayList<>();
 
-        for (Task task : process.getTasks()) {
-            database.add(task.getId());
-            ServiceManager.getTaskService().saveToIndex(task, false);
-        }
-
         List<Map<String, Object>> searchResults = ServiceManager.getTaskService().findByProcessId(process.getId());
         for (Map<String, Object> object : searchResults) {
             index.add(getIdFromJSONObject(object));
         }
 
-        List<Integer> missingInIndex = findMissingValues(database, index);
-        List<Integer> notNeededInIndex = findMissingValues(index, database);
-        for (Integer missing : missingInIndex) {
-            ServiceManager.getTaskService().saveToIndex(ServiceManager.getTaskService().getById(missing), false);
+        for (Task task : process.getTasks()) {
+            database.add(task.getId());
+            ServiceManager.getTaskService().addToBulkRequest(bulkIndexRequest, task);
         }
 
-        for (Integer notNeeded : notNeededInIndex) {
-            ServiceManager.getTaskService().removeFromIndex(notNeeded, false);
+        for (Integer notNeeded : findMissingValues(index, database)) {
+            ServiceManager.getTaskService().addRemovalToBulkRequest(bulkIndexRequest, notNeeded);
         }
     }
 
@@ -930,6 +1000,25 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return processes;
     }
 
+    /**
+     * Load the processes with the given IDs from the database. The processes
+     * are loaded with one query per thousand IDs, instead of one query per
+     * process.
+     *
+     * @param ids
+     *            IDs of the processes to load
+     * @return the processes, ordered by their ID
+     */
+    public List<Process> getByIds(List<Integer> ids) {
+        List<Process> processes = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            processes.addAll(getByQuery("FROM Process WHERE id IN (:ids) ORDER BY id",
+                Collections.singletonMap("ids", chunk)));
+        }
+        return processes;
+    }
+
     @Override
     public ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
         ProcessDTO processDTO = new ProcessDTO();
@@ -952,7 +1041,8 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             processDTO.setBaseType(ProcessTypeField.BASE_TYPE.getStringValue(jsonObject));
             processDTO.setLastEditingUser(ProcessTypeField.LAST_EDITING_USER.getStringValue(jsonObject));
             processDTO.setCorrectionCommentStatus(ProcessTypeField.CORRECTION_COMMENT_STATUS.getIntValue(jsonObject));
-            processDTO.setHasComments(!ProcessTypeField.COMMENTS_MESSAGE.getStringValue(jsonObject).isEmpty());
+            String comments = ProcessTypeField.COMMENTS_MESSAGE.getStringValue(jsonObject);
+            processDTO.setHasComments(Objects.nonNull(comments) && !comments.isEmpty());
             convertLastProcessingDates(jsonObject, processDTO);
             convertTaskProgress(jsonObject, processDTO);
 
@@ -975,6 +1065,9 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private List<PropertyDTO> getProperties(Map<String, Object> jsonObject) throws DataException {
         List<Map<String, Object>> jsonArray = ProcessTypeField.PROPERTIES.getJsonArray(jsonObject);
         List<PropertyDTO> properties = new ArrayList<>();
+        if (Objects.isNull(jsonArray)) {
+            return properties;
+        }
         for (Map<String, Object> stringObjectMap : jsonArray) {
             PropertyDTO propertyDTO = new PropertyDTO();
             Object title = stringObjectMap.get(JSON_TITLE);
@@ -1177,7 +1270,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @return URI
      */
     public URI getMetadataFileUri(Process process) {
-        URI workPathUri = ServiceManager.getFileService().getProcessBaseUriForExistingProcess(process);
+        return getMetadataFileUri(ServiceManager.getFileService().getProcessBaseUriForExistingProcess(process));
+    }
+
+    private static URI getMetadataFileUri(URI workPathUri) {
         String workDirectoryPath = workPathUri.getPath();
         try {
             return new URI(workPathUri.getScheme(), workPathUri.getUserInfo(), workPathUri.getHost(),
@@ -1559,33 +1655,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
                         showInactiveProjects);
-                SXSSFWorkbook wb = sr.getResult();
-                List<List<Cell>> rowList = new ArrayList<>();
-                Sheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    Row myRow = (Row) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<Cell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        Cell myCell = (Cell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
-                }
-
-                document.close();
-                wb.close();
+                sr.writePdf(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1606,9 +1676,29 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
                         showInactiveProjects);
-                SXSSFWorkbook wb = sr.getResult();
-                wb.write(out);
-                wb.close();
+                sr.writeXlsx(out);
+                out.flush();
+                facesContext.responseComplete();
+            }
+        }
+    }
+
+    /**
+     * Generate result set as CSV file. The rows are sent to the web browser
+     * while they are read from the index.
+     *
+     * @param filter
+     *            for generating search results
+     */
+    public void generateResultAsCsv(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
+            throws IOException {
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+        if (!facesContext.getResponseComplete()) {
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.csv");
+            try (OutputStream out = response.getResponseOutputStream()) {
+                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
+                        showInactiveProjects);
+                sr.writeCsv(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1649,23 +1739,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<Cell>> rowList) throws DocumentException {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(8);
-        table.setSpacingBefore(20);
-        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
-        for (List<Cell> row : rowList) {
-            for (Cell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private static DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
         return loader.loadModule();
@@ -2123,85 +2196,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return commentsForDocket;
     }
 
-    private List<Map<String, Object>> getMetadataForIndex(Process process) {
-        return getMetadataForIndex(process, false);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> getMetadataForIndex(Process process, boolean forIndexingAll) {
-        try {
-            URI metadataFileUri = ServiceManager.getFileService().getMetadataFilePath(process, false, true);
-            if (!ServiceManager.getFileService().fileExist(metadataFileUri)) {
-                logger.info("No metadata file for indexing: {}", metadataFileUri);
-                return Collections.emptyList();
-            }
-            String metadataFile;
-            try (InputStream inputStream = ServiceManager.getFileService().readMetadataFile(process, forIndexingAll)) {
-                metadataFile = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            }
-            JSONObject xmlJSONObject = XML.toJSONObject(metadataFile);
-            Map<String, Object> json = iterateOverJsonObject(xmlJSONObject);
-            if (json.containsKey("mets")) {
-                Map<String, Object> mets = (Map<String, Object>) json.get("mets");
-                Object dmdSec = mets.get("dmdSec");
-                List<Map<String, Object>> metadata = new ArrayList<>();
-                if (dmdSec instanceof List) {
-                    metadata = (List<Map<String, Object>>) dmdSec;
-                } else if (dmdSec instanceof Map) {
-                    metadata.add((Map<String, Object>) dmdSec);
-                }
-                return metadata;
-            }
-        } catch (NullPointerException | IOException e) {
-            logger.warn(e.getMessage(), e);
-        }
-        return Collections.emptyList();
-    }
-
-    private Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
-        Iterator<String> keys = xmlJSONObject.keys();
-        Map<String, Object> json = new HashMap<>();
-        while (keys.hasNext()) {
-            String key = keys.next();
-            Object value = xmlJSONObject.get(key);
-            if (value instanceof String || value instanceof Integer) {
-                json.put(prepareKey(key), value);
-            } else if (value instanceof Long || value instanceof BigInteger) {
-                json.put(prepareKey(key), value.toString());
-            } else if (value instanceof JSONObject) {
-                JSONObject jsonObject = (JSONObject) value;
-                Map<String, Object> map = iterateOverJsonObject(jsonObject);
-                json.put(prepareKey(key), map);
-            } else if (value instanceof JSONArray) {
-                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private Object iterateOverJsonArray(JSONArray jsonArray) {
-        int jsonArraySize = jsonArray.length();
-        List<Object> json = new ArrayList<>(jsonArraySize);
-        for (int i = 0; i < jsonArraySize; i++) {
-            Object value = jsonArray.get(i);
-            if (value instanceof JSONObject) {
-                json.add(iterateOverJsonObject((JSONObject) value));
-            } else if (value instanceof String) {
-                json.add(value);
-            } else if (value instanceof JSONArray) {
-                json.add(iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private String prepareKey(String key) {
-        if (key.contains(":")) {
-            return key.substring(key.indexOf(':') + 1);
-        }
-        return key;
-    }
-
     /**
      * Retrieve and return process property value of property with given name
      * 'propertyName' from given ProcessDTO 'process'.
@@ -2378,21 +2372,276 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         ServiceManager.getProcessService().remove(processToDelete);
     }
 
-    private static void deleteMetadataDirectory(Process process) {
-        for (Task task : process.getTasks()) {
-            deleteSymlinksFromUserHomes(task);
+    /**
+     * Create many new processes at once. Unlike {@link #save(Process, boolean)},
+     * the processes are inserted in chunks, each in one transaction, so that
+     * the inserts of their tasks and of the rows of the join tables are sent
+     * to the database in JDBC batches. The process directories and metadata
+     * files of a chunk are written in parallel by a pool of threads of its
+     * own, and the processes and their tasks are indexed with one bulk
+     * request per chunk, which also updates the documents of their projects.
+     * Parent processes must have been saved before and are not updated in the
+     * index. If a chunk cannot be created completely, its processes are
+     * removed again and their IDs are reset to {@code null}, while the
+     * processes of the chunks before are kept.
+     *
+     * @param processes
+     *            new processes to create
+     * @param workpieces
+     *            workpieces to save as metadata files of the processes, in the
+     *            same order as the processes. Their IDs are set to the IDs of
+     *            the processes.
+     * @throws DataException
+     *             if the processes cannot be saved to the database or to the
+     *             index
+     * @throws IOException
+     *             if a process directory or metadata file cannot be written
+     */
+    public void createProcesses(List<Process> processes, List<Workpiece> workpieces)
+            throws DataException, IOException {
+        if (processes.size() != workpieces.size()) {
+            throw new IllegalArgumentException("Number of processes and workpieces differs");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.PROCESS_CREATION_THREADS), runnable -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("ProcessCreation-" + thread.getId());
+                return thread;
+            });
+        try {
+            for (int from = 0; from < processes.size(); from += CREATE_CHUNK_SIZE) {
+                int to = Math.min(from + CREATE_CHUNK_SIZE, processes.size());
+                List<Process> chunk = processes.subList(from, to);
+                for (Process process : chunk) {
+                    WorkflowControllerService.updateProcessSortHelperStatus(process);
+                    process.setIndexAction(IndexAction.INDEX);
+                }
+                try {
+                    dao.saveList(chunk);
+                    writeMetadataFiles(executor, chunk, workpieces.subList(from, to));
+                    indexCreatedProcesses(chunk);
+                } catch (DAOException e) {
+                    removeCreatedProcesses(chunk);
+                    throw new DataException(e);
+                } catch (DataException | IOException | RuntimeException e) {
+                    removeCreatedProcesses(chunk);
+                    throw e;
+                }
+                logger.info("Created {} processes", chunk.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes the process directories and metadata files with the given pool
+     * of threads. The pool threads only get the ID of each process and the
+     * resolved folder paths, never the process objects, so that nothing is
+     * loaded lazily from the Hibernate session of the calling thread. The
+     * base URIs are set on the processes in the calling thread afterwards.
+     */
+    private void writeMetadataFiles(ExecutorService executor, List<Process> processes, List<Workpiece> workpieces)
+            throws IOException {
+        List<Callable<URI>> writers = new ArrayList<>(processes.size());
+        for (int i = 0; i < processes.size(); i++) {
+            String processId = processes.get(i).getId().toString();
+            List<String> folderPaths = fileService.getProcessFolderPaths(processes.get(i));
+            Workpiece workpiece = workpieces.get(i);
+            workpiece.setId(processId);
+            writers.add(() -> {
+                URI processBaseUri = fileService.createProcessLocation(processId, folderPaths);
+                ServiceManager.getMetsService().saveWorkpiece(workpiece, getMetadataFileUri(processBaseUri));
+                return processBaseUri;
+            });
+        }
+        try {
+            List<Future<URI>> processBaseUris = executor.invokeAll(writers);
+            for (int i = 0; i < processes.size(); i++) {
+                processes.get(i).setProcessBaseUri(processBaseUris.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Removes the processes of a chunk whose creation failed from the
+     * database, the index and the file system again, so that no half created
+     * processes remain, which would block a new attempt with the same titles.
+     * The IDs of the processes are reset, so that the caller can tell them
+     * from the processes of the chunks created before.
+     */
+    private void removeCreatedProcesses(List<Process> processes) {
+        List<Integer> ids = processes.stream().map(Process::getId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        try {
+            deleteProcesses(ids);
+        } catch (DAOException | DataException | IOException | RuntimeException e) {
+            logger.error("Cannot remove processes {} whose creation failed: {}", ids, e.getMessage(), e);
+        }
+        for (Process process : processes) {
+            process.setId(null);
         }
+    }
+
+    private void indexCreatedProcesses(List<Process> processes) throws DataException, IOException {
         try {
-            FileService fileService = ServiceManager.getFileService();
-            fileService.delete(ServiceManager.getProcessService().getProcessDataDirectory(process));
-            URI ocrDirectory = fileService.getOcrDirectory(process);
-            if (fileService.fileExist(ocrDirectory)) {
-                fileService.delete(ocrDirectory);
+            if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX)) {
+                dao.saveList(processes);
+                for (Process process : processes) {
+                    IndexOutbox.getInstance().add(this, process.getId(), true);
+                }
+                return;
+            }
+            BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+            Set<Integer> projectIds = new HashSet<>();
+            for (Process process : processes) {
+                enrichProcessData(process, false);
+                addToBulkRequest(bulkIndexRequest, process);
+                for (Task task : process.getTasks()) {
+                    ServiceManager.getTaskService().addToBulkRequest(bulkIndexRequest, task);
+                }
+                if (Objects.nonNull(process.getProject())) {
+                    projectIds.add(process.getProject().getId());
+                }
+            }
+            for (Integer projectId : projectIds) {
+                ServiceManager.getProjectService().addToBulkRequest(bulkIndexRequest,
+                    ServiceManager.getProjectService().getById(projectId));
+            }
+            performBulkRequest(bulkIndexRequest, true);
+            for (Process process : processes) {
+                process.setIndexAction(IndexAction.DONE);
+            }
+            dao.saveList(processes);
+        } catch (CustomResponseException | DAOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Delete many processes at once. Unlike {@link #deleteProcess(Process)},
+     * the processes are removed in chunks, each with a few set-based
+     * statements in one transaction, and the documents of the processes and
+     * their tasks are removed from the index with one bulk request per chunk.
+     * The same request updates the documents of the projects, batches and
+     * processes related to the deleted processes. Child processes which are
+     * not deleted as well are detached from their parent. The links to the
+     * deleted processes are only removed from the metadata files of their
+     * parents after the removal from the database has been committed.
+     *
+     * @param processIds
+     *            IDs of the processes to delete
+     * @throws DAOException
+     *             if the processes cannot be removed from the database
+     * @throws DataException
+     *             if the processes cannot be removed from the index
+     * @throws IOException
+     *             if the link to a deleted process cannot be removed from the
+     *             metadata file of its parent
+     */
+    public void deleteProcesses(List<Integer> processIds) throws DAOException, DataException, IOException {
+        Set<Integer> deletedProcessIds = new HashSet<>(processIds);
+        for (int from = 0; from < processIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Integer> chunk = processIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, processIds.size()));
+            Map<String, Object> parameters = Collections.singletonMap("ids", chunk);
+            Set<Integer> relatedProcessIds = new HashSet<>();
+            List<Runnable> directoryDeletions = new ArrayList<>();
+            List<Process> childrenToUnlink = new ArrayList<>();
+            for (Process process : getByQuery("FROM Process WHERE id IN (:ids)", parameters)) {
+                directoryDeletions.add(prepareMetadataDirectoryDeletion(process));
+                Process parent = process.getParent();
+                if (Objects.nonNull(parent) && !deletedProcessIds.contains(parent.getId())) {
+                    childrenToUnlink.add(process);
+                    relatedProcessIds.add(parent.getId());
+                }
+            }
+            relatedProcessIds.addAll(dao.getIdsByQuery("SELECT id FROM Process WHERE parent.id IN (:ids)", parameters));
+            relatedProcessIds.removeAll(deletedProcessIds);
+            List<Integer> projectIds = dao.getIdsByQuery("SELECT DISTINCT project.id FROM Process"
+                    + " WHERE project IS NOT NULL AND id IN (:ids)", parameters);
+            List<Integer> batchIds = dao.getIdsByQuery("SELECT DISTINCT batch.id FROM Batch AS batch"
+                    + " JOIN batch.processes AS process WHERE process.id IN (:ids)", parameters);
+
+            List<Integer> taskIds = dao.removeAll(chunk);
+            for (Process child : childrenToUnlink) {
+                MetadataEditor.removeLink(child.getParent(), child.getId());
             }
-        } catch (IOException | RuntimeException e) {
+            directoryDeletions.forEach(Runnable::run);
+
+            try {
+                BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+                for (Integer processId : chunk) {
+                    addRemovalToBulkRequest(bulkIndexRequest, processId);
+                }
+                for (Integer taskId : taskIds) {
+                    ServiceManager.getTaskService().addRemovalToBulkRequest(bulkIndexRequest, taskId);
+                }
+                for (Integer processId : relatedProcessIds) {
+                    addToBulkRequest(bulkIndexRequest, getById(processId));
+                }
+                for (Integer projectId : projectIds) {
+                    ServiceManager.getProjectService().addToBulkRequest(bulkIndexRequest,
+                        ServiceManager.getProjectService().getById(projectId));
+                }
+                for (Integer batchId : batchIds) {
+                    ServiceManager.getBatchService().addToBulkRequest(bulkIndexRequest,
+                        ServiceManager.getBatchService().getById(batchId));
+                }
+                performBulkRequest(bulkIndexRequest, true);
+            } catch (CustomResponseException e) {
+                throw new DataException(e);
+            }
+            logger.info("Deleted {} processes with {} tasks", chunk.size(), taskIds.size());
+        }
+    }
+
+    private static void deleteMetadataDirectory(Process process) {
+        prepareMetadataDirectoryDeletion(process).run();
+    }
+
+    /**
+     * Resolves the directories of a process and the tasks whose links in the
+     * user homes must be removed, while the process is still in the
+     * database. The returned deletion is run after the process has been
+     * removed, so that the files are kept if the removal fails.
+     */
+    private static Runnable prepareMetadataDirectoryDeletion(Process process) {
+        List<Task> tasks = new ArrayList<>(process.getTasks());
+        List<URI> directories = new ArrayList<>();
+        try {
+            directories.add(ServiceManager.getProcessService().getProcessDataDirectory(process));
+            directories.add(ServiceManager.getFileService().getOcrDirectory(process));
+        } catch (RuntimeException e) {
             Helper.setErrorMessage("errorDirectoryDeleting", new Object[] {Helper.getTranslation("metadata") }, logger,
                     e);
         }
+        return () -> {
+            for (Task task : tasks) {
+                deleteSymlinksFromUserHomes(task);
+            }
+            try {
+                FileService fileService = ServiceManager.getFileService();
+                for (URI directory : directories) {
+                    if (fileService.fileExist(directory)) {
+                        fileService.delete(directory);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                Helper.setErrorMessage("errorDirectoryDeleting", new Object[] {Helper.getTranslation("metadata") },
+                    logger, e);
+            }
+        };
     }
 
     /**
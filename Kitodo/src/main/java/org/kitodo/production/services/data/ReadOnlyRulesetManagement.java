@@ -0,0 +1,116 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kitodo.api.Metadata;
+import org.kitodo.api.dataeditor.rulesetmanagement.ComplexMetadataViewInterface;
+import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
+import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalMetadata;
+import org.kitodo.api.dataeditor.rulesetmanagement.Reimport;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+
+/**
+ * Read-only view of a loaded ruleset, as handed out by the
+ * {@link RulesetCache}. The ruleset is shared by all callers, so it cannot be
+ * loaded again through this view. All views on divisions and metadata are
+ * created anew for each call, with the languages passed by the caller.
+ */
+class ReadOnlyRulesetManagement implements RulesetManagementInterface {
+    private final RulesetManagementInterface rulesetManagement;
+
+    ReadOnlyRulesetManagement(RulesetManagementInterface rulesetManagement) {
+        this.rulesetManagement = rulesetManagement;
+    }
+
+    @Override
+    public Collection<String> getAcquisitionStages() {
+        return rulesetManagement.getAcquisitionStages();
+    }
+
+    @Override
+    public Collection<String> getFunctionalKeys(FunctionalMetadata functionalMetadata) {
+        return rulesetManagement.getFunctionalKeys(functionalMetadata);
+    }
+
+    @Override
+    public Collection<String> getFunctionalDivisions(FunctionalDivision functionalDivision) {
+        return rulesetManagement.getFunctionalDivisions(functionalDivision);
+    }
+
+    @Override
+    public Collection<String> getDivisionsWithNoWorkflow() {
+        return rulesetManagement.getDivisionsWithNoWorkflow();
+    }
+
+    @Override
+    public Map<String, String> getStructuralElements(List<LanguageRange> priorityList) {
+        return rulesetManagement.getStructuralElements(priorityList);
+    }
+
+    @Override
+    public StructuralElementViewInterface getStructuralElementView(String structuralElement, String acquisitionStage,
+            List<LanguageRange> priorityList) {
+        return rulesetManagement.getStructuralElementView(structuralElement, acquisitionStage, priorityList);
+    }
+
+    @Override
+    public ComplexMetadataViewInterface getMetadataView(String metadata, String acquisitionStage,
+            List<LanguageRange> priorityList) {
+        return rulesetManagement.getMetadataView(metadata, acquisitionStage, priorityList);
+    }
+
+    @Override
+    public Optional<String> getTranslationForKey(String key, List<LanguageRange> priorityList) {
+        return rulesetManagement.getTranslationForKey(key, priorityList);
+    }
+
+    /**
+     * Not supported, as the ruleset is shared.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public void load(File rulesetFile) {
+        throw new UnsupportedOperationException("Cached ruleset must not be loaded again");
+    }
+
+    @Override
+    public Collection<File> getSourceFiles() {
+        return Collections.unmodifiableCollection(rulesetManagement.getSourceFiles());
+    }
+
+    @Override
+    public boolean isAlwaysShowingForKey(String keyId) {
+        return rulesetManagement.isAlwaysShowingForKey(keyId);
+    }
+
+    @Override
+    public int updateMetadata(String division, Collection<Metadata> metadata, String acquisitionStage,
+            Collection<Metadata> updateItems) {
+        return rulesetManagement.updateMetadata(division, metadata, acquisitionStage, updateItems);
+    }
+
+    @Override
+    public Reimport getMetadataReimport(String metadataKey, String acquisitionStage) {
+        return rulesetManagement.getMetadataReimport(metadataKey, acquisitionStage);
+    }
+}
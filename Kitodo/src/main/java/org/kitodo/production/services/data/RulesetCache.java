@@ -0,0 +1,104 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+
+/**
+ * Keeps loaded rulesets so that they do not have to be parsed again each time
+ * they are opened. A cached ruleset is shared by all callers, who therefore
+ * get a read-only view of it that cannot be loaded again. It is discarded as soon as one of the files it
+ * was assembled from has been modified, added or removed.
+ */
+class RulesetCache {
+    private static final Logger logger = LogManager.getLogger(RulesetCache.class);
+
+    private final Map<File, CachedRuleset> rulesets = new ConcurrentHashMap<>();
+    private final Map<File, Object> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the loaded ruleset for a file. If the ruleset is not cached yet,
+     * or any of its files has changed, a new ruleset management is acquired
+     * from the factory and the ruleset is loaded into it.
+     *
+     * @param rulesetFile
+     *            ruleset file to open
+     * @param factory
+     *            supplies an empty ruleset management
+     * @return a read-only view of a ruleset management in which the ruleset
+     *         has been loaded
+     * @throws IOException
+     *             if the ruleset cannot be read
+     */
+    RulesetManagementInterface get(File rulesetFile, Supplier<RulesetManagementInterface> factory)
+            throws IOException {
+        File key = rulesetFile.getAbsoluteFile();
+        CachedRuleset cached = rulesets.get(key);
+        if (Objects.nonNull(cached) && cached.isUpToDate()) {
+            return cached.rulesetManagement;
+        }
+        synchronized (locks.computeIfAbsent(key, file -> new Object())) {
+            cached = rulesets.get(key);
+            if (Objects.nonNull(cached) && cached.isUpToDate()) {
+                return cached.rulesetManagement;
+            }
+            if (Objects.nonNull(cached)) {
+                logger.debug("Ruleset {} has been modified, reloading", key);
+                rulesets.remove(key);
+            }
+            RulesetManagementInterface rulesetManagement = factory.get();
+            rulesetManagement.load(key);
+            RulesetManagementInterface readOnlyView = new ReadOnlyRulesetManagement(rulesetManagement);
+            rulesets.put(key, new CachedRuleset(readOnlyView));
+            return readOnlyView;
+        }
+    }
+
+    private static class CachedRuleset {
+        private final RulesetManagementInterface rulesetManagement;
+        private final Map<File, Long> lastModified = new HashMap<>();
+
+        CachedRuleset(RulesetManagementInterface rulesetManagement) {
+            this.rulesetManagement = rulesetManagement;
+            for (File file : rulesetManagement.getSourceFiles()) {
+                lastModified.put(file, file.lastModified());
+            }
+        }
+
+        /**
+         * Checks whether none of the source files has changed. The last
+         * modification time of a file which does not exist is 0, so files
+         * appearing or disappearing are detected as well.
+         *
+         * @return whether the cached ruleset is still valid
+         */
+        boolean isUpToDate() {
+            for (Entry<File, Long> entry : lastModified.entrySet()) {
+                if (entry.getKey().lastModified() != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -11,6 +11,7 @@
 
 package org.kitodo.production.services.data;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Paths;
@@ -63,6 +64,7 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
 
     private static final Logger logger = LogManager.getLogger(RulesetService.class);
     private static volatile RulesetService instance = null;
+    private final RulesetCache rulesetCache = new RulesetCache();
 
     /**
      * Constructor with Searcher and Indexer assigning.
@@ -233,25 +235,43 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Returns a ruleset Management in which the ruleset has been loaded. Loaded
+     * rulesets are cached and shared, so the returned ruleset Management is a
+     * read-only view which cannot be reloaded. The ruleset is read again if its file or one of the
+     * files it includes has changed.
      *
      * @param ruleset
      *            database object that references the ruleset
      * @return a Ruleset Management in which the ruleset has been loaded
      */
     public RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException {
-        final long begin = System.nanoTime();
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
         String fileName = ruleset.getFile();
         try {
-            rulesetManagement.load(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
+            return openRuleset(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
         } catch (FileNotFoundException | IllegalArgumentException e) {
             throw new RulesetNotFoundException(fileName);
         }
+    }
+
+    /**
+     * Returns a ruleset Management in which the ruleset file has been loaded.
+     * The ruleset is taken from the cache, just like in
+     * {@link #openRuleset(Ruleset)}.
+     *
+     * @param rulesetFile
+     *            ruleset file to open
+     * @return a read-only Ruleset Management in which the ruleset has been
+     *         loaded
+     * @throws IOException
+     *             if the ruleset cannot be read
+     */
+    public RulesetManagementInterface openRuleset(File rulesetFile) throws IOException {
+        final long begin = System.nanoTime();
+        RulesetManagementInterface rulesetManagement = rulesetCache.get(rulesetFile,
+            ServiceManager.getRulesetManagementService()::getRulesetManagement);
 
         if (logger.isTraceEnabled()) {
-            logger.trace("Reading ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            logger.trace("Opening ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
         return rulesetManagement;
     }
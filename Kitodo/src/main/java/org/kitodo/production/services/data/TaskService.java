@@ -13,10 +13,12 @@ package org.kitodo.production.services.data;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,11 +48,13 @@ import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.TaskType;
 import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.InvalidImagesException;
 import org.kitodo.exceptions.MediaNotFoundException;
 import org.kitodo.export.ExportDms;
+import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.ProjectDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.dto.UserDTO;
@@ -214,12 +218,38 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
                                   boolean onlyOwnTasks, boolean hideCorrectionTasks, boolean showAutomaticTasks,
                                   List<TaskStatus> taskStatus)
             throws DataException {
+        return loadPage(first, pageSize, sortField, sortOrder, filters, onlyOwnTasks, hideCorrectionTasks,
+            showAutomaticTasks, taskStatus, null).getResults();
+    }
+
+    /**
+     * Load a page of tasks with given parameters together with the total
+     * number of tasks matching the filter, in one request.
+     * @param first index of first task to load
+     * @param pageSize number of tasks to load
+     * @param sortField name of field by which tasks are sorted
+     * @param sortOrder SortOrder by which tasks are sorted - either ascending or descending
+     * @param filters filter map
+     * @param onlyOwnTasks boolean controlling whether to load only tasks assigned to current user or not
+     * @param hideCorrectionTasks boolean controlling whether to load correction tasks or not
+     * @param showAutomaticTasks boolean controlling whether to load automatic tasks or not
+     * @param taskStatus list of TaskStatus by which tasks are filtered
+     * @param searchAfter sort values of the last task of the previous page, or null if the page does not follow it
+     * @return page of loaded tasks
+     * @throws DataException if tasks cannot be loaded from search index
+     */
+    public SearchResultPage<TaskDTO> loadPage(int first, int pageSize, String sortField, SortOrder sortOrder,
+                                              Map filters, boolean onlyOwnTasks, boolean hideCorrectionTasks,
+                                              boolean showAutomaticTasks, List<TaskStatus> taskStatus,
+                                              Object[] searchAfter)
+            throws DataException {
         if ("process.creationDate".equals(sortField)) {
             sortField = "processForTask.creationDate";
         }
         String filter = ServiceManager.getFilterService().parseFilterString(filters);
-        return findByQuery(createUserTaskQuery(filter, onlyOwnTasks, hideCorrectionTasks, showAutomaticTasks,
-                taskStatus), getSortBuilder(sortField, sortOrder), first, pageSize, false);
+        return findPageByQuery(createUserTaskQuery(filter, onlyOwnTasks, hideCorrectionTasks, showAutomaticTasks,
+                taskStatus), getSortBuilder(sortField, sortOrder), first, pageSize, false, getSourceFilterForDTOs(),
+                searchAfter);
     }
 
     /**
@@ -298,8 +328,41 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return findDistinctValues(QueryBuilders.matchAllQuery(), "title.keyword", true, countDatabaseRows());
     }
 
+    /**
+     * Converts the tasks of a search result to DTOs. The processes of all
+     * tasks are fetched together in one request instead of one request per
+     * task, so that the number of requests to the index does not grow with the
+     * number of tasks shown on a page.
+     */
+    @Override
+    protected List<TaskDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        Map<Integer, ProcessDTO> processes = Collections.emptyMap();
+        if (!related) {
+            Set<Integer> processIds = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
+                if (process > 0) {
+                    processIds.add(process);
+                }
+            }
+            processes = ServiceManager.getProcessService().findByIds(processIds, true);
+        }
+
+        List<TaskDTO> results = new ArrayList<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            results.add(convertJSONObjectToDTO(jsonObject, related, processes));
+        }
+        return results;
+    }
+
     @Override
     public TaskDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
+        return convertJSONObjectToDTO(jsonObject, related, null);
+    }
+
+    private TaskDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related,
+            Map<Integer, ProcessDTO> processes) throws DataException {
         TaskDTO taskDTO = new TaskDTO();
         taskDTO.setId(getIdFromJSONObject(jsonObject));
         taskDTO.setTitle(TaskTypeField.TITLE.getStringValue(jsonObject));
@@ -332,7 +395,9 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
          */
         int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
         if (process > 0 && !related) {
-            taskDTO.setProcess(ServiceManager.getProcessService().findById(process, true));
+            ProcessDTO processDTO = Objects.nonNull(processes) ? processes.get(process) : null;
+            taskDTO.setProcess(Objects.nonNull(processDTO) ? processDTO
+                    : ServiceManager.getProcessService().findById(process, true));
             taskDTO.setBatchAvailable(ServiceManager.getProcessService()
                     .isProcessAssignedToOnlyOneBatch(taskDTO.getProcess().getBatches()));
         }
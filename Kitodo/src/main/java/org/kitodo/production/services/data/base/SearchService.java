@@ -19,8 +19,10 @@ import static org.opensearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,20 +33,25 @@ import javax.ws.rs.HttpMethod;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.elasticsearch.index.BulkIndexRequest;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.data.ProjectService;
+import org.kitodo.production.services.index.IndexOutbox;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.Operator;
 import org.opensearch.index.query.QueryBuilder;
@@ -54,6 +61,7 @@ import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.primefaces.model.SortOrder;
@@ -132,6 +140,37 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get the ids of the objects which start a batch of the given size when
+     * indexing. Each batch covers the ids from its start id up to the start
+     * id of the following batch.
+     *
+     * @param batchSize
+     *            amount of objects per batch
+     * @param notIndexedOnly
+     *            if true, only not indexed objects are taken into account
+     * @return ascending list of the first id of every batch
+     */
+    public List<Integer> getIdsOfBatchStarts(int batchSize, boolean notIndexedOnly) throws DAOException {
+        return dao.getIdsOfBatchStarts(batchSize, notIndexedOnly);
+    }
+
+    /**
+     * Get all objects to index from database whose id lies within the given
+     * range.
+     *
+     * @param fromId
+     *            lowest id, inclusive
+     * @param toId
+     *            upper id bound, exclusive; null for an open-ended range
+     * @param notIndexedOnly
+     *            if true, only not indexed objects are returned
+     * @return list of objects from database in given id range
+     */
+    public List<T> getAllInIdRange(Integer fromId, Integer toId, boolean notIndexedOnly) throws DAOException {
+        return dao.getAllInIdRange(fromId, toId, notIndexedOnly);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend with all
      * relations.
@@ -212,6 +251,35 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Indexes the objects with the given IDs in one bulk request and marks
+     * them as indexed in the database. Objects that no longer exist are
+     * skipped.
+     *
+     * @param ids
+     *            IDs of the objects to index
+     * @param updateRelatedObjectsInIndex
+     *            IDs of those objects whose related objects must be updated in
+     *            the index as well
+     */
+    public void saveToIndex(List<Integer> ids, List<Integer> updateRelatedObjectsInIndex)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        List<T> baseIndexedBeans = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            try {
+                baseIndexedBeans.add(getById(id));
+            } catch (DAOException e) {
+                logger.warn("Object {} cannot be loaded and is not indexed: {}", id, e.getMessage());
+            }
+        }
+        addAllObjectsToIndex(baseIndexedBeans);
+        for (T baseIndexedBean : baseIndexedBeans) {
+            if (updateRelatedObjectsInIndex.contains(baseIndexedBean.getId())) {
+                manageDependenciesForIndex(baseIndexedBean);
+            }
+        }
+    }
+
     /**
      * Method removes document from the index of Elastic Search.
      *
@@ -244,6 +312,53 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         indexer.performSingleRequest(id, forceRefresh);
     }
 
+    /**
+     * Adds the document of the object to a bulk index request, to be added to
+     * or updated in the index when the request is performed.
+     *
+     * @param bulkIndexRequest
+     *            request collecting documents
+     * @param baseIndexedBean
+     *            object
+     */
+    @SuppressWarnings("unchecked")
+    public void addToBulkRequest(BulkIndexRequest bulkIndexRequest, T baseIndexedBean)
+            throws CustomResponseException {
+        indexer.setMethod(HttpMethod.PUT);
+        if (Objects.nonNull(baseIndexedBean)) {
+            indexer.addToBulkRequest(bulkIndexRequest, baseIndexedBean, type);
+        }
+    }
+
+    /**
+     * Adds the removal of a document from the index to a bulk index request.
+     *
+     * @param bulkIndexRequest
+     *            request collecting documents
+     * @param id
+     *            of object
+     */
+    public void addRemovalToBulkRequest(BulkIndexRequest bulkIndexRequest, Integer id)
+            throws CustomResponseException {
+        indexer.setMethod(HttpMethod.DELETE);
+        indexer.addToBulkRequest(bulkIndexRequest, id);
+    }
+
+    /**
+     * Sends a bulk index request to the index. The request may contain
+     * documents of any type.
+     *
+     * @param bulkIndexRequest
+     *            request collecting documents
+     * @param forceRefresh
+     *            force index refresh - if true, time of execution is longer but
+     *            objects are right after that available for display
+     */
+    public void performBulkRequest(BulkIndexRequest bulkIndexRequest, boolean forceRefresh)
+            throws CustomResponseException {
+        indexer.performBulkRequest(bulkIndexRequest, forceRefresh);
+    }
+
     /**
      * Method saves relations which can be potentially modified together with
      * object.
@@ -279,12 +394,27 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * fails and in that case, even if index is up to date, in some point of the
      * future it will be reindexed by administrator.
      *
+     * <p>
+     * If the index outbox is enabled, only the first step is performed here.
+     * The object is then indexed in the background by the {@link IndexOutbox}.
+     *
      * @param baseIndexedBean
      *            object
      *
      * @param updateRelatedObjectsInIndex if relatedObjects need to be updated in Index
      */
     public void save(T baseIndexedBean, boolean updateRelatedObjectsInIndex) throws DataException {
+        if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX)) {
+            try {
+                baseIndexedBean.setIndexAction(IndexAction.INDEX);
+                saveToDatabase(baseIndexedBean);
+            } catch (DAOException e) {
+                logger.debug(e);
+                throw new DataException(e);
+            }
+            IndexOutbox.getInstance().add(this, baseIndexedBean.getId(), updateRelatedObjectsInIndex);
+            return;
+        }
         try {
             baseIndexedBean.setIndexAction(IndexAction.INDEX);
             saveToDatabase(baseIndexedBean);
@@ -452,12 +582,37 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     public S findById(Integer id, boolean related) throws DataException {
         try {
-            return convertJSONObjectToDTO(searcher.findDocument(id), related);
+            return convertJSONObjectToDTO(searcher.findDocument(id, getSourceFilterForDTOs()), related);
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
     }
 
+    /**
+     * Find several objects by id with one request and convert them to DTOs.
+     * Ids of objects not found in the index are left out of the result.
+     *
+     * @param ids
+     *            ids of the searched objects
+     * @param related
+     *            determines if converted objects are related to some other
+     *            object (if so, objects related to them are not included in
+     *            conversion)
+     * @return DTO objects by their id
+     */
+    public Map<Integer, S> findByIds(Collection<Integer> ids, boolean related) throws DataException {
+        Map<Integer, S> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Integer, Map<String, Object>> document : searcher
+                    .findDocuments(ids, getSourceFilterForDTOs()).entrySet()) {
+                results.put(document.getKey(), convertJSONObjectToDTO(document.getValue(), related));
+            }
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+        return results;
+    }
+
     /**
      * Retrieves a mapping of document IDs to their corresponding base types for the given list of IDs.
      *
@@ -485,7 +640,8 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     public List<S> findByQuery(QueryBuilder query, boolean related) throws DataException {
         try {
-            return convertJSONObjectsToDTOs(searcher.findDocuments(query), related);
+            return convertJSONObjectsToDTOs(searcher.findDocuments(query, null, null, null, getSourceFilterForDTOs()),
+                related);
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
@@ -505,7 +661,8 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     public List<S> findByQuery(QueryBuilder query, SortBuilder sort, boolean related) throws DataException {
         try {
-            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort), related);
+            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort, null, null, getSourceFilterForDTOs()),
+                related);
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
@@ -530,13 +687,131 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     public List<S> findByQuery(QueryBuilder query, SortBuilder sort, Integer offset, Integer size, boolean related)
             throws DataException {
+        return findByQuery(query, sort, offset, size, related, getSourceFilterForDTOs());
+    }
+
+    /**
+     * Find list of sorted DTO objects by query with defined offset and size of
+     * results, loading only the fields of the documents selected by the source
+     * filter.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as String
+     * @param offset
+     *            as Integer
+     * @param size
+     *            as Integer
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @param sourceFilter
+     *            fields of the documents to load, or {@code null} to load the
+     *            whole documents
+     * @return list of found DTO objects
+     */
+    public List<S> findByQuery(QueryBuilder query, SortBuilder sort, Integer offset, Integer size, boolean related,
+            FetchSourceContext sourceFilter) throws DataException {
+        try {
+            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort, offset, size, sourceFilter), related);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Find one page of DTO objects by query together with the total number of
+     * objects found, in one request to the index. If the page directly
+     * follows a page loaded before, the sort values of the last object of that
+     * page should be given. They are used to continue there for pages beyond
+     * the maximum result window of the index.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object
+     * @param offset
+     *            position of the first object of the page
+     * @param size
+     *            number of objects on the page
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @param sourceFilter
+     *            fields of the documents to load, or {@code null} to load the
+     *            whole documents
+     * @param searchAfter
+     *            sort values of the last object of the previous page, or
+     *            {@code null} if the page does not follow the previous page
+     * @return the page of DTO objects
+     */
+    public SearchResultPage<S> findPageByQuery(QueryBuilder query, SortBuilder sort, int offset, int size,
+            boolean related, FetchSourceContext sourceFilter, Object[] searchAfter) throws DataException {
+        SearchResultPage<Map<String, Object>> page = findDocumentPageByQuery(query, sort, offset, size, sourceFilter,
+            searchAfter);
+        return page.withResults(convertJSONObjectsToDTOs(page.getResults(), related));
+    }
+
+    /**
+     * Find a page of documents matching the query, without converting them to
+     * DTOs. Together with a source filter, this is the cheapest way to read
+     * some fields of many documents. Pages beyond the maximum result window of
+     * the index are continued with the sort values of the previous page.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, or {@code null} to sort by ID only
+     * @param offset
+     *            position of the first document of the page
+     * @param size
+     *            number of documents on the page
+     * @param sourceFilter
+     *            fields of the documents to load, or {@code null} to load the
+     *            whole documents
+     * @param searchAfter
+     *            sort values of the last document of the previous page, or
+     *            {@code null} if the page does not follow the previous page
+     * @return the page of documents
+     */
+    public SearchResultPage<Map<String, Object>> findDocumentPageByQuery(QueryBuilder query, SortBuilder sort,
+            int offset, int size, FetchSourceContext sourceFilter, Object[] searchAfter) throws DataException {
         try {
-            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort, offset, size), related);
+            return searcher.findDocumentPage(query, sort, offset, size, sourceFilter, searchAfter);
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
     }
 
+    /**
+     * Find the IDs of all objects matching the query. Unlike the other find
+     * methods, the number of objects found is not limited.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @return the IDs of the objects found
+     */
+    public List<Integer> findIdsByQuery(QueryBuilder query) throws DataException {
+        try {
+            return searcher.findDocumentIds(query);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Returns the source filter applied when documents are loaded from the
+     * index to be converted to DTOs. Services whose documents contain large
+     * fields which are not converted exclude them here. By default, the whole
+     * documents are loaded.
+     *
+     * @return the source filter, or {@code null} to load the whole documents
+     */
+    protected FetchSourceContext getSourceFilterForDTOs() {
+        return null;
+    }
+
     /**
      * Convert list of JSONObject object to list of DTO objects.
      *
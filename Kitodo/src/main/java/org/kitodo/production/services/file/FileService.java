@@ -21,6 +21,7 @@ import java.net.URISyntaxException;
 import java.nio.file.FileSystems;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -240,11 +241,47 @@ public class FileService {
      * @return the URI to the process location
      */
     public URI createProcessLocation(Process process) throws IOException, CommandException {
-        URI processLocationUri = fileManagementModule.createProcessLocation(process.getId().toString());
-        createProcessFolders(process, processLocationUri);
+        return createProcessLocation(process.getId().toString(), getProcessFolderPaths(process));
+    }
+
+    /**
+     * Creates the location of a process and the given folders inside it. As
+     * only the ID of the process and the resolved folder paths are passed,
+     * this can be called from threads other than the one that loaded the
+     * process.
+     *
+     * @param processId
+     *            the ID of the process
+     * @param folderPaths
+     *            paths of the folders to create, relative to the process
+     *            location, as returned by {@link #getProcessFolderPaths(Process)}
+     * @return the URI to the process location
+     */
+    public URI createProcessLocation(String processId, List<String> folderPaths)
+            throws IOException, CommandException {
+        URI processLocationUri = fileManagementModule.createProcessLocation(processId);
+        createProcessFolders(processLocationUri, folderPaths);
         return processLocationUri;
     }
 
+    /**
+     * Returns the paths of the folders of the project of a process which are
+     * to be created inside the process location, relative to it.
+     *
+     * @param process
+     *            the process
+     * @return the relative folder paths
+     */
+    public List<String> getProcessFolderPaths(Process process) {
+        List<String> folderPaths = new ArrayList<>();
+        for (Folder folder : process.getProject().getFolders()) {
+            if (folder.isCreateFolder()) {
+                folderPaths.add(new Subfolder(process, folder).getRelativeDirectoryPath());
+            }
+        }
+        return folderPaths;
+    }
+
     /**
      * Creates the folders inside a process location.
      *
@@ -252,17 +289,16 @@ public class FileService {
      *            the process
      */
     public void createProcessFolders(Process process) throws IOException, CommandException {
-        createProcessFolders(process, fileManagementModule.createUriForExistingProcess(process.getId().toString()));
+        createProcessFolders(fileManagementModule.createUriForExistingProcess(process.getId().toString()),
+            getProcessFolderPaths(process));
     }
 
-    private void createProcessFolders(Process process, URI processLocationUri) throws IOException, CommandException {
-        for (Folder folder : process.getProject().getFolders()) {
-            if (folder.isCreateFolder()) {
-                URI parentFolderUri = processLocationUri;
-                for (String singleFolder : new Subfolder(process, folder).getRelativeDirectoryPath()
-                        .split(Pattern.quote(File.separator))) {
-                    parentFolderUri = createMetaDirectory(parentFolderUri, singleFolder);
-                }
+    private void createProcessFolders(URI processLocationUri, List<String> folderPaths)
+            throws IOException, CommandException {
+        for (String folderPath : folderPaths) {
+            URI parentFolderUri = processLocationUri;
+            for (String singleFolder : folderPath.split(Pattern.quote(File.separator))) {
+                parentFolderUri = createMetaDirectory(parentFolderUri, singleFolder);
             }
         }
     }
@@ -26,6 +26,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +43,10 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageDerivative;
+import org.kitodo.api.imagemanagement.ImageFileFormat;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
@@ -164,7 +175,12 @@ public class ImageGenerator implements Runnable {
      */
     public void createDerivatives(ContentToBeGenerated instruction) {
         try {
-            for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
+            List<Subfolder> destinationFolders = instruction.getSubfoldersWhoseContentsAreToBeGenerated();
+            if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.IMAGE_DERIVATIVES_IN_ONE_PASS)) {
+                destinationFolders = generateDerivativesInOnePass(instruction.getSourceURI(), destinationFolders,
+                    instruction.getCanonical());
+            }
+            for (Subfolder destinationFolder : destinationFolders) {
                 generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
             }
         } catch (IOException e) {
@@ -172,6 +188,72 @@ public class ImageGenerator implements Runnable {
         }
     }
 
+    /**
+     * Generates the derivatives for all destination folders whose file format
+     * can be written by the image management interface in one call, so that
+     * the source image is read only once.
+     *
+     * @param sourceImage
+     *            source file
+     * @param destinationFolders
+     *            folders to generate derivatives in
+     * @param canonical
+     *            the canonical part of the file name
+     * @return the destination folders for which no derivative was generated
+     * @throws IOException
+     *             if filesystem I/O fails
+     */
+    private List<Subfolder> generateDerivativesInOnePass(URI sourceImage, List<Subfolder> destinationFolders,
+            String canonical) throws IOException {
+
+        List<ImageDerivative> derivatives = new ArrayList<>();
+        List<Subfolder> remainingFolders = new ArrayList<>();
+        for (Subfolder destinationFolder : destinationFolders) {
+            Optional<ImageDerivative> derivative = getImageDerivative(destinationFolder, canonical);
+            if (derivative.isPresent()) {
+                derivatives.add(derivative.get());
+            } else {
+                remainingFolders.add(destinationFolder);
+            }
+        }
+        if (!derivatives.isEmpty()) {
+            imageService.createDerivatives(sourceImage, derivatives);
+        }
+        return remainingFolders;
+    }
+
+    /**
+     * Describes the derivative to be generated in a destination folder, in the
+     * same order of precedence as {@link #generateDerivative(URI, Subfolder,
+     * String)}.
+     *
+     * @param destinationFolder
+     *            folder to generate the derivative in
+     * @param canonical
+     *            the canonical part of the file name
+     * @return the derivative, or empty if the folder’s file format has no
+     *         image file format
+     */
+    private Optional<ImageDerivative> getImageDerivative(Subfolder destinationFolder, String canonical) {
+        Optional<ImageFileFormat> imageFileFormat = destinationFolder.getFileFormat().getImageFileFormat();
+        if (imageFileFormat.isEmpty()) {
+            return Optional.empty();
+        }
+        Folder imageProperties = destinationFolder.getFolder();
+        URI destinationImage = destinationFolder.getUri(canonical);
+        if (imageProperties.getDerivative().isPresent()) {
+            return Optional.of(ImageDerivative.scaled(imageProperties.getDerivative().get(), destinationImage,
+                imageFileFormat.get()));
+        } else if (imageProperties.getDpi().isPresent()) {
+            return Optional.of(ImageDerivative.withDpi(imageProperties.getDpi().get(), destinationImage,
+                imageFileFormat.get()));
+        } else if (imageProperties.getImageSize().isPresent()) {
+            return Optional.of(ImageDerivative.sized(imageProperties.getImageSize().get(), destinationImage,
+                imageFileFormat.get()));
+        }
+        return Optional.empty();
+    }
+
     /**
      * Generates a derived image and saves it with the on-board tools of Java.
      * The image is created by the image management interface. Which method of
@@ -358,6 +440,10 @@ public class ImageGenerator implements Runnable {
     @Override
     public void run() {
         do {
+            if (state.equals(ImageGeneratorStep.GENERATE_IMAGES) && getNumberOfThreads() > 1) {
+                generateImagesInParallel(getNumberOfThreads());
+                return;
+            }
             state.accept(this);
             if (state.equals(ImageGeneratorStep.DETERMINE_WHICH_IMAGES_NEED_TO_BE_GENERATED) && position == -1
                     && sources.isEmpty()) {
@@ -377,6 +463,128 @@ public class ImageGenerator implements Runnable {
         logger.info("Completed");
     }
 
+    /**
+     * Returns the number of images to generate at the same time.
+     *
+     * @return the number of threads
+     */
+    private int getNumberOfThreads() {
+        int threads = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_GENERATION_THREADS);
+        if (threads <= 0) {
+            threads = imageService.getRecommendedNumberOfThreads();
+        }
+        return Math.max(1, Math.min(threads, contentToBeGenerated.size()));
+    }
+
+    /**
+     * Generates all remaining images with a pool of threads. The supervisor is
+     * only accessed from the calling thread, which reports the progress as
+     * images are completed. When generation ends early, images not yet
+     * started are not generated anymore. If a conversion fails, the running
+     * ones are allowed to finish. If the calling thread is interrupted, the
+     * running conversions are interrupted, too, and their partial output is
+     * deleted. The pool threads inherit the context class loader of the
+     * calling thread, which the image management module requires.
+     *
+     * @param threads
+     *            number of images to generate at the same time
+     */
+    private void generateImagesInParallel(int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("ImageGenerator-" + thread.getId());
+            return thread;
+        });
+        CompletionService<ContentToBeGenerated> completionService = new ExecutorCompletionService<>(executor);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try {
+            List<ContentToBeGenerated> remaining = contentToBeGenerated.subList(position,
+                contentToBeGenerated.size());
+            for (ContentToBeGenerated instruction : remaining) {
+                completionService.submit(() -> {
+                    if (!cancelled.get()) {
+                        logger.info("Generating {}", instruction);
+                        createDerivativesOrDeletePartialOutput(instruction);
+                    }
+                    return instruction;
+                });
+            }
+            for (int i = 0; i < remaining.size(); i++) {
+                ContentToBeGenerated completed = completionService.take().get();
+                position++;
+                letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                    Helper.getTranslation("generateImages", completed.getCanonical())));
+                setProgress();
+                if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    return;
+                }
+            }
+            letTheSupervisorDo(emptyTask -> emptyTask.setProgress(100));
+            logger.info("Completed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } finally {
+            cancelled.set(true);
+            awaitRunningConversions(executor);
+        }
+    }
+
+    /**
+     * Generates a set of derivatives. If this fails or the thread is
+     * interrupted meanwhile, the derivatives, which may have been written
+     * partially, are deleted.
+     *
+     * @param instruction
+     *            instruction, which pictures are to be generated
+     */
+    private void createDerivativesOrDeletePartialOutput(ContentToBeGenerated instruction) {
+        try {
+            createDerivatives(instruction);
+        } catch (RuntimeException e) {
+            deleteOutput(instruction);
+            throw e;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            deleteOutput(instruction);
+        }
+    }
+
+    private void deleteOutput(ContentToBeGenerated instruction) {
+        for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
+            URI destinationImage = destinationFolder.getUri(instruction.getCanonical());
+            try {
+                fileService.delete(destinationImage);
+            } catch (IOException e) {
+                logger.warn("Cannot delete partially generated image {}: {}", destinationImage, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lets the running conversions finish and stops the pool threads. If the
+     * calling thread is interrupted while waiting, the conversions are
+     * interrupted.
+     *
+     * @param executor
+     *            the pool of threads
+     */
+    private static void awaitRunningConversions(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.debug("Waiting for running image conversions to finish");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Sets the current position in the list.
      *
@@ -14,8 +14,10 @@ package org.kitodo.production.services.image;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Objects;
 
+import org.kitodo.api.imagemanagement.ImageDerivative;
 import org.kitodo.api.imagemanagement.ImageFileFormat;
 import org.kitodo.api.imagemanagement.ImageManagementInterface;
 import org.kitodo.serviceloader.KitodoServiceLoader;
@@ -71,6 +73,23 @@ public class ImageService {
         return imageManagement.createDerivative(imageFileUri, percent, resultFileUri, resultFileFormat);
     }
 
+    /**
+     * Creates several derivatives for an image at a given path, reading the
+     * image only once.
+     *
+     * @param imageFileUri
+     *            the URI to the image
+     * @param derivatives
+     *            the derivatives to create
+     * @return true, if all derivatives were created, false otherwise
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    boolean createDerivatives(URI imageFileUri, Collection<ImageDerivative> derivatives) throws IOException {
+        return imageManagement.createDerivatives(imageFileUri, derivatives);
+    }
+
     /**
      * Changes the size (in pixel) of the image.
      *
@@ -87,6 +106,16 @@ public class ImageService {
         return imageManagement.getSizedWebImage(imageFileUri, pixelWidth);
     }
 
+    /**
+     * Returns how many images the image management can process at the same
+     * time efficiently.
+     *
+     * @return the recommended number of threads
+     */
+    int getRecommendedNumberOfThreads() {
+        return imageManagement.getRecommendedNumberOfThreads();
+    }
+
     /**
      * Return singleton variable of type ImageService.
      *
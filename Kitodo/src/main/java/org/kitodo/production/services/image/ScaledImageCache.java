@@ -0,0 +1,390 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+/**
+ * Scales images on demand and keeps the results in a directory on disk, so
+ * that the metadata editor can show images for which no preview or media view
+ * has been generated. The size of the directory is limited; when it is
+ * exceeded, the least recently used images are deleted, except for images
+ * which are pinned while they are being served. If the same image is requested
+ * several times while it is being scaled, it is scaled only once. The number
+ * of images scaled at the same time is limited; further requests wait.
+ */
+public class ScaledImageCache {
+    private static final Logger logger = LogManager.getLogger(ScaledImageCache.class);
+
+    private static final String FILE_EXTENSION = ".jpg";
+
+    /**
+     * Number of prefetch requests that may wait. If more are made, the oldest
+     * ones are dropped, as the user has most likely moved on.
+     */
+    private static final int PREFETCH_QUEUE_SIZE = 64;
+
+    private static volatile ScaledImageCache instance = null;
+
+    /**
+     * Scales an image to a width in pixels.
+     */
+    @FunctionalInterface
+    interface Scaler {
+        Image scale(URI imageFileUri, int pixelWidth) throws IOException;
+    }
+
+    private final Path directory;
+    private final long maximumSize;
+    private final Scaler scaler;
+
+    /**
+     * Cached files in order of their last use, with their sizes.
+     */
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Cached files which are being served, with the number of requests serving
+     * them. They are not deleted until they are released.
+     */
+    private final Map<Path, Integer> pinned = new HashMap<>();
+
+    private final Map<Path, CompletableFuture<Path>> running = new ConcurrentHashMap<>();
+
+    private final Semaphore scalingPermits;
+
+    private final ExecutorService prefetcher;
+
+    /**
+     * Creates a cache of scaled images.
+     *
+     * @param directory
+     *            directory to keep the scaled images in
+     * @param maximumSize
+     *            maximum size of the directory in bytes
+     * @param threads
+     *            maximum number of images scaled at the same time
+     * @param scaler
+     *            function that scales an image
+     * @throws IOException
+     *             if the directory cannot be created or read
+     */
+    ScaledImageCache(Path directory, long maximumSize, int threads, Scaler scaler) throws IOException {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.scaler = scaler;
+        this.scalingPermits = new Semaphore(Math.max(threads, 1), true);
+        this.prefetcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(PREFETCH_QUEUE_SIZE), runnable -> {
+                    Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                    thread.setName("ScaledImageCache");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardOldestPolicy());
+        Files.createDirectories(directory);
+        loadEntries();
+    }
+
+    /**
+     * Return singleton variable of type ScaledImageCache.
+     *
+     * @return unique instance of ScaledImageCache
+     * @throws IOException
+     *             if the directory of the cache cannot be created or read
+     */
+    public static ScaledImageCache getInstance() throws IOException {
+        ScaledImageCache localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (ScaledImageCache.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    ImageService imageService = ImageService.getInstance();
+                    localReference = new ScaledImageCache(
+                            Paths.get(ConfigCore.getParameterOrDefaultValue(ParameterCore.IMAGE_SCALED_CACHE_DIRECTORY)),
+                            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_SCALED_CACHE_SIZE) * 1024L * 1024L,
+                            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_SCALED_CACHE_THREADS),
+                            imageService::getSizedWebImage);
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Returns an image scaled to the given width. If it is not in the cache,
+     * it is scaled now.
+     *
+     * @param sourceImage
+     *            absolute URI of the image to scale
+     * @param pixelWidth
+     *            width of the scaled image in pixels
+     * @return the file of the scaled image, in JPEG format
+     * @throws IOException
+     *             if the source image cannot be read or the scaled image
+     *             cannot be written
+     */
+    public Path getScaledImage(URI sourceImage, int pixelWidth) throws IOException {
+        return getScaledImage(sourceImage, pixelWidth, false);
+    }
+
+    /**
+     * Returns an image scaled to the given width and pins it, so that it is
+     * not deleted while it is being served. If it is not in the cache, it is
+     * scaled now. The image must be released with {@link #release(Path)}
+     * afterwards.
+     *
+     * @param sourceImage
+     *            absolute URI of the image to scale
+     * @param pixelWidth
+     *            width of the scaled image in pixels
+     * @return the file of the scaled image, in JPEG format
+     * @throws IOException
+     *             if the source image cannot be read or the scaled image
+     *             cannot be written
+     */
+    public Path pinScaledImage(URI sourceImage, int pixelWidth) throws IOException {
+        return getScaledImage(sourceImage, pixelWidth, true);
+    }
+
+    /**
+     * Releases an image pinned by {@link #pinScaledImage(URI, int)}. If the
+     * cache has grown too large in the meantime, it may be deleted now.
+     *
+     * @param file
+     *            file of the scaled image
+     */
+    public synchronized void release(Path file) {
+        pinned.computeIfPresent(file, (pinnedFile, count) -> count > 1 ? count - 1 : null);
+        deleteLeastRecentlyUsed(null);
+    }
+
+    private Path getScaledImage(URI sourceImage, int pixelWidth, boolean pin) throws IOException {
+        Path target = getTarget(sourceImage, pixelWidth);
+        while (true) {
+            synchronized (this) {
+                if (Objects.nonNull(entries.get(target)) && Files.isRegularFile(target)) {
+                    if (pin) {
+                        pinned.merge(target, 1, Integer::sum);
+                    }
+                    return target;
+                }
+            }
+            CompletableFuture<Path> scaling = new CompletableFuture<>();
+            CompletableFuture<Path> alreadyScaling = running.putIfAbsent(target, scaling);
+            if (Objects.nonNull(alreadyScaling)) {
+                // look it up again, to pin it if the image has been scaled
+                await(alreadyScaling);
+                continue;
+            }
+            try {
+                scale(sourceImage, pixelWidth, target, pin);
+                scaling.complete(target);
+                return target;
+            } catch (IOException | RuntimeException e) {
+                scaling.completeExceptionally(e);
+                throw e;
+            } finally {
+                running.remove(target);
+            }
+        }
+    }
+
+    /**
+     * Scales an image in the background, if it is not in the cache yet, so
+     * that it is available when it is requested.
+     *
+     * @param sourceImage
+     *            absolute URI of the image to scale
+     * @param pixelWidth
+     *            width of the scaled image in pixels
+     */
+    public void prefetch(URI sourceImage, int pixelWidth) {
+        prefetcher.execute(() -> {
+            try {
+                getScaledImage(sourceImage, pixelWidth);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Cannot scale {}: {}", sourceImage, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Returns the size of all images in the cache.
+     *
+     * @return the size in bytes
+     */
+    synchronized long getSize() {
+        return size;
+    }
+
+    private Path getTarget(URI sourceImage, int pixelWidth) throws IOException {
+        Path source = Paths.get(sourceImage);
+        String key = source.toAbsolutePath() + "\n" + Files.getLastModifiedTime(source).toMillis() + "\n"
+                + Files.size(source) + "\n" + pixelWidth;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder(digest.length * 2 + FILE_EXTENSION.length());
+            for (byte b : digest) {
+                fileName.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return directory.resolve(fileName.append(FILE_EXTENSION).toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void scale(URI sourceImage, int pixelWidth, Path target, boolean pin) throws IOException {
+        try {
+            scalingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to scale " + sourceImage);
+        }
+        Image image;
+        try {
+            image = scaler.scale(sourceImage, pixelWidth);
+        } finally {
+            scalingPermits.release();
+        }
+        Path temporaryFile = Files.createTempFile(directory, null, ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                if (!ImageIO.write(toRgbImage(image), "jpeg", outputStream)) {
+                    throw new IOException("No JPEG writer available");
+                }
+            }
+            Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        add(target, Files.size(target), pin);
+    }
+
+    /**
+     * Converts an image to an RGB image, as JPEG cannot store transparency.
+     */
+    private static BufferedImage toRgbImage(Image image) {
+        if (image instanceof BufferedImage && ((BufferedImage) image).getType() == BufferedImage.TYPE_INT_RGB) {
+            return (BufferedImage) image;
+        }
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(null), image.getHeight(null),
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgbImage.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgbImage;
+    }
+
+    private synchronized void add(Path file, long fileSize, boolean pin) {
+        Long previousSize = entries.put(file, fileSize);
+        size += fileSize - (Objects.nonNull(previousSize) ? previousSize : 0);
+        if (pin) {
+            pinned.merge(file, 1, Integer::sum);
+        }
+        deleteLeastRecentlyUsed(file);
+    }
+
+    /**
+     * Deletes the least recently used images until the cache is not too large
+     * any more. Pinned images and the given image are kept.
+     */
+    private void deleteLeastRecentlyUsed(Path keep) {
+        Iterator<Map.Entry<Path, Long>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (size > maximumSize && leastRecentlyUsed.hasNext()) {
+            Map.Entry<Path, Long> entry = leastRecentlyUsed.next();
+            if (entry.getKey().equals(keep) || pinned.containsKey(entry.getKey())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(entry.getKey());
+                size -= entry.getValue();
+                leastRecentlyUsed.remove();
+            } catch (IOException e) {
+                logger.warn("Cannot delete {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the images already in the directory, oldest first, so that images
+     * scaled before a restart are used again.
+     */
+    private void loadEntries() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        Map<Path, Long> lastModified = new LinkedHashMap<>();
+        for (Path file : files) {
+            lastModified.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort(Comparator.comparing(lastModified::get));
+        for (Path file : files) {
+            add(file, Files.size(file), false);
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> scaling) throws IOException {
+        try {
+            return scaling.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * Collects objects that have been saved to the database, but not yet to the
+ * index, and indexes them in the background. The objects remain marked with
+ * {@code IndexAction.INDEX} in the database until they have been indexed, so
+ * that objects lost on shutdown can be found by indexing the objects not yet
+ * indexed. Objects saved several times before the next run are indexed once.
+ *
+ * <p>
+ * Objects whose indexing fails are tried again later, with the waiting time
+ * doubled after each failure, up to a configured maximum. After the
+ * configured number of attempts, an object is given up. It keeps its mark in
+ * the database and must then be indexed from the indexing page.
+ */
+public class IndexOutbox {
+
+    private static final Logger logger = LogManager.getLogger(IndexOutbox.class);
+
+    private static volatile IndexOutbox instance = null;
+
+    /**
+     * Pending object IDs per service, each with whether its related objects
+     * must be updated in the index as well. Guarded by this.
+     */
+    private final Map<SearchService<?, ?, ?>, Map<Integer, Boolean>> pending = new LinkedHashMap<>();
+
+    /**
+     * Object IDs per service whose indexing failed and which wait for their
+     * next attempt. Guarded by this.
+     */
+    private final Map<SearchService<?, ?, ?>, Map<Integer, Retry>> retries = new LinkedHashMap<>();
+
+    /**
+     * Source of the current time in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    private ScheduledExecutorService drainer;
+
+    /**
+     * An object whose indexing failed.
+     */
+    private static final class Retry {
+        private final boolean updateRelatedObjectsInIndex;
+        private final int failedAttempts;
+        private final long dueTime;
+
+        private Retry(boolean updateRelatedObjectsInIndex, int failedAttempts, long dueTime) {
+            this.updateRelatedObjectsInIndex = updateRelatedObjectsInIndex;
+            this.failedAttempts = failedAttempts;
+            this.dueTime = dueTime;
+        }
+    }
+
+    /**
+     * Returns the singleton instance of the index outbox. The background
+     * thread is started on first use.
+     *
+     * @return unique instance of IndexOutbox
+     */
+    public static IndexOutbox getInstance() {
+        IndexOutbox localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (IndexOutbox.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new IndexOutbox();
+                    localReference.start();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Stops the background thread of the singleton instance, if it was
+     * started. A run in progress is waited for. Objects still pending keep
+     * their mark in the database.
+     */
+    public static void shutdown() {
+        IndexOutbox localReference;
+        synchronized (IndexOutbox.class) {
+            localReference = instance;
+            instance = null;
+        }
+        if (Objects.isNull(localReference)) {
+            return;
+        }
+        localReference.drainer.shutdown();
+        try {
+            if (!localReference.drainer.awaitTermination(30, TimeUnit.SECONDS)) {
+                localReference.drainer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            localReference.drainer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        int pendingCount = localReference.getPendingCount();
+        if (pendingCount > 0) {
+            logger.warn("{} objects have not been indexed before shutdown and must be indexed from the indexing page",
+                pendingCount);
+        }
+    }
+
+    /**
+     * Creates an index outbox without background thread. Use
+     * {@link #getInstance()} to get the one that is drained periodically.
+     */
+    IndexOutbox() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates an index outbox without background thread, which takes the time
+     * from the given clock.
+     *
+     * @param clock
+     *            source of the current time in nanoseconds
+     */
+    IndexOutbox(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the background thread which drains the outbox periodically.
+     */
+    private void start() {
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("IndexOutbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long delay = ConfigCore
+                .getLongParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_INTERVAL_MILLIS);
+        drainer.scheduleWithFixedDelay(this::drain, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds an object to be indexed.
+     *
+     * @param service
+     *            service of the object
+     * @param id
+     *            ID of the object
+     * @param updateRelatedObjectsInIndex
+     *            whether the related objects must be updated in the index as
+     *            well
+     */
+    public synchronized void add(SearchService<?, ?, ?> service, Integer id, boolean updateRelatedObjectsInIndex) {
+        pending.computeIfAbsent(service, key -> new LinkedHashMap<>()).merge(id, updateRelatedObjectsInIndex,
+            Boolean::logicalOr);
+    }
+
+    /**
+     * Returns the number of objects waiting to be indexed, including those
+     * waiting for another attempt.
+     *
+     * @return the number of pending objects
+     */
+    public synchronized int getPendingCount() {
+        int count = pending.values().stream().mapToInt(Map::size).sum();
+        for (Entry<SearchService<?, ?, ?>, Map<Integer, Retry>> entry : retries.entrySet()) {
+            Map<Integer, Boolean> pendingOfService = pending.getOrDefault(entry.getKey(), Map.of());
+            count += (int) entry.getValue().keySet().stream().filter(id -> !pendingOfService.containsKey(id)).count();
+        }
+        return count;
+    }
+
+    /**
+     * Indexes all pending objects and the failed objects whose next attempt
+     * is due. Objects whose indexing fails again are put back with a longer
+     * waiting time, or given up after the last attempt.
+     */
+    public void drain() {
+        Map<SearchService<?, ?, ?>, Map<Integer, Boolean>> objects = new LinkedHashMap<>();
+        Map<SearchService<?, ?, ?>, Map<Integer, Integer>> failedAttempts = new LinkedHashMap<>();
+        synchronized (this) {
+            long now = clock.getAsLong();
+            for (Entry<SearchService<?, ?, ?>, Map<Integer, Retry>> entry : retries.entrySet()) {
+                Map<Integer, Boolean> pendingOfService = pending.getOrDefault(entry.getKey(), Map.of());
+                for (Iterator<Entry<Integer, Retry>> iterator = entry.getValue().entrySet().iterator(); iterator
+                        .hasNext();) {
+                    Entry<Integer, Retry> retry = iterator.next();
+                    if (pendingOfService.containsKey(retry.getKey()) || now - retry.getValue().dueTime >= 0) {
+                        objects.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>()).put(retry.getKey(),
+                            retry.getValue().updateRelatedObjectsInIndex);
+                        failedAttempts.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>())
+                                .put(retry.getKey(), retry.getValue().failedAttempts);
+                        iterator.remove();
+                    }
+                }
+            }
+            retries.values().removeIf(Map::isEmpty);
+            for (Entry<SearchService<?, ?, ?>, Map<Integer, Boolean>> entry : pending.entrySet()) {
+                Map<Integer, Boolean> objectsOfService = objects.computeIfAbsent(entry.getKey(),
+                    key -> new LinkedHashMap<>());
+                entry.getValue().forEach((id, related) -> objectsOfService.merge(id, related, Boolean::logicalOr));
+            }
+            pending.clear();
+        }
+        int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+        for (Entry<SearchService<?, ?, ?>, Map<Integer, Boolean>> entry : objects.entrySet()) {
+            List<Integer> ids = new ArrayList<>(entry.getValue().keySet());
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Integer> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                List<Integer> withRelated = new ArrayList<>();
+                for (Integer id : batch) {
+                    if (entry.getValue().get(id)) {
+                        withRelated.add(id);
+                    }
+                }
+                try {
+                    entry.getKey().saveToIndex(batch, withRelated);
+                } catch (Exception e) {
+                    scheduleRetries(entry.getKey(), batch, entry.getValue(),
+                        failedAttempts.getOrDefault(entry.getKey(), Map.of()), e);
+                }
+            }
+        }
+    }
+
+    private synchronized void scheduleRetries(SearchService<?, ?, ?> service, List<Integer> batch,
+            Map<Integer, Boolean> related, Map<Integer, Integer> failedAttempts, Exception exception) {
+        int attempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_ATTEMPTS);
+        long interval = TimeUnit.MILLISECONDS.toNanos(
+            ConfigCore.getLongParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_INTERVAL_MILLIS));
+        long maxBackoff = TimeUnit.MILLISECONDS.toNanos(
+            ConfigCore.getLongParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_MAX_BACKOFF_MILLIS));
+        long now = clock.getAsLong();
+        List<Integer> givenUp = new ArrayList<>();
+        int mostFailures = 0;
+        for (Integer id : batch) {
+            int failures = failedAttempts.getOrDefault(id, 0) + 1;
+            mostFailures = Math.max(mostFailures, failures);
+            if (failures >= attempts) {
+                givenUp.add(id);
+                continue;
+            }
+            long backoff = Math.min(interval << Math.min(failures - 1, 30), maxBackoff);
+            retries.computeIfAbsent(service, key -> new LinkedHashMap<>()).put(id,
+                new Retry(related.get(id), failures, now + backoff));
+        }
+        if (givenUp.isEmpty()) {
+            logger.warn("Indexing of {} objects failed (attempt {} of {}), will retry: {}", batch.size(),
+                mostFailures, attempts, exception.getMessage());
+            logger.debug(exception);
+        } else {
+            logger.error("Indexing of objects {} failed {} times, giving up. They must be indexed from the indexing"
+                    + " page.", givenUp, attempts, exception);
+        }
+    }
+}
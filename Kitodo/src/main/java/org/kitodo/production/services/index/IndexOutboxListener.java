@@ -0,0 +1,34 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+/**
+ * Listener to stop the background thread of the {@link IndexOutbox} on
+ * application shutdown.
+ */
+@WebListener
+public class IndexOutboxListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        // the index outbox is started on first use
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        IndexOutbox.shutdown();
+    }
+}
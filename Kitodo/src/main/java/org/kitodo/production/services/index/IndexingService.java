@@ -310,12 +310,17 @@ public class IndexingService {
         objectIndexingStates.put(type, IndexStates.INDEXING_STARTED);
 
         int threads = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_THREADS);
-        int totalNumberOfObjects = getNumberOfDatabaseObjects(type);
         int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
-        int maxBatch = (int)Math.ceil((double)(totalNumberOfObjects) / (double)(batchSize));
 
         // create new thread-safe indexing status
-        indexWorkerStatus = new IndexWorkerStatus(maxBatch);
+        if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ID_RANGE_PAGING)) {
+            // determine id ranges once, so that batches are located via primary key instead of offset
+            indexWorkerStatus = new IndexWorkerStatus(getService(type).getIdsOfBatchStarts(batchSize, !indexAllObjects));
+        } else {
+            int totalNumberOfObjects = getNumberOfDatabaseObjects(type);
+            int maxBatch = (int)Math.ceil((double)(totalNumberOfObjects) / (double)(batchSize));
+            indexWorkerStatus = new IndexWorkerStatus(maxBatch);
+        }
 
         logger.info("start " + threads + " threads for indexing " + type.toString());
         ExecutorService executor = null;
@@ -0,0 +1,500 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.XML;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.dataformat.PhysicalDivision;
+
+/**
+ * The data of a METS file which is stored in the index of a process. It is
+ * read in one streaming pass over the file, without unmarshalling the
+ * workpiece or materialising the whole document in memory.
+ *
+ * <p>The descriptive metadata sections are converted into the same map
+ * structure as {@code org.json.XML.toJSONObject()} produces for them. The
+ * counts follow the rules of the workpiece read by the METS module: pages are
+ * the divisions of type "page" in the first physical struct map, structures
+ * are all divisions of the first logical struct map, and metadata are the
+ * distinct metadata entries with a value and the metadata groups linked to
+ * these divisions.</p>
+ */
+public class MetsIndexData {
+
+    private static final String METS_NAMESPACE = "http://www.loc.gov/METS/";
+    private static final String KITODO_NAMESPACE = "http://meta.kitodo.org/v1/";
+    private static final String CONTENT = "content";
+    private static final String DMD_SEC = "dmdSec";
+    private static final String DIV = "div";
+    private static final String STRUCT_MAP = "structMap";
+    private static final String TYPE = "TYPE";
+    private static final String LOGICAL = "LOGICAL";
+    private static final String PHYSICAL = "PHYSICAL";
+    private static final String METADATA = "metadata";
+    private static final String METADATA_GROUP = "metadataGroup";
+
+    private static final Map<String, MdSec> AMD_SEC_TYPES = Map.of("sourceMD", MdSec.SOURCE_MD, "digiprovMD",
+        MdSec.DIGIPROV_MD, "rightsMD", MdSec.RIGHTS_MD, "techMD", MdSec.TECH_MD);
+
+    private static final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    private List<Map<String, Object>> metadata = Collections.emptyList();
+    private int numberOfImages;
+    private int numberOfMetadata;
+    private int numberOfStructures;
+    private String baseType;
+
+    private MetsIndexData() {
+    }
+
+    /**
+     * Reads the index data from a METS file.
+     *
+     * @param inputStream
+     *            stream of the METS file
+     * @return the index data of the METS file
+     * @throws IOException
+     *             if the file cannot be read, is not well-formed or its
+     *             content cannot be converted
+     */
+    public static MetsIndexData read(InputStream inputStream) throws IOException {
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            try {
+                return new Reader(reader).read();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the descriptive metadata sections for the index.
+     *
+     * @return the descriptive metadata sections
+     */
+    public List<Map<String, Object>> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the number of pages.
+     *
+     * @return the number of pages
+     */
+    public int getNumberOfImages() {
+        return numberOfImages;
+    }
+
+    /**
+     * Returns the number of metadata of the logical divisions.
+     *
+     * @return the number of metadata
+     */
+    public int getNumberOfMetadata() {
+        return numberOfMetadata;
+    }
+
+    /**
+     * Returns the number of logical divisions.
+     *
+     * @return the number of logical divisions
+     */
+    public int getNumberOfStructures() {
+        return numberOfStructures;
+    }
+
+    /**
+     * Returns the type of the top element of the logical structure. If it
+     * has no type, the type of its first child is used, and so on.
+     *
+     * @return the base type, may be null
+     */
+    public String getBaseType() {
+        return baseType;
+    }
+
+    /**
+     * An element of a descriptive metadata section which is being converted.
+     */
+    private static class JsonFrame {
+        private final String name;
+        private final JSONObject jsonObject = new JSONObject();
+        private final StringBuilder text = new StringBuilder();
+
+        JsonFrame(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * A kitodo:metadata or kitodo:metadataGroup element which is being read.
+     */
+    private static class MetadataFrame {
+        private final boolean group;
+        private final String key;
+        private final StringBuilder value = new StringBuilder();
+        private final Set<String> members = new TreeSet<>();
+
+        MetadataFrame(boolean group, String key) {
+            this.group = group;
+            this.key = key;
+        }
+
+        private String getSignature() {
+            return group ? "G|" + key + "|" + members : "E|" + key + "|" + value;
+        }
+    }
+
+    /**
+     * The state of a single pass over a METS file.
+     */
+    private static class Reader {
+        private final XMLStreamReader reader;
+        private final MetsIndexData result = new MetsIndexData();
+
+        private final JSONObject metsJsonObject = new JSONObject();
+        private final Deque<JsonFrame> jsonFrames = new ArrayDeque<>();
+
+        private final Map<String, MdSec> mdSecTypes = new HashMap<>();
+        private final Map<String, List<String>> mdSecMetadata = new HashMap<>();
+        private String currentMdSecId;
+        private int kitodoDepth;
+        private final Deque<MetadataFrame> metadataFrames = new ArrayDeque<>();
+
+        private String currentStructMapType;
+        private boolean logicalStructMapRead;
+        private boolean physicalStructMapRead;
+        private final Deque<boolean[]> logicalDivs = new ArrayDeque<>();
+        private final List<String> firstChildTypes = new ArrayList<>();
+        private final List<String[]> logicalDivReferences = new ArrayList<>();
+
+        private int depth;
+        private boolean isMets;
+
+        Reader(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        MetsIndexData read() throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        startElement();
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        endElement();
+                        depth--;
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        characters(false);
+                        break;
+                    case XMLStreamConstants.CDATA:
+                        characters(true);
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        if (!jsonFrames.isEmpty()) {
+                            flushText(jsonFrames.peek());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (isMets) {
+                result.metadata = getDmdSecs();
+            }
+            result.numberOfMetadata = countMetadata();
+            result.baseType = firstChildTypes.stream().filter(Objects::nonNull).findFirst().orElse(null);
+            return result;
+        }
+
+        private void startElement() {
+            String localName = reader.getLocalName();
+            boolean metsElement = METS_NAMESPACE.equals(reader.getNamespaceURI());
+            if (depth == 1) {
+                isMets = "mets".equals(localName);
+            } else if (depth == 2 && isMets && DMD_SEC.equals(localName)) {
+                jsonFrames.push(new JsonFrame(getQualifiedName()));
+                addAttributes(jsonFrames.peek().jsonObject);
+            } else if (!jsonFrames.isEmpty()) {
+                JsonFrame parent = jsonFrames.peek();
+                flushText(parent);
+                jsonFrames.push(new JsonFrame(getQualifiedName()));
+                addAttributes(jsonFrames.peek().jsonObject);
+            }
+            if (metsElement && (DMD_SEC.equals(localName) || AMD_SEC_TYPES.containsKey(localName))) {
+                currentMdSecId = reader.getAttributeValue(null, "ID");
+                mdSecTypes.put(currentMdSecId, AMD_SEC_TYPES.getOrDefault(localName, MdSec.DMD_SEC));
+            } else if (KITODO_NAMESPACE.equals(reader.getNamespaceURI())) {
+                startKitodoElement(localName);
+            } else if (metsElement && depth == 2 && STRUCT_MAP.equals(localName)) {
+                currentStructMapType = reader.getAttributeValue(null, TYPE);
+            } else if (metsElement && DIV.equals(localName)) {
+                startDiv();
+            }
+        }
+
+        private void startKitodoElement(String localName) {
+            if (Objects.isNull(currentMdSecId)) {
+                return;
+            }
+            if (kitodoDepth == 0) {
+                if ("kitodo".equals(localName)) {
+                    kitodoDepth = depth;
+                }
+            } else if (METADATA.equals(localName) || METADATA_GROUP.equals(localName)) {
+                boolean group = METADATA_GROUP.equals(localName);
+                MetadataFrame parent = metadataFrames.peek();
+                if (depth == kitodoDepth + metadataFrames.size() + 1 && (Objects.isNull(parent) || parent.group)) {
+                    metadataFrames.push(new MetadataFrame(group, reader.getAttributeValue(null, "name")));
+                }
+            }
+        }
+
+        private void startDiv() {
+            if (LOGICAL.equals(currentStructMapType) && !logicalStructMapRead) {
+                result.numberOfStructures++;
+                boolean[] parent = logicalDivs.peek();
+                boolean onFirstChildPath = Objects.isNull(parent) || parent[0] && !parent[1];
+                if (Objects.nonNull(parent)) {
+                    parent[1] = true;
+                }
+                if (onFirstChildPath) {
+                    firstChildTypes.add(reader.getAttributeValue(null, TYPE));
+                }
+                logicalDivs.push(new boolean[] {onFirstChildPath, false });
+                logicalDivReferences.add(new String[] {reader.getAttributeValue(null, "DMDID"),
+                    reader.getAttributeValue(null, "ADMID") });
+            } else if (PHYSICAL.equals(currentStructMapType) && !physicalStructMapRead
+                    && PhysicalDivision.TYPE_PAGE.equals(reader.getAttributeValue(null, TYPE))) {
+                result.numberOfImages++;
+            }
+        }
+
+        private void endElement() {
+            String localName = reader.getLocalName();
+            boolean metsElement = METS_NAMESPACE.equals(reader.getNamespaceURI());
+            if (!jsonFrames.isEmpty()) {
+                JsonFrame frame = jsonFrames.pop();
+                flushText(frame);
+                JSONObject parent = jsonFrames.isEmpty() ? metsJsonObject : jsonFrames.peek().jsonObject;
+                parent.accumulate(frame.name, getJsonValue(frame.jsonObject));
+            }
+            if (metsElement && (DMD_SEC.equals(localName) || AMD_SEC_TYPES.containsKey(localName))) {
+                currentMdSecId = null;
+            } else if (KITODO_NAMESPACE.equals(reader.getNamespaceURI())) {
+                endKitodoElement(localName);
+            } else if (metsElement && depth == 2 && STRUCT_MAP.equals(localName)) {
+                if (LOGICAL.equals(currentStructMapType)) {
+                    logicalStructMapRead = true;
+                } else if (PHYSICAL.equals(currentStructMapType)) {
+                    physicalStructMapRead = true;
+                }
+                currentStructMapType = null;
+            } else if (metsElement && DIV.equals(localName) && LOGICAL.equals(currentStructMapType)
+                    && !logicalStructMapRead) {
+                logicalDivs.pop();
+            }
+        }
+
+        private void endKitodoElement(String localName) {
+            if (kitodoDepth == 0) {
+                return;
+            }
+            if (depth == kitodoDepth) {
+                kitodoDepth = 0;
+            } else if ((METADATA.equals(localName) || METADATA_GROUP.equals(localName)) && !metadataFrames.isEmpty()
+                    && depth == kitodoDepth + metadataFrames.size()) {
+                MetadataFrame frame = metadataFrames.pop();
+                MetadataFrame parent = metadataFrames.peek();
+                if (Objects.nonNull(parent)) {
+                    parent.members.add(frame.getSignature());
+                } else if (frame.group || frame.value.length() > 0) {
+                    mdSecMetadata.computeIfAbsent(currentMdSecId, any -> new ArrayList<>()).add(frame.getSignature());
+                }
+            }
+        }
+
+        private void characters(boolean cdata) {
+            if (!jsonFrames.isEmpty()) {
+                JsonFrame frame = jsonFrames.peek();
+                if (cdata) {
+                    flushText(frame);
+                    if (reader.getTextLength() > 0) {
+                        frame.jsonObject.accumulate(CONTENT, reader.getText());
+                    }
+                } else {
+                    frame.text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+            MetadataFrame metadataFrame = metadataFrames.peek();
+            if (Objects.nonNull(metadataFrame) && !metadataFrame.group
+                    && depth == kitodoDepth + metadataFrames.size()) {
+                metadataFrame.value.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+        }
+
+        private String getQualifiedName() {
+            String prefix = reader.getPrefix();
+            return StringUtils.isEmpty(prefix) ? reader.getLocalName() : prefix + ':' + reader.getLocalName();
+        }
+
+        private void addAttributes(JSONObject jsonObject) {
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                jsonObject.accumulate(StringUtils.isEmpty(prefix) ? "xmlns" : "xmlns:" + prefix,
+                    XML.stringToValue(reader.getNamespaceURI(i)));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i);
+                String localName = reader.getAttributeLocalName(i);
+                jsonObject.accumulate(StringUtils.isEmpty(prefix) ? localName : prefix + ':' + localName,
+                    XML.stringToValue(reader.getAttributeValue(i)));
+            }
+        }
+
+        private static void flushText(JsonFrame frame) {
+            String text = frame.text.toString().trim();
+            frame.text.setLength(0);
+            if (!text.isEmpty()) {
+                frame.jsonObject.accumulate(CONTENT, XML.stringToValue(text));
+            }
+        }
+
+        private static Object getJsonValue(JSONObject jsonObject) {
+            if (jsonObject.isEmpty()) {
+                return "";
+            } else if (jsonObject.length() == 1 && jsonObject.has(CONTENT)) {
+                return jsonObject.get(CONTENT);
+            }
+            return jsonObject;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Map<String, Object>> getDmdSecs() {
+            Object dmdSec = iterateOverJsonObject(metsJsonObject).get(DMD_SEC);
+            List<Map<String, Object>> dmdSecs = new ArrayList<>();
+            if (dmdSec instanceof List) {
+                dmdSecs = (List<Map<String, Object>>) dmdSec;
+            } else if (dmdSec instanceof Map) {
+                dmdSecs.add((Map<String, Object>) dmdSec);
+            }
+            return dmdSecs;
+        }
+
+        private int countMetadata() {
+            int count = 0;
+            for (String[] references : logicalDivReferences) {
+                Set<String> metadataOfDivision = new HashSet<>();
+                addMetadata(metadataOfDivision, references[0], true);
+                addMetadata(metadataOfDivision, references[1], false);
+                count += metadataOfDivision.size();
+            }
+            return count;
+        }
+
+        private void addMetadata(Set<String> metadataOfDivision, String references, boolean descriptive) {
+            if (Objects.isNull(references)) {
+                return;
+            }
+            for (String reference : references.trim().split("\\s+")) {
+                MdSec domain = descriptive ? MdSec.DMD_SEC : mdSecTypes.get(reference);
+                for (String signature : mdSecMetadata.getOrDefault(reference, Collections.emptyList())) {
+                    metadataOfDivision.add(domain + "|" + signature);
+                }
+            }
+        }
+    }
+
+    private static Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
+        Iterator<String> keys = xmlJSONObject.keys();
+        Map<String, Object> json = new HashMap<>();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = xmlJSONObject.get(key);
+            if (value instanceof String || value instanceof Integer) {
+                json.put(prepareKey(key), value);
+            } else if (value instanceof Long || value instanceof BigInteger) {
+                json.put(prepareKey(key), value.toString());
+            } else if (value instanceof JSONObject) {
+                JSONObject jsonObject = (JSONObject) value;
+                Map<String, Object> map = iterateOverJsonObject(jsonObject);
+                json.put(prepareKey(key), map);
+            } else if (value instanceof JSONArray) {
+                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
+            }
+        }
+        return json;
+    }
+
+    private static Object iterateOverJsonArray(JSONArray jsonArray) {
+        int jsonArraySize = jsonArray.length();
+        List<Object> json = new ArrayList<>(jsonArraySize);
+        for (int i = 0; i < jsonArraySize; i++) {
+            Object value = jsonArray.get(i);
+            if (value instanceof JSONObject) {
+                json.add(iterateOverJsonObject((JSONObject) value));
+            } else if (value instanceof String) {
+                json.add(value);
+            } else if (value instanceof JSONArray) {
+                json.add(iterateOverJsonArray((JSONArray) value));
+            }
+        }
+        return json;
+    }
+
+    private static String prepareKey(String key) {
+        if (key.contains(":")) {
+            return key.substring(key.indexOf(':') + 1);
+        }
+        return key;
+    }
+}
@@ -14,6 +14,7 @@ package org.kitodo.production.thread;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskPool;
 import org.kitodo.production.services.image.ImageGenerator;
 
 /**
@@ -69,6 +70,16 @@ public class TaskImageGeneratorThread extends EmptyTask {
         }
     }
 
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#IMAGE_GENERATION} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.IMAGE_GENERATION;
+    }
+
     /**
      * Calls the clone constructor to create a not yet executed instance of this
      * thread object. This is necessary for threads that have terminated in
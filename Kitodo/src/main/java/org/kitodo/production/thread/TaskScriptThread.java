@@ -20,6 +20,7 @@ import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.tasks.EmptyTask;
+import org.kitodo.production.helper.tasks.TaskPool;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.TaskService;
 
@@ -83,6 +84,16 @@ public class TaskScriptThread extends EmptyTask {
         super.setProgress(100);
     }
 
+    /**
+     * Returns the resource pool of the task.
+     *
+     * @return the {@link TaskPool#SCRIPT} pool
+     */
+    @Override
+    public TaskPool getPool() {
+        return TaskPool.SCRIPT;
+    }
+
     /**
      * Calls the clone constructor to create a not yet executed instance of this
      * thread object. This is necessary for threads that have terminated in
@@ -75,6 +75,11 @@ public class DummyRulesetManagement implements RulesetManagementInterface {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Collection<File> getSourceFiles() {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isAlwaysShowingForKey(String keyId) {
         throw new UnsupportedOperationException();
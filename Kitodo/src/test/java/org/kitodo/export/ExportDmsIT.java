@@ -12,6 +12,7 @@
 package org.kitodo.export;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -26,7 +27,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kitodo.MockDatabase;
 import org.kitodo.TreeDeleter;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.production.helper.tasks.ExportDmsTask;
 import org.kitodo.production.services.ServiceManager;
 
 public class ExportDmsIT {
@@ -35,6 +39,7 @@ public class ExportDmsIT {
     static int processId = 1;
     static File testBaseDirectory = new File("src/test/resources").getAbsoluteFile();
     static File downloadDir = new File(testBaseDirectory, "downloadHere");
+    static File resumeDir = new File(testBaseDirectory, "resumeHere");
 
     /**
      * Initializes the test.
@@ -82,6 +87,7 @@ public class ExportDmsIT {
 
         TreeDeleter.deltree(new File(testBaseDirectory, "metadata/" + processId));
         TreeDeleter.deltree(downloadDir);
+        TreeDeleter.deltree(resumeDir);
     }
 
     @Test
@@ -125,4 +131,30 @@ public class ExportDmsIT {
         float mbps = totalBytes / tookNanos * 1953125 / 2048;
         assertTrue(mbps > 50, "It should have been copied >50 MB/s (was: " + mbps + " MB/s)");
     }
+
+    @Test
+    public void shouldResumeDirectoryDownloadAfterCheckpoint() throws Exception {
+        Process process = ServiceManager.getProcessService().getById(processId);
+        BackgroundJob job = ServiceManager.getBackgroundJobService().queueExportDms(process, null, true);
+        ServiceManager.getBackgroundJobService().saveCheckpoint(job, 2);
+        ExportDms exportDms = new ExportDms();
+        exportDms.setExportDmsTask(ExportDmsTask.forJob(job));
+
+        Method directoryDownload = ExportDms.class.getDeclaredMethod("directoryDownload", Process.class, URI.class);
+        directoryDownload.setAccessible(true);
+        directoryDownload.invoke(exportDms, process, resumeDir.toURI());
+
+        assertFalse(new File(resumeDir, "jpgs/max").exists(), "Folder before the checkpoint was copied again");
+        assertFalse(new File(resumeDir, "jpgs/default").exists(), "Folder before the checkpoint was copied again");
+        File jpgsThumbs = new File(resumeDir, "jpgs/thumbs");
+        assertEquals(184, jpgsThumbs.list((directory, filename) -> filename.endsWith(".jpg")).length,
+            "Folder after the checkpoint was not copied");
+        File pdf = new File(resumeDir, "pdf");
+        assertEquals(184, pdf.list((directory, filename) -> filename.endsWith(".pdf")).length,
+            "Folder after the checkpoint was not copied");
+
+        long copyFolders = process.getProject().getFolders().stream().filter(Folder::isCopyFolder).count();
+        assertEquals(copyFolders, ServiceManager.getBackgroundJobService().getById(job.getId()).getCheckpoint(),
+            "Checkpoint was not recorded after each folder");
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.production.enums.MediaContentType;
+
+public class MediaServletTest {
+
+    private static final int PROCESS_ID = 1;
+    private static final String MEDIA_ID = "00000001";
+
+    private MediaServlet mediaServlet;
+
+    /**
+     * Creates a media servlet with one registered media.
+     */
+    @BeforeEach
+    public void init() throws Exception {
+        MediaProvider mediaProvider = new MediaProvider();
+        mediaProvider.addMediaContent(PROCESS_ID, new GalleryMediaContent(MediaContentType.IMAGE, new View(),
+                MEDIA_ID, "image/jpeg", URI.create("1/images/thumbs/00000001.jpg"), null, null, null));
+        mediaServlet = new MediaServlet();
+        Field mediaProviderField = MediaServlet.class.getDeclaredField("mediaProvider");
+        mediaProviderField.setAccessible(true);
+        mediaProviderField.set(mediaServlet, mediaProvider);
+    }
+
+    @Test
+    public void shouldCreateUrl() {
+        assertEquals("/media/preview?process=1&mediaId=00000001&sessionId=a+b%26c",
+            new MediaProvider().getPreviewUrl(PROCESS_ID, MEDIA_ID, "a b&c"), "URL of preview is wrong");
+    }
+
+    @Test
+    public void shouldNotServeUnregisteredMedia() {
+        assertNull(mediaServlet.getFile(mockRequest("/preview", "2", MEDIA_ID)),
+            "Media of process not opened in the editor was served");
+        assertNull(mediaServlet.getFile(mockRequest("/preview", String.valueOf(PROCESS_ID), "00000002")),
+            "Unknown media was served");
+        assertNull(mediaServlet.getFile(mockRequest("/preview", "x", MEDIA_ID)),
+            "Media with invalid process ID was served");
+    }
+
+    @Test
+    public void shouldNotServeMissingVariant() {
+        assertNull(mediaServlet.getFile(mockRequest("/mediaView", String.valueOf(PROCESS_ID), MEDIA_ID)),
+            "Media view was served although there is none");
+        assertNull(mediaServlet.getFile(mockRequest("/other", String.valueOf(PROCESS_ID), MEDIA_ID)),
+            "Unknown media variant was served");
+    }
+
+    private static HttpServletRequest mockRequest(String variant, String processId, String mediaId) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getPathInfo()).thenReturn(variant);
+        when(request.getParameter("process")).thenReturn(processId);
+        when(request.getParameter("mediaId")).thenReturn(mediaId);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.services.ServiceManager;
+
+public class SearchResultGenerationIT {
+
+    private static long numberOfProcesses;
+
+    /**
+     * Function to run before test is executed.
+     *
+     * @throws Exception
+     *         the exception when set up test
+     */
+    @BeforeAll
+    public static void setUp() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+        User userOne = ServiceManager.getUserService().getById(1);
+        SecurityTestUtils.addUserDataToSecurityContext(userOne, 1);
+        numberOfProcesses = ServiceManager.getProcessService()
+                .count(new SearchResultGeneration("", true, true).getQueryForFilter(ObjectType.PROCESS));
+    }
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SearchResultGeneration("", true, true).writeCsv(outputStream);
+
+        List<String> lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).lines()
+                .collect(Collectors.toList());
+        assertEquals(numberOfProcesses + 1, lines.size(), "Number of exported lines is wrong");
+        assertTrue(lines.get(1).startsWith("\"First process\",\"1\","), "First exported process is wrong");
+    }
+
+    @Test
+    public void shouldWriteXlsx(@TempDir Path tempDirectory) throws Exception {
+        Path file = tempDirectory.resolve("search.xlsx");
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            new SearchResultGeneration("", true, true).writeXlsx(outputStream);
+        }
+
+        try (ZipFile zipFile = new ZipFile(file.toFile())) {
+            ZipEntry entry = zipFile.getEntry("xl/worksheets/sheet1.xml");
+            assertNotNull(entry, "Workbook contains no sheet");
+            String sheet = new String(zipFile.getInputStream(entry).readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(numberOfProcesses + 2, sheet.split("<row ").length - 1, "Number of exported rows is wrong");
+            assertTrue(sheet.contains("First process"), "First exported process is missing");
+        }
+    }
+
+    @Test
+    public void shouldWritePdf() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SearchResultGeneration("", true, true).writePdf(outputStream);
+
+        PdfReader reader = new PdfReader(outputStream.toByteArray());
+        try {
+            assertTrue(reader.getNumberOfPages() > 0, "PDF file contains no page");
+            String text = PdfTextExtractor.getTextFromPage(reader, 1);
+            assertTrue(text.contains("First process"), "First exported process is missing");
+        } finally {
+            reader.close();
+        }
+    }
+}
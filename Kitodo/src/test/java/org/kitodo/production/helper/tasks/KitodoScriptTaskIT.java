@@ -0,0 +1,72 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.data.database.beans.BackgroundJob;
+import org.kitodo.data.database.beans.BackgroundJobItem;
+import org.kitodo.data.database.enums.BackgroundJobState;
+import org.kitodo.data.database.persistence.BackgroundJobItemDAO;
+import org.kitodo.data.database.persistence.HibernateUtil;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.BackgroundJobService;
+
+public class KitodoScriptTaskIT {
+
+    private static final BackgroundJobService backgroundJobService = ServiceManager.getBackgroundJobService();
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldResumeWithProcessesNotYetDone() throws Exception {
+        // the action cannot be executed as a job, so each process it is executed for fails
+        BackgroundJob job = backgroundJobService.queueKitodoScript("action:unknown", Arrays.asList(1, 2, 3));
+        List<BackgroundJobItem> items = backgroundJobService.getQueuedItems(job);
+        backgroundJobService.completeItem(items.get(0), null, true);
+        backgroundJobService.completeItem(items.get(1), "Failed before", false);
+
+        KitodoScriptTask.forJob(job).run();
+
+        assertEquals(1, backgroundJobService.countItems(job, BackgroundJobState.FINISHED),
+            "Process already finished was executed again");
+        assertEquals(2, backgroundJobService.countItems(job, BackgroundJobState.FAILED),
+            "Process not yet done was not executed");
+        assertEquals(0, backgroundJobService.countItems(job, BackgroundJobState.QUEUED),
+            "Process was left queued");
+        HibernateUtil.closeSession();
+        List<BackgroundJobItem> failed = new BackgroundJobItemDAO().getByJobAndState(job.getId(),
+            BackgroundJobState.FAILED);
+        assertTrue(failed.stream().anyMatch(item -> "Failed before".equals(item.getMessage())),
+            "Process which had failed before was executed again");
+        assertEquals(BackgroundJobState.FAILED, job.getState(), "Job with failed processes was not marked failed");
+        assertEquals(100, job.getProgress(), "Progress of resumed job is wrong");
+    }
+}
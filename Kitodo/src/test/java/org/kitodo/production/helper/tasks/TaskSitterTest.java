@@ -0,0 +1,131 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+public class TaskSitterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeAll
+    public static void setLimits() {
+        ConfigCore.getConfig().setProperty(ParameterCore.TASK_MANAGER_AUTORUN_LIMIT.getName(), 2);
+        ConfigCore.getConfig().setProperty(ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_MIGRATION.getName(), 1);
+        ConfigCore.getConfig().setProperty(ParameterCore.TASK_MANAGER_POOL_PRIORITY.getName(),
+            "export, script, migration");
+        TaskSitter.setAutoRunningThreads(true);
+    }
+
+    @AfterAll
+    public static void restoreLimits() {
+        ConfigCore.getConfig().clearProperty(ParameterCore.TASK_MANAGER_AUTORUN_LIMIT.getName());
+        ConfigCore.getConfig().clearProperty(ParameterCore.TASK_MANAGER_AUTORUN_LIMIT_MIGRATION.getName());
+        ConfigCore.getConfig().clearProperty(ParameterCore.TASK_MANAGER_POOL_PRIORITY.getName());
+        TaskSitter.setAutoRunningThreads(true);
+    }
+
+    @AfterEach
+    public void stopTasks() {
+        release.countDown();
+        TaskManager.stopAndDeleteAllTasks();
+    }
+
+    @Test
+    public void shouldReadPoolConfiguration() {
+        assertEquals(Arrays.asList(TaskPool.EXPORT, TaskPool.SCRIPT, TaskPool.MIGRATION, TaskPool.IMAGE_GENERATION,
+            TaskPool.OTHER), TaskPool.getByPriority(), "Pools are not in configured order");
+        assertEquals(1, TaskPool.MIGRATION.getAutoRunLimit(), "Limit of migration pool is wrong");
+        assertEquals(Integer.MAX_VALUE, TaskPool.EXPORT.getAutoRunLimit(), "Export pool should not be limited");
+    }
+
+    @Test
+    public void shouldStartTasksWithinPoolLimits() throws Exception {
+        BlockingTask other = new BlockingTask(TaskPool.OTHER);
+        BlockingTask firstMigration = new BlockingTask(TaskPool.MIGRATION);
+        BlockingTask secondMigration = new BlockingTask(TaskPool.MIGRATION);
+        addTasksAndRunSitter(other, firstMigration, secondMigration);
+
+        assertEquals(TaskState.WORKING, firstMigration.getTaskState(), "Task of pool with priority was not started");
+        assertEquals(TaskState.NEW, secondMigration.getTaskState(), "Limit of migration pool was exceeded");
+        assertEquals(TaskState.WORKING, other.getTaskState(), "Task of other pool was not started");
+
+        release.countDown();
+        firstMigration.join();
+        new TaskSitter().run();
+        assertNotEquals(TaskState.NEW, secondMigration.getTaskState(), "Waiting migration was not started");
+    }
+
+    @Test
+    public void shouldStartTasksInOrderOfPoolPriority() {
+        BlockingTask other = new BlockingTask(TaskPool.OTHER);
+        BlockingTask imageGeneration = new BlockingTask(TaskPool.IMAGE_GENERATION);
+        BlockingTask script = new BlockingTask(TaskPool.SCRIPT);
+        BlockingTask export = new BlockingTask(TaskPool.EXPORT);
+        addTasksAndRunSitter(other, imageGeneration, script, export);
+
+        assertEquals(TaskState.WORKING, export.getTaskState(), "Task of pool with highest priority was not started");
+        assertEquals(TaskState.WORKING, script.getTaskState(), "Task of pool with second priority was not started");
+        assertEquals(TaskState.NEW, imageGeneration.getTaskState(), "Task of pool with lower priority was started");
+        assertEquals(TaskState.NEW, other.getTaskState(), "Task of pool with lower priority was started");
+    }
+
+    /**
+     * Adds the tasks and inspects them, while holding the lock of the task
+     * list, so that the scheduled task sitter cannot start some of them
+     * before all of them are added.
+     */
+    private static void addTasksAndRunSitter(EmptyTask... tasks) {
+        LinkedList<EmptyTask> taskList = TaskManager.singleton().taskList;
+        synchronized (taskList) {
+            for (EmptyTask task : tasks) {
+                TaskManager.addTask(task);
+            }
+            new TaskSitter().run();
+        }
+    }
+
+    private class BlockingTask extends EmptyTask {
+        private final TaskPool pool;
+
+        BlockingTask(TaskPool pool) {
+            super(pool.getKey());
+            this.pool = pool;
+        }
+
+        @Override
+        public TaskPool getPool() {
+            return pool;
+        }
+
+        @Override
+        public void run() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.time.MonthDay;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -158,6 +159,40 @@ public class NewspaperProcessesGeneratorIT {
         assertEquals("NewspaperOverallProcess_17050127", readProcessTitleFromMetadata(maxId, true), "Process title missing in issue's meta.xml");
     }
 
+    /**
+     * Tests whether the issue processes, which are saved together, are linked from their year processes, have metadata files and are
+     * indexed.
+     */
+    @Test
+    public void shouldSaveIssueProcessesLinkedFromTheirYear() throws Exception {
+        Process completeEdition = ServiceManager.getProcessService().getById(newspaperTestProcessId);
+        Course course = NewspaperCourse.getCourse();
+        course.splitInto(Granularity.DAYS);
+        NewspaperProcessesGenerator underTest = new NewspaperProcessesGenerator(completeEdition, course);
+        while (underTest.getProgress() < underTest.getNumberOfSteps()) {
+            underTest.nextStep();
+        }
+
+        long numberOfIssues = 0;
+        for (Process yearProcess : completeEdition.getChildren()) {
+            Workpiece yearWorkpiece = metsService.loadWorkpiece(processService.getMetadataFileUri(yearProcess));
+            Set<Integer> linkedProcessIds = yearWorkpiece.getAllLogicalDivisions().stream()
+                    .filter(logicalDivision -> Objects.nonNull(logicalDivision.getLink()))
+                    .map(logicalDivision -> processService.processIdFromUri(logicalDivision.getLink().getUri()))
+                    .collect(Collectors.toSet());
+            Set<Integer> issueProcessIds = yearProcess.getChildren().stream().map(Process::getId)
+                    .collect(Collectors.toSet());
+            assertEquals(issueProcessIds, linkedProcessIds, "Issues are not linked from " + yearProcess.getTitle());
+            for (Process issueProcess : yearProcess.getChildren()) {
+                assertTrue(ServiceManager.getFileService().fileExist(processService.getMetadataFileUri(issueProcess)),
+                    "Metadata file of " + issueProcess.getTitle() + " is missing");
+            }
+            numberOfIssues += issueProcessIds.size();
+        }
+        assertEquals(course.countIndividualIssues(), numberOfIssues, "Not all issue processes were generated");
+        assertEquals(processService.countDatabaseRows(), processService.count(), "Not all processes are indexed");
+    }
+
     private int getChildProcessWithLargestId(Process process, int maxId) {
         maxId = Math.max(maxId, process.getId());
         for (Process childProcess : process.getChildren()) {
@@ -228,6 +228,27 @@ public class KitodoScriptServiceIT {
         TaskManager.stopAndDeleteAllTasks();
     }
 
+    @Test
+    public void shouldQueueScriptForAtLeastMinimumProcesses() throws Exception {
+        ConfigCore.getConfig().setProperty(ParameterCore.KITODO_SCRIPT_BACKGROUND_MINIMUM_PROCESSES.getName(), 2);
+        try {
+            String script = "action:deleteData key:NotExistingKey";
+            List<Process> processes = new ArrayList<>();
+            processes.add(ServiceManager.getProcessService().getById(kitodoScriptTestProcessId));
+            long jobs = ServiceManager.getBackgroundJobService().countDatabaseRows();
+            ServiceManager.getKitodoScriptService().execute(processes, script);
+            assertEquals(jobs, (long) ServiceManager.getBackgroundJobService().countDatabaseRows(),
+                "Script for less than the minimum number of processes was queued");
+
+            processes.add(ServiceManager.getProcessService().getById(1));
+            ServiceManager.getKitodoScriptService().execute(processes, script);
+            assertEquals(jobs + 1, (long) ServiceManager.getBackgroundJobService().countDatabaseRows(),
+                "Script for the minimum number of processes was not queued");
+        } finally {
+            ConfigCore.getConfig().clearProperty(ParameterCore.KITODO_SCRIPT_BACKGROUND_MINIMUM_PROCESSES.getName());
+        }
+    }
+
     @Test
     public void shouldAddDataWithValue() throws Exception {
         Process process = ServiceManager.getProcessService().getById(kitodoScriptTestProcessId);
@@ -27,6 +27,7 @@ import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.index.BulkIndexRequest;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.services.ServiceManager;
 import org.opensearch.index.query.Operator;
@@ -116,6 +117,30 @@ public class BatchServiceIT {
         assertThrows(DAOException.class, () -> batchService.getById(6));
     }
 
+    @Test
+    public void shouldIndexAndRemoveInOneBulkRequest() throws Exception {
+        Batch batch = batchService.getById(1);
+        Batch removedBatch = batchService.getById(4);
+        BulkIndexRequest bulkIndexRequest = new BulkIndexRequest();
+        String title = batch.getTitle();
+        batch.setTitle("Bulk indexed batch");
+        batchService.addToBulkRequest(bulkIndexRequest, batch);
+        batch.setTitle(title);
+        batchService.addRemovalToBulkRequest(bulkIndexRequest, removedBatch.getId());
+        ServiceManager.getProjectService().addToBulkRequest(bulkIndexRequest,
+            ServiceManager.getProjectService().getById(1));
+        try {
+            batchService.performBulkRequest(bulkIndexRequest, true);
+            assertEquals("Bulk indexed batch", batchService.findById(1).getTitle(), "Batch was not updated in index!");
+            assertEquals(Long.valueOf(3), batchService.count(), "Batch was not removed from index!");
+            assertEquals("First project", ServiceManager.getProjectService().findById(1).getTitle(),
+                "Project was not indexed together with the batches!");
+        } finally {
+            batchService.saveToIndex(batch, true);
+            batchService.saveToIndex(removedBatch, true);
+        }
+    }
+
     @Test
     public void shouldFindById() throws DataException {
         String expected = "First batch";
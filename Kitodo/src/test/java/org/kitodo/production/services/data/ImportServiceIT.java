@@ -16,8 +16,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.kitodo.constants.StringConstants.COLLECTION;
 import static org.kitodo.constants.StringConstants.FILE;
 
@@ -32,15 +34,20 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -114,6 +121,8 @@ public class ImportServiceIT {
     private static final String TEST_METADATA_WITH_AUTHOR_FILE_PATH = "src/test/resources/metadata/metadataFiles/"
             + TEST_METADATA_WITH_AUTHOR_FILE;
     private static final String RECORD_ID = "11111";
+    private static final int CHUNK_RECORD_ID = 20000;
+    private static final int IMPORT_CHUNK_SIZE = 100;
     private static final String PARENT_RECORD_CATALOG_ID = "123123";
     private static final List<String> CHILD_RECORD_IDS = Arrays.asList("9991", "9992", "9993");
     private static final String KALLIOPE_RECORD_ID = "999";
@@ -184,6 +193,159 @@ public class ImportServiceIT {
         }
     }
 
+    /**
+     * Tests whether the processes of several records are imported and saved together.
+     *
+     * @throws Exception when importing metadata or removing the test process fails
+     */
+    @Test
+    public void shouldImportProcesses() throws Exception {
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setExecutePermission(script);
+        }
+        Map<String, String> importResults = new HashMap<>();
+        importService.importProcesses(Collections.singletonMap(RECORD_ID, new HashMap<>()), 1, 1,
+                MockDatabase.getK10PlusImportConfiguration(), importResults, () -> {
+                });
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setNoExecutePermission(script);
+        }
+        List<Process> importedProcesses = processService.getByQuery("FROM Process WHERE title = :title",
+                Collections.singletonMap("title", "Kitodo_" + RECORD_ID));
+        try {
+            assertEquals(Collections.singletonMap(RECORD_ID, null), importResults, "Record was not imported");
+            assertEquals(1, importedProcesses.size(), "Not the correct amount of processes imported");
+            Process importedProcess = importedProcesses.get(0);
+            assertFalse(importedProcess.getTasks().isEmpty(), "Tasks of template were not copied");
+            assertTrue(ServiceManager.getFileService().fileExist(processService.getMetadataFileUri(importedProcess)),
+                "Metadata file was not written");
+            assertEquals(1, processService.findByTitle("Kitodo_" + RECORD_ID).size(), "Process was not indexed");
+        } finally {
+            for (Process importedProcess : importedProcesses) {
+                ProcessTestUtils.removeTestProcess(importedProcess.getId());
+            }
+        }
+    }
+
+    /**
+     * Tests whether the processes of more records than fit into one chunk are imported, and whether the progress
+     * is reported after each chunk.
+     *
+     * @throws Exception when importing metadata or removing the test processes fails
+     */
+    @Test
+    public void shouldImportProcessesInChunks() throws Exception {
+        Map<String, Map<String, List<String>>> processMetadata = new LinkedHashMap<>();
+        for (int i = 0; i <= IMPORT_CHUNK_SIZE; i++) {
+            String recordId = String.valueOf(CHUNK_RECORD_ID + i);
+            addRecordEndPoint(recordId, recordId);
+            processMetadata.put(recordId, new HashMap<>());
+        }
+        Map<String, String> importResults = new HashMap<>();
+        List<Integer> progress = new ArrayList<>();
+        importProcesses(processMetadata, importResults, () -> progress.add(importResults.size()));
+        List<Integer> importedProcessIds = getProcessIds("FROM Process WHERE title LIKE :title",
+                Collections.singletonMap("title", "Kitodo_" + CHUNK_RECORD_ID / 1000 + "%"));
+        try {
+            assertTrue(importResults.values().stream().allMatch(Objects::isNull), "Not all records were imported");
+            assertEquals(IMPORT_CHUNK_SIZE + 1, importResults.size(), "Not all records were reported");
+            assertEquals(IMPORT_CHUNK_SIZE + 1, importedProcessIds.size(),
+                "Not the correct amount of processes imported");
+            assertEquals(Arrays.asList(IMPORT_CHUNK_SIZE, IMPORT_CHUNK_SIZE + 1), progress,
+                "Progress was not reported after each chunk");
+        } finally {
+            processService.deleteProcesses(importedProcessIds);
+        }
+    }
+
+    /**
+     * Tests whether a record whose process would get the title of a process imported before in the same import run
+     * is rejected.
+     *
+     * @throws Exception when importing metadata or removing the test process fails
+     */
+    @Test
+    public void shouldRejectDuplicateTitleInOneImport() throws Exception {
+        String duplicateRecordId = "11112";
+        addRecordEndPoint(duplicateRecordId, RECORD_ID);
+        Map<String, Map<String, List<String>>> processMetadata = new LinkedHashMap<>();
+        processMetadata.put(RECORD_ID, new HashMap<>());
+        processMetadata.put(duplicateRecordId, new HashMap<>());
+        Map<String, String> importResults = new HashMap<>();
+        importProcesses(processMetadata, importResults, () -> {
+        });
+        List<Integer> importedProcessIds = getProcessIds("FROM Process WHERE title = :title",
+                Collections.singletonMap("title", "Kitodo_" + RECORD_ID));
+        try {
+            assertNull(importResults.get(RECORD_ID), "First record was not imported");
+            assertNotNull(importResults.get(duplicateRecordId), "Record with duplicate title was imported");
+            assertEquals(1, importedProcessIds.size(), "Not the correct amount of processes imported");
+        } finally {
+            processService.deleteProcesses(importedProcessIds);
+        }
+    }
+
+    /**
+     * Tests whether the processes of a chunk whose metadata files cannot be written are removed again, so that the
+     * records can be imported again afterwards.
+     *
+     * @throws Exception when importing metadata or removing the test process fails
+     */
+    @Test
+    public void shouldRemoveProcessesOfFailedChunk() throws Exception {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS, "Script cannot be made non-executable");
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        ExecutionPermission.setNoExecutePermission(script);
+        Map<String, String> importResults = new HashMap<>();
+        importService.importProcesses(Collections.singletonMap(RECORD_ID, new HashMap<>()), 1, 1,
+                MockDatabase.getK10PlusImportConfiguration(), importResults, () -> {
+                });
+        Map<String, Object> title = Collections.singletonMap("title", "Kitodo_" + RECORD_ID);
+        assertNotNull(importResults.get(RECORD_ID), "Failed import was not reported");
+        assertTrue(getProcessIds("FROM Process WHERE title = :title", title).isEmpty(),
+            "Process of failed chunk was not removed");
+
+        importResults.clear();
+        importProcesses(Collections.singletonMap(RECORD_ID, new HashMap<>()), importResults, () -> {
+        });
+        List<Integer> importedProcessIds = getProcessIds("FROM Process WHERE title = :title",
+                title);
+        try {
+            assertEquals(Collections.singletonMap(RECORD_ID, null), importResults, "Record was not imported again");
+            assertEquals(1, importedProcessIds.size(), "Not the correct amount of processes imported");
+        } finally {
+            processService.deleteProcesses(importedProcessIds);
+        }
+    }
+
+    /**
+     * Tests whether records retrieved in advance are only used by the import run that retrieved them.
+     *
+     * @throws Exception when retrieving the records fails
+     */
+    @Test
+    public void shouldUsePrefetchedRecordsOnlyInTheirImportRun() throws Exception {
+        ImportConfiguration importConfiguration = MockDatabase.getK10PlusImportConfiguration();
+        int calls = server.getCalls().size();
+        try (ImportService.PrefetchedRecords prefetchedRecords = importService.prefetchRecords(importConfiguration,
+            Collections.singletonList(RECORD_ID))) {
+            assertEquals(calls + 1, server.getCalls().size(), "Record should have been retrieved in advance");
+            ExecutorService otherImportRun = Executors.newSingleThreadExecutor();
+            try {
+                otherImportRun.submit(() -> importService.importExternalDataRecord(importConfiguration, RECORD_ID,
+                    false)).get();
+            } finally {
+                otherImportRun.shutdown();
+            }
+            assertEquals(calls + 2, server.getCalls().size(), "Other import run should retrieve the record itself");
+            importService.importExternalDataRecord(importConfiguration, RECORD_ID, false);
+            assertEquals(calls + 2, server.getCalls().size(), "Record retrieved in advance should be used");
+        }
+        importService.importExternalDataRecord(importConfiguration, RECORD_ID, false);
+        assertEquals(calls + 3, server.getCalls().size(), "Record should be retrieved again after the import run");
+    }
+
     /**
      * Tests whether basic catalog metadata import with additional preset metadata to a single process succeeds or not.
      *
@@ -653,6 +815,35 @@ public class ImportServiceIT {
                 "wrongValue");
     }
 
+    private static List<Integer> getProcessIds(String query, Map<String, Object> parameters) {
+        return processService.getByQuery(query, parameters).stream().map(Process::getId).collect(Collectors.toList());
+    }
+
+    private static void addRecordEndPoint(String recordId, String responseRecordId) throws IOException {
+        File response = File.createTempFile("sruTestRecord", ".xml");
+        try {
+            Files.write(response.toPath(), new String(Files.readAllBytes(Paths.get(TEST_FILE_PATH)),
+                StandardCharsets.UTF_8).replace(RECORD_ID, responseRecordId).getBytes(StandardCharsets.UTF_8));
+            MockDatabase.addRestEndPointForSru(server, PICA_PPN + "=" + recordId, response.getPath(), PICA_XML, 1);
+        } finally {
+            Files.delete(response.toPath());
+        }
+    }
+
+    private void importProcesses(Map<String, Map<String, List<String>>> processMetadata,
+                                 Map<String, String> importResults, Runnable progressListener)
+            throws DAOException, IOException {
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setExecutePermission(script);
+        }
+        importService.importProcesses(processMetadata, PROJECT_ID, TEMPLATE_ID,
+                MockDatabase.getK10PlusImportConfiguration(), importResults, progressListener);
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setNoExecutePermission(script);
+        }
+    }
+
     private Process importProcess(String recordId, ImportConfiguration importConfiguration)
             throws IOException, ImportException {
         File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
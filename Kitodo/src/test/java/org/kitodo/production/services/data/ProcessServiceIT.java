@@ -22,6 +22,7 @@ import static org.opensearch.index.query.QueryBuilders.matchQuery;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -30,9 +31,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.OptionalInt;
 
 import org.apache.commons.lang3.SystemUtils;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -46,13 +49,18 @@ import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Comment;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Property;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.CommentType;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.index.converter.ProcessConverter;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ProcessState;
@@ -65,6 +73,7 @@ import org.kitodo.production.services.file.FileService;
 import org.kitodo.test.utils.ProcessTestUtils;
 import org.opensearch.index.query.Operator;
 import org.opensearch.index.query.QueryBuilder;
+import org.primefaces.model.SortOrder;
 
 /**
  * Tests for ProcessService class.
@@ -127,6 +136,66 @@ public class ProcessServiceIT {
         assertEquals(Long.valueOf(7), amount, "Processes were not counted correctly!");
     }
 
+    @Test
+    public void shouldLoadRelationsForIndexing() throws Exception {
+        List<Process> processes = processService.getAllInIdRange(1, null, false);
+        assertEquals(7, processes.size(), "Processes were not loaded correctly!");
+        for (String collection : Arrays.asList("tasks", "properties", "templates", "workpieces")) {
+            Field field = Process.class.getDeclaredField(collection);
+            field.setAccessible(true);
+            for (Process process : processes) {
+                assertTrue(Hibernate.isInitialized(field.get(process)),
+                    collection + " were not loaded with the process!");
+            }
+        }
+        for (Process process : processes) {
+            if (Objects.nonNull(process.getProject())) {
+                assertTrue(Hibernate.isInitialized(process.getProject()), "Project was not loaded with the process!");
+                assertTrue(Hibernate.isInitialized(process.getProject().getClient()),
+                    "Client was not loaded with the process!");
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadOnlyFieldsOfShownListColumns() throws Exception {
+        List<ListColumn> columns = Collections.singletonList(new ListColumn("process.title"));
+        List<ProcessDTO> processes = processService.loadPage(0, 10, "id", SortOrder.ASCENDING, Collections.emptyMap(),
+            true, true, columns, null).getResults();
+        ProcessDTO firstProcess = processes.stream().filter(process -> process.getId() == 1).findFirst()
+                .orElseThrow();
+        assertEquals("First process", firstProcess.getTitle(), "Title of process was not loaded!");
+        assertTrue(firstProcess.getProperties().isEmpty(), "Properties were loaded without property column!");
+
+        columns = Arrays.asList(new ListColumn("process.title"), new ListColumn("process.Process Property", true));
+        processes = processService.loadPage(0, 10, "id", SortOrder.ASCENDING, Collections.emptyMap(), true, true,
+            columns, null).getResults();
+        firstProcess = processes.stream().filter(process -> process.getId() == 1).findFirst().orElseThrow();
+        assertFalse(firstProcess.getProperties().isEmpty(), "Properties were not loaded with property column!");
+    }
+
+    @Test
+    public void shouldLoadPageWithTotalNumberOfProcesses() throws Exception {
+        SearchResultPage<ProcessDTO> firstPage = processService.loadPage(0, 2, "id", SortOrder.ASCENDING,
+            Collections.emptyMap(), true, true, null, null);
+        long total = processService.findIdsByQuery(processService.getQueryForFilter(true, true, "")).size();
+        assertEquals(total, firstPage.getTotalHits(), "Total number of processes was not returned with the page!");
+        assertEquals(2, firstPage.getResults().size(), "Page has wrong size!");
+
+        SearchResultPage<ProcessDTO> secondPage = processService.loadPage(2, 2, "id", SortOrder.ASCENDING,
+            Collections.emptyMap(), true, true, null, firstPage.getSearchAfter());
+        assertTrue(secondPage.getResults().get(0).getId() > firstPage.getResults().get(1).getId(),
+            "Second page does not follow first page!");
+    }
+
+    @Test
+    public void shouldLoadProcessesByIds() {
+        List<Process> processes = processService.getByIds(Arrays.asList(2, 1));
+        assertEquals(2, processes.size(), "Processes were not loaded!");
+        assertEquals(Integer.valueOf(1), processes.get(0).getId(), "Processes were not ordered by their ID!");
+        assertEquals(Integer.valueOf(2), processes.get(1).getId(), "Processes were not ordered by their ID!");
+    }
+
     @Test
     public void shouldFindByInChoiceListShown() throws DataException, DAOException {
         List<Process> byInChoiceListShown = ServiceManager.getProcessService().getTemplateProcesses();
@@ -201,6 +270,57 @@ public class ProcessServiceIT {
         assertThrows(DAOException.class, () -> processService.getById(processId));
     }
 
+    @Test
+    public void shouldDeleteProcesses() throws Exception {
+        Process firstProcess = new Process();
+        firstProcess.setTitle("First to delete");
+        firstProcess.setProject(ServiceManager.getProjectService().getById(1));
+        processService.save(firstProcess);
+        Task task = new Task();
+        task.setTitle("Task to delete");
+        task.setProcess(firstProcess);
+        task.getRoles().add(ServiceManager.getRoleService().getById(1));
+        ServiceManager.getTaskService().save(task, true);
+        Property property = new Property();
+        property.setTitle("Property to delete");
+        property.getProcesses().add(firstProcess);
+        ServiceManager.getPropertyService().saveToDatabase(property);
+        firstProcess.getProperties().add(property);
+        processService.save(firstProcess);
+        Comment comment = new Comment();
+        comment.setMessage("Comment to delete");
+        comment.setType(CommentType.INFO);
+        comment.setProcess(firstProcess);
+        comment.setCurrentTask(task);
+        ServiceManager.getCommentService().saveToDatabase(comment);
+
+        Process secondProcess = new Process();
+        secondProcess.setTitle("Second to delete");
+        processService.save(secondProcess);
+        Process child = new Process();
+        child.setTitle("Child to keep");
+        child.setParent(secondProcess);
+        processService.save(child);
+
+        int firstProcessId = firstProcess.getId();
+        int secondProcessId = secondProcess.getId();
+        int taskId = task.getId();
+        processService.deleteProcesses(Arrays.asList(firstProcessId, secondProcessId));
+
+        assertThrows(DAOException.class, () -> processService.getById(firstProcessId));
+        assertThrows(DAOException.class, () -> processService.getById(secondProcessId));
+        assertThrows(DAOException.class, () -> ServiceManager.getTaskService().getById(taskId));
+        assertTrue(ServiceManager.getPropertyService().getByQuery("FROM Property WHERE title = 'Property to delete'")
+                .isEmpty(), "Property was not deleted");
+        assertTrue(ServiceManager.getCommentService().getByQuery("FROM Comment WHERE message = 'Comment to delete'")
+                .isEmpty(), "Comment was not deleted");
+        assertNull(processService.getById(child.getId()).getParent(), "Child process was not detached");
+        assertFalse(processService.findAllIDs().contains(firstProcessId), "Process was not removed from index");
+        assertFalse(ServiceManager.getTaskService().findAllIDs().contains(taskId), "Task was not removed from index");
+
+        processService.remove(child.getId());
+    }
+
     @Test
     public void shouldFindById() throws DataException {
         Integer expected = 1;
@@ -0,0 +1,67 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.production.services.ServiceManager;
+
+public class RulesetCacheTest {
+
+    @TempDir
+    Path rulesetDirectory;
+
+    @Test
+    public void shouldReuseRulesetUntilModified() throws Exception {
+        File rulesetFile = Files.copy(Paths.get("src/test/resources/rulesets/ruleset_test.xml"),
+            rulesetDirectory.resolve("ruleset_test.xml")).toFile();
+        RulesetCache rulesetCache = new RulesetCache();
+
+        RulesetManagementInterface first = rulesetCache.get(rulesetFile,
+            ServiceManager.getRulesetManagementService()::getRulesetManagement);
+        assertTrue(first.getSourceFiles().contains(rulesetFile.getAbsoluteFile()),
+            "Ruleset file should be a source file");
+        RulesetManagementInterface second = rulesetCache.get(rulesetFile,
+            ServiceManager.getRulesetManagementService()::getRulesetManagement);
+        assertSame(first, second, "Unchanged ruleset should be taken from the cache");
+
+        assertTrue(rulesetFile.setLastModified(rulesetFile.lastModified() - 60_000));
+        RulesetManagementInterface third = rulesetCache.get(rulesetFile,
+            ServiceManager.getRulesetManagementService()::getRulesetManagement);
+        assertNotSame(first, third, "Modified ruleset should be loaded again");
+    }
+
+    @Test
+    public void shouldHandOutReadOnlyRuleset() throws Exception {
+        File rulesetFile = Files.copy(Paths.get("src/test/resources/rulesets/ruleset_test.xml"),
+            rulesetDirectory.resolve("ruleset_test.xml")).toFile();
+        RulesetCache rulesetCache = new RulesetCache();
+
+        RulesetManagementInterface ruleset = rulesetCache.get(rulesetFile,
+            ServiceManager.getRulesetManagementService()::getRulesetManagement);
+        assertThrows(UnsupportedOperationException.class, () -> ruleset.load(rulesetFile),
+            "Cached ruleset should not be loaded again");
+        assertThrows(UnsupportedOperationException.class, () -> ruleset.getSourceFiles().clear(),
+            "Source files of cached ruleset should not be modifiable");
+    }
+}
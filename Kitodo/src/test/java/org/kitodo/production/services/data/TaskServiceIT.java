@@ -16,17 +16,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.search.SearchResultPage;
+import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
+import org.primefaces.model.SortOrder;
 
 /**
  * Tests for TaskService class.
@@ -41,10 +49,12 @@ public class TaskServiceIT {
         MockDatabase.startNode();
         MockDatabase.insertProcessesFull();
         MockDatabase.setUpAwaitility();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
     }
 
     @AfterAll
     public static void cleanDatabase() throws Exception {
+        SecurityTestUtils.cleanSecurityContext();
         MockDatabase.stopNode();
         MockDatabase.cleanDatabase();
     }
@@ -72,6 +82,21 @@ public class TaskServiceIT {
             () -> assertEquals(AMOUNT_TASKS, taskService.findAll().size(), "Not all tasks were found in index!"));
     }
 
+    @Test
+    public void shouldFindTasksWithTheirProcesses() {
+        await().untilAsserted(() -> {
+            for (TaskDTO taskDTO : taskService.findAll()) {
+                Process process = taskService.getById(taskDTO.getId()).getProcess();
+                if (Objects.nonNull(process)) {
+                    assertEquals(process.getId(), taskDTO.getProcess().getId(),
+                        "Task was found with wrong process!");
+                    assertEquals(process.getTitle(), taskDTO.getProcess().getTitle(),
+                        "Task was found with wrong process!");
+                }
+            }
+        });
+    }
+
     @Test
     public void shouldGetTask() throws Exception {
         Task task = taskService.getById(1);
@@ -249,6 +274,22 @@ public class TaskServiceIT {
         assertEquals(1, task.getOrdering().intValue(), "");
     }
 
+    @Test
+    public void shouldLoadPagesOfTasks() throws Exception {
+        List<TaskStatus> taskStatus = Arrays.asList(TaskStatus.values());
+        List<TaskDTO> allTasks = taskService.loadPage(0, AMOUNT_TASKS, "processingStatus", SortOrder.ASCENDING,
+            Collections.emptyMap(), false, false, true, taskStatus, null).getResults();
+        assertTrue(allTasks.size() > 1, "Not enough tasks were found to load several pages!");
+
+        SearchResultPage<TaskDTO> firstPage = taskService.loadPage(0, 1, "processingStatus", SortOrder.ASCENDING,
+            Collections.emptyMap(), false, false, true, taskStatus, null);
+        assertEquals(allTasks.size(), firstPage.getTotalHits(), "Total number of tasks was not returned with the page!");
+        SearchResultPage<TaskDTO> secondPage = taskService.loadPage(1, 1, "processingStatus", SortOrder.ASCENDING,
+            Collections.emptyMap(), false, false, true, taskStatus, firstPage.getSearchAfter());
+        assertEquals(allTasks.get(0).getId(), firstPage.getResults().get(0).getId(), "First page has wrong task!");
+        assertEquals(allTasks.get(1).getId(), secondPage.getResults().get(0).getId(), "Second page has wrong task!");
+    }
+
     /**
      * Tests what task titles can be found in the elastic search index.
      * 
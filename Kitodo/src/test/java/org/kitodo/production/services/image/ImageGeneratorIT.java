@@ -13,10 +13,13 @@ package org.kitodo.production.services.image;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,15 +30,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.production.enums.GenerationMode;
+import org.kitodo.production.enums.ImageGeneratorStep;
 import org.kitodo.production.helper.VariableReplacer;
 import org.kitodo.production.model.Subfolder;
 
@@ -424,4 +433,123 @@ public class ImageGeneratorIT {
         assertNotEquals(resultFileTwoBefore, lastModifiedTime(mixedResultTwo), mixedResultTwo + MESSAGE_NOT_CHANGED);
         assertNotEquals(resultFileThreeBefore, lastModifiedTime(mixedResultThree), mixedResultThree + MESSAGE_NOT_CHANGED);
     }
+
+    /**
+     * This test checks that the images are generated by several threads if
+     * configured, and that all of them are generated.
+     *
+     * @throws Exception
+     *             if it does not work
+     */
+    @Test
+    public void shouldGenerateImagesInParallel() throws Exception {
+        Subfolder outputFolder = createJpgsMaxFolder();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        ImageGenerator imageGenerator = new ImageGenerator(null, GenerationMode.ALL,
+                Collections.singletonList(outputFolder)) {
+            @Override
+            public void createDerivatives(ContentToBeGenerated instruction) {
+                threadNames.add(Thread.currentThread().getName());
+                writeDerivative(instruction);
+                justSleep(100, TimeUnit.MILLISECONDS);
+            }
+        };
+        for (int i = 1; i <= 6; i++) {
+            imageGenerator.addToContentToBeGenerated(String.format("%08d", i), inputFileOne.toUri(),
+                Collections.singletonList(outputFolder));
+        }
+        imageGenerator.setState(ImageGeneratorStep.GENERATE_IMAGES);
+
+        ConfigCore.getConfig().setProperty(ParameterCore.IMAGE_GENERATION_THREADS.getName(), 3);
+        try {
+            imageGenerator.run();
+        } finally {
+            ConfigCore.getConfig().clearProperty(ParameterCore.IMAGE_GENERATION_THREADS.getName());
+        }
+
+        assertEquals(6, imageGenerator.getPosition(), "All images should have been generated");
+        for (int i = 1; i <= 6; i++) {
+            Path image = Paths.get(outputFolder.getUri(String.format("%08d", i)));
+            assertTrue(Files.exists(image), image + " should have been generated");
+        }
+        assertTrue(threadNames.size() > 1, "Images should have been generated by several threads");
+    }
+
+    /**
+     * This test checks that, when image generation is interrupted, images not
+     * yet started are not generated, and that the partially written output of
+     * the interrupted conversions is deleted.
+     *
+     * @throws Exception
+     *             if it does not work
+     */
+    @Test
+    public void shouldDeletePartialOutputWhenInterrupted() throws Exception {
+        Subfolder outputFolder = createJpgsMaxFolder();
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger conversions = new AtomicInteger();
+        ImageGenerator imageGenerator = new ImageGenerator(null, GenerationMode.ALL,
+                Collections.singletonList(outputFolder)) {
+            @Override
+            public void createDerivatives(ContentToBeGenerated instruction) {
+                conversions.incrementAndGet();
+                writeDerivative(instruction);
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException("Conversion interrupted", e);
+                }
+            }
+        };
+        for (int i = 1; i <= 6; i++) {
+            imageGenerator.addToContentToBeGenerated(String.format("%08d", i), inputFileOne.toUri(),
+                Collections.singletonList(outputFolder));
+        }
+        imageGenerator.setState(ImageGeneratorStep.GENERATE_IMAGES);
+
+        ConfigCore.getConfig().setProperty(ParameterCore.IMAGE_GENERATION_THREADS.getName(), 2);
+        try {
+            Thread generation = new Thread(imageGenerator);
+            generation.start();
+            assertTrue(started.await(10, TimeUnit.SECONDS), "Conversions should have started");
+            generation.interrupt();
+            generation.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(generation.isAlive(), "Image generation should have stopped");
+        } finally {
+            ConfigCore.getConfig().clearProperty(ParameterCore.IMAGE_GENERATION_THREADS.getName());
+        }
+
+        assertEquals(2, conversions.get(), "Images not yet started should not have been generated");
+        for (int i = 1; i <= 6; i++) {
+            Path image = Paths.get(outputFolder.getUri(String.format("%08d", i)));
+            assertFalse(Files.exists(image), image + " should have been deleted or not been generated");
+        }
+    }
+
+    private Subfolder createJpgsMaxFolder() throws Exception {
+        Process process = new Process();
+        process.setId(processId);
+        process.setTitle(processTitle);
+        Folder output = new Folder();
+        output.setPath(jpgsMaxFolder);
+        output.setMimeType(jpegType);
+        output.setDerivative(1.0);
+        Subfolder outputFolder = new Subfolder(process, output);
+        setField(outputFolder, "variableReplacer", new MockVariableReplacer(processTitle));
+        Files.deleteIfExists(resultFileOne);
+        Files.deleteIfExists(resultFileTwo);
+        return outputFolder;
+    }
+
+    private static void writeDerivative(ContentToBeGenerated instruction) {
+        for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
+            try {
+                Files.write(Paths.get(destinationFolder.getUri(instruction.getCanonical())),
+                    Collections.singletonList("Partially written image"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
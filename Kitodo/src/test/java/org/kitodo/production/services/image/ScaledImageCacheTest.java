@@ -0,0 +1,164 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScaledImageCacheTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    public void shouldScaleImageOnlyOnce() throws Exception {
+        URI source = createSourceImage("00000001.png");
+        AtomicInteger scaled = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        ScaledImageCache cache = new ScaledImageCache(tempDirectory.resolve("cache"), Long.MAX_VALUE, 4,
+            (uri, width) -> {
+                scaled.incrementAndGet();
+                started.countDown();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new BufferedImage(width, width, BufferedImage.TYPE_INT_ARGB);
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.getScaledImage(source, 100)));
+            }
+            Path first = results.get(0).get();
+            for (Future<Path> result : results) {
+                assertEquals(first, result.get(), "Concurrent requests should get the same file");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        cache.getScaledImage(source, 100);
+        assertEquals(1, scaled.get(), "Image should be scaled only once");
+
+        BufferedImage image = ImageIO.read(cache.getScaledImage(source, 100).toFile());
+        assertEquals(100, image.getWidth(), "Scaled image has wrong width");
+    }
+
+    @Test
+    public void shouldDeleteLeastRecentlyUsedImages() throws Exception {
+        URI first = createSourceImage("00000001.png");
+        URI second = createSourceImage("00000002.png");
+        URI third = createSourceImage("00000003.png");
+        ScaledImageCache unlimited = new ScaledImageCache(tempDirectory.resolve("probe"), Long.MAX_VALUE, 4,
+            (uri, width) -> new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB));
+        long imageSize = Files.size(unlimited.getScaledImage(first, 50));
+
+        ScaledImageCache cache = new ScaledImageCache(tempDirectory.resolve("cache"), 2 * imageSize, 4,
+            (uri, width) -> new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB));
+        Path firstScaled = cache.getScaledImage(first, 50);
+        Path secondScaled = cache.getScaledImage(second, 50);
+        cache.getScaledImage(first, 50);
+        Path thirdScaled = cache.getScaledImage(third, 50);
+
+        assertTrue(Files.exists(firstScaled), "Recently used image was deleted");
+        assertFalse(Files.exists(secondScaled), "Least recently used image was not deleted");
+        assertTrue(Files.exists(thirdScaled), "New image was deleted");
+        assertEquals(2 * imageSize, cache.getSize(), "Size of cache is wrong");
+
+        ScaledImageCache reloaded = new ScaledImageCache(tempDirectory.resolve("cache"), 2 * imageSize, 4,
+            (uri, width) -> {
+                throw new AssertionError("Cached image should not be scaled again");
+            });
+        assertEquals(firstScaled, reloaded.getScaledImage(first, 50), "Cached image was not found after restart");
+    }
+
+    @Test
+    public void shouldLimitNumberOfImagesScaledAtTheSameTime() throws Exception {
+        AtomicInteger scaling = new AtomicInteger();
+        AtomicInteger maximumScaling = new AtomicInteger();
+        ScaledImageCache cache = new ScaledImageCache(tempDirectory.resolve("cache"), Long.MAX_VALUE, 2,
+            (uri, width) -> {
+                maximumScaling.accumulateAndGet(scaling.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    scaling.decrementAndGet();
+                }
+                return new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB);
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                URI source = createSourceImage("0000000" + i + ".png");
+                results.add(executor.submit(() -> cache.getScaledImage(source, 50)));
+            }
+            for (Future<Path> result : results) {
+                assertTrue(Files.exists(result.get()), "Image was not scaled");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(maximumScaling.get() <= 2, "Too many images were scaled at the same time");
+    }
+
+    @Test
+    public void shouldNotDeletePinnedImages() throws Exception {
+        URI first = createSourceImage("00000001.png");
+        URI second = createSourceImage("00000002.png");
+        ScaledImageCache unlimited = new ScaledImageCache(tempDirectory.resolve("probe"), Long.MAX_VALUE, 1,
+            (uri, width) -> new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB));
+        long imageSize = Files.size(unlimited.getScaledImage(first, 50));
+
+        ScaledImageCache cache = new ScaledImageCache(tempDirectory.resolve("cache"), imageSize, 1,
+            (uri, width) -> new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB));
+        Path firstScaled = cache.pinScaledImage(first, 50);
+        Path secondScaled = cache.getScaledImage(second, 50);
+        assertTrue(Files.exists(firstScaled), "Pinned image was deleted");
+        assertTrue(Files.exists(secondScaled), "New image was deleted");
+
+        cache.release(firstScaled);
+        assertFalse(Files.exists(firstScaled), "Released image was not deleted");
+        assertEquals(imageSize, cache.getSize(), "Size of cache is wrong");
+    }
+
+    private URI createSourceImage(String fileName) throws Exception {
+        Path file = tempDirectory.resolve(fileName);
+        ImageIO.write(new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        return file.toUri();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.persistence.BatchDAO;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.BatchService;
+
+public class IndexOutboxIT {
+
+    private static final BatchService batchService = ServiceManager.getBatchService();
+
+    @BeforeAll
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+    }
+
+    @AfterAll
+    public static void cleanDatabase() throws Exception {
+        SecurityTestUtils.cleanSecurityContext();
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldIndexObjectAfterIndexBecameAvailableAgain() throws Exception {
+        Batch batch = batchService.getById(1);
+        batch.setTitle("Batch saved while the index was down");
+        new BatchDAO().save(batch);
+        AtomicLong clock = new AtomicLong();
+        IndexOutbox indexOutbox = new IndexOutbox(clock::get);
+        indexOutbox.add(batchService, 1, false);
+
+        MockDatabase.stopNode();
+        try {
+            indexOutbox.drain();
+            assertEquals(1, indexOutbox.getPendingCount(), "Object should wait for another attempt");
+        } finally {
+            MockDatabase.startNode();
+        }
+        indexOutbox.drain();
+        assertEquals(1, indexOutbox.getPendingCount(), "Object should not be tried again before its time");
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+        indexOutbox.drain();
+        assertEquals(0, indexOutbox.getPendingCount(), "Object should have been indexed");
+        assertEquals("Batch saved while the index was down", batchService.findById(1, false).getTitle(),
+            "Index should contain the changed title");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.production.services.data.base.SearchService;
+
+public class IndexOutboxTest {
+
+    @Test
+    public void shouldIndexEachObjectOnce() throws Exception {
+        SearchService<?, ?, ?> service = mock(SearchService.class);
+        IndexOutbox indexOutbox = new IndexOutbox();
+        indexOutbox.add(service, 1, false);
+        indexOutbox.add(service, 2, false);
+        indexOutbox.add(service, 1, true);
+        assertEquals(2, indexOutbox.getPendingCount(), "Objects saved twice should be pending once");
+
+        indexOutbox.drain();
+        verify(service, times(1)).saveToIndex(Arrays.asList(1, 2), Collections.singletonList(1));
+        assertEquals(0, indexOutbox.getPendingCount(), "No objects should be pending after draining");
+    }
+
+    @Test
+    public void shouldRetryFailedObjects() throws Exception {
+        SearchService<?, ?, ?> service = mock(SearchService.class);
+        doThrow(new CustomResponseException("unavailable")).when(service).saveToIndex(anyList(), anyList());
+        IndexOutbox indexOutbox = new IndexOutbox();
+        indexOutbox.add(service, 3, true);
+
+        indexOutbox.drain();
+        assertEquals(1, indexOutbox.getPendingCount(), "Failed object should be pending again");
+    }
+
+    @Test
+    public void shouldWaitLongerAfterEachFailure() throws Exception {
+        SearchService<?, ?, ?> service = mock(SearchService.class);
+        doThrow(new CustomResponseException("unavailable")).doThrow(new CustomResponseException("unavailable"))
+                .doNothing().when(service).saveToIndex(anyList(), anyList());
+        AtomicLong clock = new AtomicLong();
+        long interval = TimeUnit.MILLISECONDS.toNanos(
+            ConfigCore.getLongParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_INTERVAL_MILLIS));
+        IndexOutbox indexOutbox = new IndexOutbox(clock::get);
+        indexOutbox.add(service, 4, true);
+
+        indexOutbox.drain();
+        indexOutbox.drain();
+        verify(service, times(1)).saveToIndex(anyList(), anyList());
+
+        clock.addAndGet(interval);
+        indexOutbox.drain();
+        verify(service, times(2)).saveToIndex(anyList(), anyList());
+
+        clock.addAndGet(interval);
+        indexOutbox.drain();
+        verify(service, times(2)).saveToIndex(anyList(), anyList());
+        assertEquals(1, indexOutbox.getPendingCount(), "Object should still wait for its third attempt");
+
+        clock.addAndGet(interval);
+        indexOutbox.drain();
+        verify(service, times(3)).saveToIndex(Collections.singletonList(4), Collections.singletonList(4));
+        assertEquals(0, indexOutbox.getPendingCount(), "Object should be indexed with the third attempt");
+    }
+
+    @Test
+    public void shouldRetryAtOnceWhenSavedAgain() throws Exception {
+        SearchService<?, ?, ?> service = mock(SearchService.class);
+        doThrow(new CustomResponseException("unavailable")).doNothing().when(service).saveToIndex(anyList(),
+            anyList());
+        IndexOutbox indexOutbox = new IndexOutbox(() -> 0L);
+        indexOutbox.add(service, 5, false);
+        indexOutbox.drain();
+
+        indexOutbox.add(service, 5, true);
+        assertEquals(1, indexOutbox.getPendingCount(), "Object saved again should be pending once");
+        indexOutbox.drain();
+        verify(service, times(1)).saveToIndex(Collections.singletonList(5), Collections.singletonList(5));
+        assertEquals(0, indexOutbox.getPendingCount(), "No objects should be pending after indexing");
+    }
+
+    @Test
+    public void shouldGiveUpAfterLastAttempt() throws Exception {
+        SearchService<?, ?, ?> service = mock(SearchService.class);
+        doThrow(new CustomResponseException("unavailable")).when(service).saveToIndex(anyList(), anyList());
+        AtomicLong clock = new AtomicLong();
+        int attempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_OUTBOX_ATTEMPTS);
+        IndexOutbox indexOutbox = new IndexOutbox(clock::get);
+        indexOutbox.add(service, 6, false);
+
+        for (int attempt = 1; attempt <= attempts + 1; attempt++) {
+            indexOutbox.drain();
+            clock.addAndGet(TimeUnit.DAYS.toNanos(1));
+        }
+        verify(service, times(attempts)).saveToIndex(anyList(), anyList());
+        assertEquals(0, indexOutbox.getPendingCount(), "Object should be given up after the last attempt");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.dataformat.MetsService;
+
+public class MetsIndexDataTest {
+
+    private static final String METADATA_FILES = "src/test/resources/metadata/metadataFiles/";
+
+    @Test
+    public void shouldReadIndexData() throws IOException {
+        MetsIndexData metsIndexData = read(METADATA_FILES + "testmeta.xml");
+
+        assertEquals(2, metsIndexData.getNumberOfImages(), "Wrong number of images");
+        assertEquals(4, metsIndexData.getNumberOfStructures(), "Wrong number of structures");
+        assertEquals(6, metsIndexData.getNumberOfMetadata(), "Wrong number of metadata");
+        assertEquals("Manuscript", metsIndexData.getBaseType(), "Wrong base type");
+
+        List<Map<String, Object>> metadata = metsIndexData.getMetadata();
+        assertEquals(3, metadata.size(), "Wrong number of descriptive metadata sections");
+        assertEquals("DMDLOG_0000", metadata.get(0).get("ID"), "Wrong descriptive metadata section");
+    }
+
+    @Test
+    public void shouldCountLikeWorkpiece() throws IOException {
+        for (String fileName : Arrays.asList("testmeta.xml", "testmetaNewspaper.xml", "testMultiVolumeWorkMeta.xml",
+            "testMetaWithDuplicateMetadata.xml", "testMetadataWithLongNumbers.xml", "multivalued_metadata.xml")) {
+            assertCountsLikeWorkpiece(fileName);
+        }
+    }
+
+    private static void assertCountsLikeWorkpiece(String fileName) throws IOException {
+        URI uri = Paths.get(METADATA_FILES + fileName).toUri();
+        Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(uri);
+        MetsIndexData metsIndexData = read(METADATA_FILES + fileName);
+
+        assertEquals(Workpiece.treeStream(workpiece.getPhysicalStructure())
+                .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE))
+                .count(), metsIndexData.getNumberOfImages(), "Wrong number of images in " + fileName);
+        assertEquals(Workpiece.treeStream(workpiece.getLogicalStructure()).count(),
+            metsIndexData.getNumberOfStructures(), "Wrong number of structures in " + fileName);
+        assertEquals(MetsService.countLogicalMetadata(workpiece), metsIndexData.getNumberOfMetadata(),
+            "Wrong number of metadata in " + fileName);
+        assertEquals(ServiceManager.getMetsService().getBaseType(workpiece), metsIndexData.getBaseType(),
+            "Wrong base type in " + fileName);
+    }
+
+    @Test
+    public void shouldNotReadMalformedFile() {
+        InputStream inputStream = new ByteArrayInputStream("<mets:mets>".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> MetsIndexData.read(inputStream));
+    }
+
+    private static MetsIndexData read(String path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(path))) {
+            return MetsIndexData.read(inputStream);
+        }
+    }
+}
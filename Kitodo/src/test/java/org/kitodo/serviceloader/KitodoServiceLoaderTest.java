@@ -0,0 +1,35 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.serviceloader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+
+public class KitodoServiceLoaderTest {
+
+    @Test
+    public void shouldLoadNewModuleInstancesFromRegistry() {
+        KitodoServiceLoader<RulesetManagementInterface> loader = new KitodoServiceLoader<>(
+                RulesetManagementInterface.class);
+        RulesetManagementInterface first = loader.loadModule();
+        RulesetManagementInterface second = new KitodoServiceLoader<>(RulesetManagementInterface.class).loadModule();
+        assertNotSame(first, second, "Each call should create a new module instance");
+        assertEquals(first.getClass(), second.getClass(), "Module implementation should be the same");
+        assertEquals(1, loader.loadModules().size(), "Exactly one ruleset management module should be found");
+        assertTrue(KitodoServiceLoader.getLoadTimes().containsKey(RulesetManagementInterface.class.getName()),
+            "Load time should be recorded for the interface");
+    }
+}